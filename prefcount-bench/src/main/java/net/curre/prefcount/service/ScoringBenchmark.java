@@ -0,0 +1,181 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.util.concurrent.TimeUnit;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.bean.ScoreMatrix;
+import net.curre.prefcount.bean.ScoringKernel;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the scoring engine (throughput); run with
+ * <code>-prof gc</code> to report the allocation rate.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+  /** Sample pools (indexed by place index). */
+  private static final int[] POOLS = {76, 74, 32, 22};
+
+  /** Sample mountains (indexed by place index). */
+  private static final int[] MOUNTAINS = {74, 60, 34, 77};
+
+  /** Number of players in the game. */
+  @Param({"3", "4"})
+  public int players;
+
+  /** Type of the game. */
+  @Param({"LENINGRAD", "SOCHI"})
+  public PrefType prefType;
+
+  /** Indicates that the "divisible by N" option is on. */
+  @Param({"true", "false"})
+  public boolean divisibleByN;
+
+  /** Game to score. */
+  private GameResultBean bean;
+
+  /** Players of the game. */
+  private PlayerStatistics[] stats;
+
+  /** Whist value toggled by the incremental update benchmark. */
+  private int whistValue = 20;
+
+  /** Initializes the game data. */
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.bean = new GameResultBean(this.prefType, this.players);
+    this.bean.setMountDivisibleByN(this.divisibleByN ? Place.EAST : null);
+    Place[] places = Place.getPlaces(this.players);
+    this.stats = new PlayerStatistics[places.length];
+    for (int i = 0; i < places.length; i++) {
+      PlayerStatistics player = this.bean.getPlayerStats().get(places[i]);
+      player.setPool(POOLS[places[i].index]);
+      player.setMountain(MOUNTAINS[places[i].index]);
+      for (Place other : Place.getOtherPlayersWhistPlaces(places[i], this.players)) {
+        player.setWhistsAgainstPlayer(other, 20 + 12 * i + 7 * other.index);
+      }
+      this.stats[i] = player;
+    }
+    ResultService.generateFinalResults(this.bean);
+  }
+
+  /**
+   * Full scoring of a game.
+   *
+   * @return the computed minimum mountain.
+   */
+  @Benchmark
+  public int generateFinalResults() {
+    ResultService.generateFinalResults(this.bean);
+    return this.bean.getScoreMatrix().getMinMountain();
+  }
+
+  /**
+   * Incremental update of a single whist value followed
+   * by reading the final scores (as the UI does).
+   *
+   * @return sum of the final scores.
+   */
+  @Benchmark
+  public int updateWhist() {
+    this.whistValue ^= 1;
+    ResultService.updateWhist(this.bean, Place.EAST, Place.SOUTH, this.whistValue);
+    return getFinalScoreInWhists();
+  }
+
+  /**
+   * The "divisible by N" mount and whist fixes.
+   *
+   * @return the computed mount fix.
+   */
+  @Benchmark
+  public int doFixForDivisibleByN() {
+    ScoreMatrix m = this.bean.getScoreMatrix();
+    return ScoringKernel.doFixForDivisibleByN(m, 1, Place.EAST.index) +
+           ScoringKernel.doFixForDivisibleByN(m, this.players - 1, Place.SOUTH.index);
+  }
+
+  /**
+   * Final scores of all players (as read by every repaint).
+   *
+   * @return sum of the final scores.
+   */
+  @Benchmark
+  public int getFinalScoreInWhists() {
+    int sum = 0;
+    for (PlayerStatistics player : this.stats) {
+      sum += player.getFinalScoreInWhists();
+    }
+    return sum;
+  }
+
+  /**
+   * Final scores of all players after an input change.
+   *
+   * @return sum of the final scores.
+   */
+  @Benchmark
+  public int getFinalScoreInWhistsAfterEdit() {
+    this.bean.getScoreMatrix().invalidate(ScoreMatrix.DIRTY_ALL);
+    return getFinalScoreInWhists();
+  }
+
+  /**
+   * The max pool value.
+   *
+   * @return the max pool value.
+   */
+  @Benchmark
+  public int getMaxPool() {
+    return this.bean.getMaxPool();
+  }
+
+  /**
+   * The max pool value after an input change.
+   *
+   * @return the max pool value.
+   */
+  @Benchmark
+  public int getMaxPoolAfterEdit() {
+    this.bean.getScoreMatrix().invalidate(ScoreMatrix.DIRTY_MAX_POOL);
+    return this.bean.getMaxPool();
+  }
+}
@@ -0,0 +1,556 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.validation.constraints.Null;
+
+/**
+ * A container for all players scores and results for a preferance card game.
+ * <p/>
+ * Created date: Apr 9, 2007
+ *
+ * @author Yevgeny Nyden
+ */
+public class GameResultBean {
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(GameResultBean.class.getName());
+
+  /** Default number of players. */
+  public static final int DEFAULT_PLAYERS_NUMBER = 3;
+
+  /** Default player for the "Divisible by N" mount adjustment. */
+  public static final Place DEFAULT_ADJ_PLAYER = Place.EAST;
+
+  /** Indicates that all player data has been entered or not. */
+  private boolean finalScoresReady;
+
+  /** ID of this game in the game archive or -1 if it's not archived. */
+  private int archivedGameId = -1;
+
+  /**
+   * Flat storage of all players scores; also holds the
+   * average and minimum mountain for this game.
+   */
+  private final ScoreMatrix scoreMatrix;
+
+  /** Cached max pool value. */
+  private int cachedMaxPool;
+
+  /** Cached new mountain values (indexed by place index). */
+  private final int[] cachedNewMountains;
+
+  /** Cached final mountain in whists values (indexed by place index). */
+  private final int[] cachedFinalMountains;
+
+  /** Cached final score in whists values (indexed by place index). */
+  private final int[] cachedFinalScores;
+
+  /** The latest published immutable snapshot of this game (for lock-free readers). */
+  private final AtomicReference<ScoreSnapshot> snapshot;
+
+  /** Number of derived value requests served from the cache. */
+  private long cacheHits;
+
+  /** Number of derived value requests that required recomputing. */
+  private long cacheMisses;
+
+  /**
+   * Flag to indicate the Leningradka pref type.
+   * This value matters for the pool/mount ratio value.
+   * When this flag is true 1 pool = 2 mount points, when
+   * it is false 1 pool = 1 mount.
+   */
+  private boolean leningradka;
+
+  /** Player used for the divisible by N adjustments. */
+  private Place divisibleByNPlayer;
+
+  /** Map of players stats/results. */
+  private Map<Place, PlayerStatistics> playerStats;
+
+  /**
+   * Default ctor; creates a Leningradka game for the default number of players.
+   */
+  public GameResultBean() {
+    this(PrefType.LENINGRAD, DEFAULT_PLAYERS_NUMBER);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param prefType        type of the game.
+   * @param numberOfPlayers number of players in the game (3 or 4).
+   */
+  public GameResultBean(PrefType prefType, int numberOfPlayers) {
+    this.leningradka = prefType == PrefType.LENINGRAD;
+    this.divisibleByNPlayer = null;
+    this.scoreMatrix = new ScoreMatrix();
+    this.cachedNewMountains = new int[ScoreMatrix.SIZE];
+    this.cachedFinalMountains = new int[ScoreMatrix.SIZE];
+    this.cachedFinalScores = new int[ScoreMatrix.SIZE];
+    this.snapshot = new AtomicReference<>();
+
+    this.playerStats = new HashMap<>();
+    this.resetNumberOfPlayers(numberOfPlayers);
+  }
+
+  /**
+   * Getter for the flag that indicates that the player
+   * final scores are ready for display.
+   *
+   * @return True if all the player final scores have been generated;
+   *         false otherwise.
+   */
+  public boolean isFinalScoresReady() {
+    return this.finalScoresReady;
+  }
+
+  /**
+   * Sets the flag that indicates that the player
+   * final scores are ready for display to true.
+   *
+   * @param ready true if the scores are ready; false if otherwise
+   */
+  public void setFinalScoresReady(boolean ready) {
+    this.finalScoresReady = ready;
+    this.scoreMatrix.touch();
+  }
+
+  /**
+   * Gets the ID of this game in the game archive.
+   *
+   * @return the archived game ID or -1 if the game is not archived.
+   */
+  public int getArchivedGameId() {
+    return this.archivedGameId;
+  }
+
+  /**
+   * Sets the ID of this game in the game archive.
+   *
+   * @param archivedGameId the archived game ID or -1 if the game is not archived.
+   */
+  public void setArchivedGameId(int archivedGameId) {
+    this.archivedGameId = archivedGameId;
+  }
+
+  /**
+   * Getter for the max pool value.
+   *
+   * @return The max pool.
+   */
+  public Integer getMaxPool() {
+    return this.maxPool();
+  }
+
+  /**
+   * Returns the new computed mountain value for the given player
+   * according to the max pool value and the type of pref.
+   *
+   * @param place player's place.
+   * @return New computed mountain value.
+   */
+  public int getNewMountain(Place place) {
+    if ((this.scoreMatrix.dirty & ScoreMatrix.DIRTY_NEW_MOUNTAINS) != 0) {
+      this.cacheMisses++;
+      final int maxPool = this.maxPool();
+      for (int i = 0; i < ScoreMatrix.SIZE; i++) {
+        this.cachedNewMountains[i] = this.scoreMatrix.newMountain(i, this.leningradka, maxPool);
+      }
+      this.scoreMatrix.dirty &= ~ScoreMatrix.DIRTY_NEW_MOUNTAINS;
+    } else {
+      this.cacheHits++;
+    }
+    return this.cachedNewMountains[place.index];
+  }
+
+  /**
+   * Returns the "final" computed mountain value in whists (x10) for the given player.
+   *
+   * @param place player's place.
+   * @return Final computed mountain value in whists (x10).
+   */
+  public int getFinalMountainInWhists(Place place) {
+    this.refreshFinalScores();
+    return this.cachedFinalMountains[place.index];
+  }
+
+  /**
+   * Returns computed final score (balance) in whists for the given player.
+   *
+   * @param place player's place.
+   * @return Computed final score (balance) in whists.
+   */
+  public int getFinalScoreInWhists(Place place) {
+    this.refreshFinalScores();
+    return this.cachedFinalScores[place.index];
+  }
+
+  /**
+   * Shifts the cached final scores of two players after an incremental
+   * whist saldo change (see <code>ScoringKernel.updateWhist</code>);
+   * does nothing if the cached values are going to be recomputed anyway.
+   *
+   * @param place      player whose total whist saldo changed by delta.
+   * @param otherPlace player whose total whist saldo changed by -delta.
+   * @param delta      whist saldo change.
+   */
+  public void shiftFinalScores(Place place, Place otherPlace, int delta) {
+    if ((this.scoreMatrix.dirty & ScoreMatrix.DIRTY_FINAL_SCORES) == 0) {
+      this.cachedFinalScores[place.index] += delta;
+      this.cachedFinalScores[otherPlace.index] -= delta;
+    }
+  }
+
+  /**
+   * Gets the number of derived value requests (max pool, new mountains,
+   * final mountains and final scores) that were served from the cache.
+   *
+   * @return number of cache hits.
+   */
+  public long getCacheHits() {
+    return this.cacheHits;
+  }
+
+  /**
+   * Gets the number of derived value requests (max pool, new mountains,
+   * final mountains and final scores) that required recomputing.
+   *
+   * @return number of cache misses.
+   */
+  public long getCacheMisses() {
+    return this.cacheMisses;
+  }
+
+  /**
+   * Gets the ratio of the derived value requests that were served from the cache.
+   *
+   * @return cache hit rate (0 to 1); 0 if no values were requested.
+   */
+  public double getCacheHitRate() {
+    final long total = this.cacheHits + this.cacheMisses;
+    return total == 0 ? 0 : (double) this.cacheHits / total;
+  }
+
+  /** Resets the cache hit and miss counters. */
+  public void resetCacheCounters() {
+    this.cacheHits = 0;
+    this.cacheMisses = 0;
+  }
+
+  /**
+   * Getter for the player's average mountain.
+   *
+   * @return The player's average mountain.
+   */
+  public Float getAverageMountain() {
+    return this.scoreMatrix.averageMountainSet ? this.scoreMatrix.averageMountain : null;
+  }
+
+  /**
+   * Setter for the player's average mountain.
+   * This method will round the float number to the 2 digit after
+   * the decimal.
+   *
+   * @param averageMountain Player's average mountain to set.
+   */
+  public void setAverageMountain(Float averageMountain) {
+    this.scoreMatrix.averageMountainSet = averageMountain != null;
+    if (averageMountain != null) {
+      this.scoreMatrix.averageMountain = Math.round(averageMountain * 100) / 100F;
+    }
+    this.scoreMatrix.invalidate(ScoreMatrix.DIRTY_FINAL_SCORES);
+  }
+
+  /**
+   * Returns the minimum mountain in the game.
+   *
+   * @return the minimum mountain in the game.
+   */
+  public Integer getMinMountain() {
+    return this.scoreMatrix.minMountain;
+  }
+
+  /**
+   * Setter for the minimum mountain in the game.
+   *
+   * @param minMountain Min mountain in the game to set.
+   */
+  public void setMinMountain(Integer minMountain) {
+    this.scoreMatrix.minMountain = minMountain == null ? 0 : minMountain;
+    this.scoreMatrix.invalidate(ScoreMatrix.DIRTY_FINAL_SCORES);
+  }
+
+  /**
+   * Getter for the Leningradka pref type flag.
+   * This value matters for the pool/mount ratio value.
+   * When this flag is true 1 pool = 2 mount points, when
+   * it is false 1 pool = 1 mount.
+   *
+   * @return true when the pref type is Leningradka; false otherwise.
+   */
+  public boolean isLeningradka() {
+    return this.leningradka;
+  }
+
+  /**
+   * Setter for property 'leningradka'.
+   * This value matters for the pool/mount ratio value.
+   * When this flag is true 1 pool = 2 mount points, when
+   * it is false 1 pool = 1 mount.
+   *
+   * @param leningradka Value to set for property 'leningradka'.
+   */
+  public void setLeningradka(boolean leningradka) {
+    this.leningradka = leningradka;
+    this.scoreMatrix.invalidate(ScoreMatrix.DIRTY_NEW_MOUNTAINS | ScoreMatrix.DIRTY_FINAL_SCORES);
+  }
+
+  /**
+   * Getter for property 'divisibleByNPlayer' -
+   * player used for the divisible by N adjustments.
+   *
+   * @return Value for property 'divisibleByNPlayer'.
+   */
+  public Place getDivisibleByNPlayer() {
+    return this.divisibleByNPlayer;
+  }
+
+  /**
+   * Determines if mount should be divisible by N.
+   *
+   * @return true if mount is divisible by N; false if divisibility of mount doesn't matter.
+   */
+  public boolean isMountDivisibleByN() {
+    return this.divisibleByNPlayer != null;
+  }
+
+  /**
+   * Setter for the mount divisibility flag.
+   *
+   * @param divisibleByNPlayer Player's place when divisible by N; or null if divisibility does not matter.
+   */
+  public void setMountDivisibleByN(@Null Place divisibleByNPlayer) {
+    this.divisibleByNPlayer = divisibleByNPlayer;
+    this.scoreMatrix.invalidate(ScoreMatrix.DIRTY_FINAL_SCORES);
+  }
+
+  /**
+   * Getter for the map of player statistics.
+   *
+   * @return Map of player statistics.
+   */
+  public Map<Place, PlayerStatistics> getPlayerStats() {
+    return this.playerStats;
+  }
+
+  /**
+   * Gets the latest published snapshot of this game; safe to call
+   * from any thread (see <code>ResultService.publishSnapshot</code>).
+   *
+   * @return the latest snapshot or null if none was published yet.
+   */
+  public @Null ScoreSnapshot getSnapshot() {
+    return this.snapshot.get();
+  }
+
+  /**
+   * Publishes a snapshot of this game unless a newer one is already published.
+   *
+   * @param next snapshot to publish.
+   * @return the published (latest) snapshot.
+   */
+  public ScoreSnapshot publishSnapshot(ScoreSnapshot next) {
+    return this.snapshot.accumulateAndGet(
+        next, (prev, curr) -> prev != null && prev.getVersion() >= curr.getVersion() ? prev : curr);
+  }
+
+  /**
+   * Getter for the score matrix that holds all players scores.
+   *
+   * @return score matrix of this game.
+   */
+  public ScoreMatrix getScoreMatrix() {
+    return this.scoreMatrix;
+  }
+
+  /**
+   * Updates player stats data given an updated set of players.
+   *
+   * @param playerNamesMap player names map.
+   */
+  public void updateNumberOfPlayers(Map<Place, String> playerNamesMap) {
+    logger.info("Updating player stats from {}", this.playerNamesMapToString(playerNamesMap));
+    // Update player names in the current stats map.
+    for (Map.Entry<Place, PlayerStatistics> entry : this.playerStats.entrySet()) {
+      String name = playerNamesMap.get(entry.getKey());
+      if (name != null) {
+        entry.getValue().setPlayerName(name);
+      }
+    }
+    // Update the stats map according to the current number of players.
+    if (playerNamesMap.size() == 4 && this.playerStats.size() == 3) {
+      this.putPlayer(new PlayerStatistics(this, Place.NORTH));
+    } else if (playerNamesMap.size() == 3 && this.playerStats.size() == 4) {
+      this.playerStats.remove(Place.NORTH);
+    }
+    this.syncPlayersMask();
+
+    logger.info("The new players infos: {}", this.playerStatsToString(this.playerStats));
+  }
+
+  /**
+   * Resets player stats data give a new number of players
+   * (the reset game is a new one, so it's not archived).
+   *
+   * @param numberOfPlayers new number of players.
+   */
+  public void resetNumberOfPlayers(int numberOfPlayers) {
+    this.archivedGameId = -1;
+    this.playerStats.clear();
+    for (Place place : Place.getPlaces(numberOfPlayers)) {
+      this.putPlayer(new PlayerStatistics(this, place));
+    }
+    this.syncPlayersMask();
+  }
+  /**
+   * Returns the number of players in the game.
+   *
+   * @return The number of players in the game.
+   */
+  public int getNumberOfPlayers() {
+    return this.playerStats.size();
+  }
+
+  /** * Clears state associated with a game session. */
+  public void clearResults() {
+    this.setMountDivisibleByN(DEFAULT_ADJ_PLAYER);
+    this.setFinalScoresReady(false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return super.toString() + ": finalScoresReady=" + this.finalScoresReady +
+        ", averageMountain=" + this.getAverageMountain() +
+        ", minMountain=" + this.scoreMatrix.minMountain +
+        ", divisibleByNPlayer=" + this.divisibleByNPlayer + ';';
+  }
+
+  /**
+   * Sets the player stats directly.
+   *
+   * @param stats player stats to set.
+   */
+  public void setPlayerStats(Map<Place, PlayerStatistics> stats) {
+    this.playerStats = stats;
+    for (PlayerStatistics player : stats.values()) {
+      player.attachTo(this.scoreMatrix);
+    }
+    this.syncPlayersMask();
+  }
+
+  /**
+   * Adds a player to the player stats map binding its data to the score matrix.
+   *
+   * @param player player stats to add.
+   */
+  private void putPlayer(PlayerStatistics player) {
+    player.attachTo(this.scoreMatrix);
+    this.playerStats.put(player.getPlayerPlace(), player);
+  }
+
+  /** Updates the score matrix players mask from the player stats map. */
+  private void syncPlayersMask() {
+    int mask = 0;
+    for (Place place : this.playerStats.keySet()) {
+      mask |= 1 << place.index;
+    }
+    this.scoreMatrix.playersMask = mask;
+    this.scoreMatrix.invalidate(ScoreMatrix.DIRTY_ALL);
+  }
+
+  /**
+   * Returns the (cached) max pool value.
+   *
+   * @return The max pool.
+   */
+  private int maxPool() {
+    if ((this.scoreMatrix.dirty & ScoreMatrix.DIRTY_MAX_POOL) != 0) {
+      this.cacheMisses++;
+      this.cachedMaxPool = this.scoreMatrix.maxPool();
+      this.scoreMatrix.dirty &= ~ScoreMatrix.DIRTY_MAX_POOL;
+    } else {
+      this.cacheHits++;
+    }
+    return this.cachedMaxPool;
+  }
+
+  /** Recomputes the cached final mountains and final scores if their inputs changed. */
+  private void refreshFinalScores() {
+    if ((this.scoreMatrix.dirty & ScoreMatrix.DIRTY_FINAL_SCORES) == 0) {
+      this.cacheHits++;
+      return;
+    }
+    this.cacheMisses++;
+    final ScoreMatrix m = this.scoreMatrix;
+    for (int i = 0; i < ScoreMatrix.SIZE; i++) {
+      if (ScoreMatrix.isSet(m.playersMask, i)) {
+        final int mountFix = ScoreMatrix.valueOrZero(m.mountFixes, m.mountFixesMask, i);
+        final int finalMountain = (int) ((m.averageMountain -
+                                          (this.getNewMountain(Place.getPlaceForIndex(i)) + mountFix -
+                                           m.minMountain)) * 10);
+        this.cachedFinalMountains[i] = finalMountain;
+        this.cachedFinalScores[i] = finalMountain +
+            ScoreMatrix.valueOrZero(m.whistSaldos, m.whistSaldosMask, ScoreMatrix.cell(i, i));
+      }
+    }
+    m.dirty &= ~ScoreMatrix.DIRTY_FINAL_SCORES;
+  }
+
+  /**
+   * Converts given players map to string.
+   *
+   * @param playerNamesMap place-to-name players map.
+   * @return a string that represents the given players map.
+   */
+  private String playerNamesMapToString(Map<Place, String> playerNamesMap) {
+    StringBuilder out = new StringBuilder("[").append(playerNamesMap.size()).append("]: ");
+    playerNamesMap.forEach((key, value) -> out.append(key).append("-").append(value).append(", "));
+    return out.toString();
+  }
+
+  /**
+   * Converts given player stats to string.
+   *
+   * @param playerStats player stats map to convert to string.
+   * @return a string that represents the given stats map.
+   */
+  private String playerStatsToString(Map<Place, PlayerStatistics> playerStats) {
+    StringBuilder out = new StringBuilder("[" + playerStats.size() + "]:\n");
+    playerStats.forEach((key, value) -> out.append("   ").append(key).append(": ").append(value.toString()).append("\n"));
+    return out.toString();
+  }
+}
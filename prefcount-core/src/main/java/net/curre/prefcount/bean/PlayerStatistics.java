@@ -15,15 +15,14 @@
 package net.curre.prefcount.bean;
 
 import java.util.Map;
-import java.util.TreeMap;
-import javax.swing.JTextField;
 
 import net.curre.prefcount.gui.type.Place;
-import net.curre.prefcount.service.UiService;
 
 /**
  * Object of this class represents various
- * game scores/data for a player.
+ * game scores/data for a player. The data is stored
+ * in a <code>ScoreMatrix</code> (one row per player),
+ * this object is just a view over that data.
  * <p/>
  * Created date: Apr 6, 2007
  *
@@ -40,14 +39,12 @@ public class PlayerStatistics {
    */
   private final Place playerPlace;
 
-  /** Player's mountain. */
-  private Integer mountain;
-
-  /** Player's pool. */
-  private Integer pool;
-
-  /** Player's extra mountain points (when "divisible by N"). */
-  private Integer mountFix;
+  /**
+   * Score matrix that holds this player's data; it's a private matrix
+   * until the player is added to the result bean, after which it is
+   * the result bean's matrix.
+   */
+  private ScoreMatrix matrix;
 
   /**
    * Map of whists that this player has for other players
@@ -83,9 +80,10 @@ public class PlayerStatistics {
    * @param playerPlace Player's place.
    */
   public PlayerStatistics(GameResultBean resultBean, Place playerPlace) {
-    this.whistsMap = new TreeMap<>();
-    this.whistSaldoMap = new TreeMap<>();
-    this.whistFixesMap = new TreeMap<>();
+    this.matrix = new ScoreMatrix();
+    this.whistsMap = new MatrixRowView(playerPlace.index, ScoreMatrix.WHISTS);
+    this.whistSaldoMap = new MatrixRowView(playerPlace.index, ScoreMatrix.WHIST_SALDOS);
+    this.whistFixesMap = new MatrixRowView(playerPlace.index, ScoreMatrix.WHIST_FIXES);
     this.resultBean = resultBean;
     this.playerPlace = playerPlace;
     this.playerName = "";
@@ -95,8 +93,8 @@ public class PlayerStatistics {
   @Override
   public String toString() {
     return this.playerPlace + " (" + this.playerName + ") " +
-        "pool=" + this.pool +
-        "mount=" + this.mountain;
+        "pool=" + getPool() +
+        "mount=" + getMountain();
   }
 
   /**
@@ -140,6 +138,7 @@ public class PlayerStatistics {
    */
   public void setPlayerName(String playerName) {
     this.playerName = playerName;
+    this.matrix.touch();
   }
 
   /**
@@ -148,7 +147,8 @@ public class PlayerStatistics {
    * @return Player's mountain value.
    */
   public Integer getMountain() {
-    return this.mountain;
+    final int i = this.playerPlace.index;
+    return ScoreMatrix.isSet(this.matrix.mountainsMask, i) ? this.matrix.mountains[i] : null;
   }
 
   /**
@@ -157,7 +157,11 @@ public class PlayerStatistics {
    * @param mountain Player's new mountain value.
    */
   public void setMountain(Integer mountain) {
-    this.mountain = mountain;
+    if (isSameValue(this.matrix.mountains, this.matrix.mountainsMask, mountain)) {
+      return;
+    }
+    this.matrix.mountainsMask = setValue(this.matrix.mountains, this.matrix.mountainsMask, mountain);
+    this.matrix.invalidate(ScoreMatrix.DIRTY_NEW_MOUNTAINS | ScoreMatrix.DIRTY_FINAL_SCORES);
   }
 
   /**
@@ -168,8 +172,11 @@ public class PlayerStatistics {
    * @return New computed mountain value.
    */
   public int getNewMountain() {
-    return this.mountain - (this.resultBean.isLeningradka() ? 2 : 1)
-                           * (this.pool - this.resultBean.getMaxPool());
+    if (isAttached()) {
+      return this.resultBean.getNewMountain(this.playerPlace);
+    }
+    return this.matrix.newMountain(this.playerPlace.index, this.resultBean.isLeningradka(),
+                                   this.resultBean.getScoreMatrix().maxPool());
   }
 
   /**
@@ -180,19 +187,14 @@ public class PlayerStatistics {
    * @return Final computed mountain value in whists (x10).
    */
   public int getFinalMountainInWhists() {
-    final int mountFix = this.mountFix == null ? 0 : this.mountFix;
-    return (int) ((this.resultBean.getAverageMountain() -
-                   (getNewMountain() + mountFix - this.resultBean.getMinMountain())) * 10);
-  }
-
-  /**
-   * Setter for the player's mountain that is fetched
-   * from the passed <code>JTextField</code> argument.
-   *
-   * @param field <code>JTextField</code> to use to fetch the mountain value.
-   */
-  public void setMountainFromField(JTextField field) {
-    this.mountain = UiService.parseIntFromTextField(field);
+    if (isAttached()) {
+      return this.resultBean.getFinalMountainInWhists(this.playerPlace);
+    }
+    final ScoreMatrix beanMatrix = this.resultBean.getScoreMatrix();
+    final int mountFix = ScoreMatrix.valueOrZero(this.matrix.mountFixes, this.matrix.mountFixesMask,
+                                                 this.playerPlace.index);
+    return (int) ((beanMatrix.averageMountain -
+                   (getNewMountain() + mountFix - beanMatrix.minMountain)) * 10);
   }
 
   /**
@@ -201,7 +203,8 @@ public class PlayerStatistics {
    * @return Player's pool value.
    */
   public Integer getPool() {
-    return this.pool;
+    final int i = this.playerPlace.index;
+    return ScoreMatrix.isSet(this.matrix.poolsMask, i) ? this.matrix.pools[i] : null;
   }
 
   /**
@@ -210,7 +213,11 @@ public class PlayerStatistics {
    * @param pool Player's new pool value.
    */
   public void setPool(Integer pool) {
-    this.pool = pool;
+    if (isSameValue(this.matrix.pools, this.matrix.poolsMask, pool)) {
+      return;
+    }
+    this.matrix.poolsMask = setValue(this.matrix.pools, this.matrix.poolsMask, pool);
+    this.matrix.invalidate(ScoreMatrix.DIRTY_ALL);
   }
 
   /**
@@ -220,7 +227,8 @@ public class PlayerStatistics {
    * @return Value for property 'mountFix'.
    */
   public Integer getMountFix() {
-    return this.mountFix;
+    final int i = this.playerPlace.index;
+    return ScoreMatrix.isSet(this.matrix.mountFixesMask, i) ? this.matrix.mountFixes[i] : null;
   }
 
   /**
@@ -230,31 +238,22 @@ public class PlayerStatistics {
    * @param mountFix Value to set for property 'mountFix'.
    */
   public void setMountFix(Integer mountFix) {
-    this.mountFix = mountFix;
-  }
-
-  /**
-   * Setter for the player's pool that is fetched
-   * from the passed <code>JTextField</code> argument.
-   *
-   * @param field <code>JTextField</code> to use to fetch the pool value.
-   */
-  public void setPoolFromField(JTextField field) {
-    this.pool = UiService.parseIntFromTextField(field);
+    if (isSameValue(this.matrix.mountFixes, this.matrix.mountFixesMask, mountFix)) {
+      return;
+    }
+    this.matrix.mountFixesMask = setValue(this.matrix.mountFixes, this.matrix.mountFixesMask, mountFix);
+    this.matrix.invalidate(ScoreMatrix.DIRTY_FINAL_SCORES);
   }
 
   /**
    * Setter for the player's whists that this player
-   * has against the player referred by its index argument.
+   * has against the player referred by its place argument.
    *
-   * @param place Other player's place that this player has whists against.
-   * @param field <code>JTextField</code> to use to fetch the whists value.
-   * @return Fetched whists value as an <code>Integer</code> object.
+   * @param place  Other player's place that this player has whists against.
+   * @param whists whists value to set or null to clear the value.
    */
-  public Integer setWhistsForPlayerFromField(Place place, JTextField field) {
-    int val = UiService.parseIntFromTextField(field);
-    this.whistsMap.put(place, val);
-    return val;
+  public void setWhistsAgainstPlayer(Place place, Integer whists) {
+    this.whistsMap.put(place, whists);
   }
 
   /**
@@ -286,8 +285,12 @@ public class PlayerStatistics {
    * @return Computed final score (balance) in whists.
    */
   public int getFinalScoreInWhists() {
-    Integer wSaldo = this.whistSaldoMap.get(this.playerPlace);
-    return getFinalMountainInWhists() + (wSaldo == null ? 0 : wSaldo);
+    if (isAttached()) {
+      return this.resultBean.getFinalScoreInWhists(this.playerPlace);
+    }
+    final int cell = ScoreMatrix.cell(this.playerPlace.index, this.playerPlace.index);
+    return getFinalMountainInWhists() +
+           ScoreMatrix.valueOrZero(this.matrix.whistSaldos, this.matrix.whistSaldosMask, cell);
   }
 
   /**
@@ -350,4 +353,81 @@ public class PlayerStatistics {
     }
     return 0;
   }
+
+  /**
+   * Binds this player's data to the given matrix (the result bean's
+   * matrix) copying the data entered so far into it.
+   *
+   * @param target matrix to bind this player's data to.
+   */
+  void attachTo(ScoreMatrix target) {
+    if (this.matrix != target) {
+      target.copyPlayer(this.matrix, this.playerPlace.index);
+      this.matrix = target;
+    }
+  }
+
+  /**
+   * Determines if this player's data is stored in the result bean's
+   * matrix, in which case the derived values are cached by the bean.
+   *
+   * @return true if this player is bound to the result bean's matrix.
+   */
+  private boolean isAttached() {
+    return this.resultBean != null && this.matrix == this.resultBean.getScoreMatrix();
+  }
+
+  /**
+   * Checks if this player's value in the given matrix array is already
+   * equal to the given value (so setting it wouldn't change anything).
+   *
+   * @param values matrix array indexed by place index.
+   * @param mask   mask of the set values.
+   * @param value  value to compare with (null for unset).
+   * @return true if the value is the same; false otherwise.
+   */
+  private boolean isSameValue(int[] values, int mask, Integer value) {
+    final int i = this.playerPlace.index;
+    if (value == null) {
+      return !ScoreMatrix.isSet(mask, i);
+    }
+    return ScoreMatrix.isSet(mask, i) && values[i] == value;
+  }
+
+  /**
+   * Sets a per player value in the given values array.
+   *
+   * @param values values array.
+   * @param mask   bit mask of the set values.
+   * @param value  value to set or null to clear the value.
+   * @return updated bit mask of the set values.
+   */
+  private int setValue(int[] values, int mask, Integer value) {
+    final int i = this.playerPlace.index;
+    if (value == null) {
+      return mask & ~(1 << i);
+    }
+    values[i] = value;
+    return mask | (1 << i);
+  }
+
+  /** Map view over this player's row of a score matrix. */
+  private class MatrixRowView extends ScoreMatrix.RowView {
+
+    /**
+     * Constructor.
+     *
+     * @param player player's place index.
+     * @param kind   viewed pair matrix kind.
+     */
+    MatrixRowView(int player, int kind) {
+      super(player, kind);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    ScoreMatrix matrix() {
+      return PlayerStatistics.this.matrix;
+    }
+  }
 }
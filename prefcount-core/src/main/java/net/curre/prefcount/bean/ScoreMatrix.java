@@ -0,0 +1,538 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.curre.prefcount.gui.type.Place;
+
+/**
+ * Flat, primitive storage for all player scores of a game.
+ * Per player values are stored in <code>int[]</code> arrays indexed by
+ * <code>Place.index</code>, and per pair values (whists, whist fixes and
+ * whist saldos) are stored in <code>int[]</code> matrices indexed by
+ * <code>player.index * SIZE + other.index</code>. A value that has never
+ * been set (the equivalent of a <code>null</code> value) is tracked with
+ * a bit mask, so no boxed values are created by the scoring code.
+ * <p/>
+ * <code>PlayerStatistics</code> objects are views over one row of this matrix.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreMatrix {
+
+  /** Max number of players (size of a matrix row). */
+  public static final int SIZE = 4;
+
+  /** Dirty flag for the cached max pool value. */
+  public static final int DIRTY_MAX_POOL = 1;
+
+  /** Dirty flag for the cached new mountain values. */
+  public static final int DIRTY_NEW_MOUNTAINS = 1 << 1;
+
+  /** Dirty flag for the cached final mountain and final score values. */
+  public static final int DIRTY_FINAL_SCORES = 1 << 2;
+
+  /**
+   * Dirty flag for the results computed by the scoring kernel (minimum and
+   * average mountain, fixes and whist saldos). It's set together with
+   * <code>DIRTY_FINAL_SCORES</code>, but only the kernel clears it (refreshing
+   * the cached final scores doesn't make the computed results current).
+   */
+  public static final int DIRTY_RESULTS = 1 << 3;
+
+  /** All dirty flags. */
+  public static final int DIRTY_ALL = DIRTY_MAX_POOL | DIRTY_NEW_MOUNTAINS | DIRTY_FINAL_SCORES | DIRTY_RESULTS;
+
+  /** Pair matrix kind for the whists. */
+  static final int WHISTS = 0;
+
+  /** Pair matrix kind for the whist fixes. */
+  static final int WHIST_FIXES = 1;
+
+  /** Pair matrix kind for the whist saldos. */
+  static final int WHIST_SALDOS = 2;
+
+  /** Player's mountains, indexed by place index. */
+  final int[] mountains = new int[SIZE];
+
+  /** Player's pools, indexed by place index. */
+  final int[] pools = new int[SIZE];
+
+  /** Player's mount fixes (when "divisible by N"), indexed by place index. */
+  final int[] mountFixes = new int[SIZE];
+
+  /** Whists that a player has against other players. */
+  final int[] whists = new int[SIZE * SIZE];
+
+  /** Whist fixes that a player has against other players ("divisible by N"). */
+  final int[] whistFixes = new int[SIZE * SIZE];
+
+  /**
+   * Whist saldo a player has against other players; total player's
+   * whist saldo is stored on the diagonal (player's own index).
+   */
+  final int[] whistSaldos = new int[SIZE * SIZE];
+
+  /** Bit mask of the set mountain values. */
+  int mountainsMask;
+
+  /** Bit mask of the set pool values. */
+  int poolsMask;
+
+  /** Bit mask of the set mount fix values. */
+  int mountFixesMask;
+
+  /** Bit mask of the set whist values. */
+  int whistsMask;
+
+  /** Bit mask of the set whist fix values. */
+  int whistFixesMask;
+
+  /** Bit mask of the set whist saldo values. */
+  int whistSaldosMask;
+
+  /** Bit mask of the places that take part in the game. */
+  int playersMask;
+
+  /** Minimum mountain in the game. */
+  int minMountain;
+
+  /** Average mountain in the game. */
+  float averageMountain;
+
+  /** Indicates that the average mountain is set. */
+  boolean averageMountainSet;
+
+  /**
+   * Dirty flags of the values derived from this matrix (that
+   * are cached by the result bean); a flag is set whenever
+   * the input of the corresponding derived value changes.
+   */
+  int dirty = DIRTY_ALL;
+
+  /**
+   * Modification counter of the game data; incremented on every
+   * change and used as the version of the published score snapshots.
+   */
+  long modCount;
+
+  /**
+   * Marks the derived values as changed (invalidating the final
+   * scores invalidates the computed results as well).
+   *
+   * @param flags dirty flags to set.
+   */
+  public void invalidate(int flags) {
+    this.dirty |= (flags & DIRTY_FINAL_SCORES) != 0 ? flags | DIRTY_RESULTS : flags;
+    this.modCount++;
+  }
+
+  /**
+   * Checks if any of the given dirty flags is set.
+   *
+   * @param flags dirty flags to check.
+   * @return true if any of the flags is set; false otherwise.
+   */
+  public boolean isDirty(int flags) {
+    return (this.dirty & flags) != 0;
+  }
+
+  /** Records a change of the game data that doesn't affect the derived values. */
+  void touch() {
+    this.modCount++;
+  }
+
+  /**
+   * Returns the modification counter of the game data.
+   *
+   * @return the modification counter.
+   */
+  public long getModCount() {
+    return this.modCount;
+  }
+
+  /**
+   * Returns the computed minimum mountain in the game.
+   *
+   * @return the minimum mountain (0 if not computed).
+   */
+  public int getMinMountain() {
+    return this.minMountain;
+  }
+
+  /**
+   * Returns player's pool.
+   *
+   * @param player player's place index.
+   * @return the pool value or 0 if not set.
+   */
+  public int getPool(int player) {
+    return valueOrZero(this.pools, this.poolsMask, player);
+  }
+
+  /**
+   * Returns whists that a player has against another player.
+   *
+   * @param player player's place index.
+   * @param other  other player's place index.
+   * @return the whists value or 0 if not set.
+   */
+  public int getWhist(int player, int other) {
+    return valueOrZero(this.whists, this.whistsMask, cell(player, other));
+  }
+
+  /**
+   * Returns whist saldo that a player has against another player.
+   *
+   * @param player player's place index.
+   * @param other  other player's place index
+   *               (the player's own index for the total saldo).
+   * @return the whist saldo value or 0 if not computed.
+   */
+  public int getWhistSaldo(int player, int other) {
+    return valueOrZero(this.whistSaldos, this.whistSaldosMask, cell(player, other));
+  }
+
+  /**
+   * Computes the index of a cell in a pair matrix.
+   *
+   * @param player player's place index.
+   * @param other  other player's place index.
+   * @return index of the cell in a pair matrix.
+   */
+  public static int cell(int player, int other) {
+    return player * SIZE + other;
+  }
+
+  /**
+   * Determines if the given bit is set on the given mask.
+   *
+   * @param mask  bit mask to test.
+   * @param index bit index.
+   * @return true if the bit is set; false otherwise.
+   */
+  public static boolean isSet(int mask, int index) {
+    return (mask & (1 << index)) != 0;
+  }
+
+  /**
+   * Returns a mask with all bits of the given player row set.
+   *
+   * @param player player's place index.
+   * @return bit mask for the player's row cells.
+   */
+  public static int rowMask(int player) {
+    return ((1 << SIZE) - 1) << (player * SIZE);
+  }
+
+  /**
+   * Returns the value at the given index or 0 if the value is not set.
+   *
+   * @param values values array.
+   * @param mask   bit mask of the set values.
+   * @param index  value index.
+   * @return the value at the given index or 0 if the value is not set.
+   */
+  public static int valueOrZero(int[] values, int mask, int index) {
+    return isSet(mask, index) ? values[index] : 0;
+  }
+
+  /**
+   * Computes the new mountain value for the given player according
+   * to the max pool value and the type of pref (Leningradka or other).
+   *
+   * @param player      player's place index.
+   * @param leningradka true for the Leningradka pref type.
+   * @param maxPool     max pool value in the game.
+   * @return New computed mountain value.
+   */
+  public int newMountain(int player, boolean leningradka, int maxPool) {
+    return valueOrZero(this.mountains, this.mountainsMask, player) -
+           (leningradka ? 2 : 1) * (valueOrZero(this.pools, this.poolsMask, player) - maxPool);
+  }
+
+  /**
+   * Computes the max pool value among the players in the game.
+   *
+   * @return The max pool value.
+   */
+  public int maxPool() {
+    int maxPool = 0;
+    for (int i = 0; i < SIZE; i++) {
+      if (isSet(this.playersMask, i) && isSet(this.poolsMask, i) && this.pools[i] > maxPool) {
+        maxPool = this.pools[i];
+      }
+    }
+    return maxPool;
+  }
+
+  /**
+   * Number of players in the game.
+   *
+   * @return number of players in the game.
+   */
+  public int playersCount() {
+    return Integer.bitCount(this.playersMask);
+  }
+
+  /**
+   * Clears all data stored for the given player
+   * (the values the player has against other players).
+   *
+   * @param player player's place index.
+   */
+  void clearPlayer(int player) {
+    final int bit = ~(1 << player);
+    final int row = ~rowMask(player);
+    this.mountainsMask &= bit;
+    this.poolsMask &= bit;
+    this.mountFixesMask &= bit;
+    this.whistsMask &= row;
+    this.whistFixesMask &= row;
+    this.whistSaldosMask &= row;
+    invalidate(DIRTY_ALL);
+  }
+
+  /**
+   * Copies all data stored for the given player from another matrix.
+   *
+   * @param src    matrix to copy the data from.
+   * @param player player's place index.
+   */
+  void copyPlayer(ScoreMatrix src, int player) {
+    clearPlayer(player);
+    final int bit = 1 << player;
+    final int row = rowMask(player);
+    this.mountains[player] = src.mountains[player];
+    this.pools[player] = src.pools[player];
+    this.mountFixes[player] = src.mountFixes[player];
+    this.mountainsMask |= src.mountainsMask & bit;
+    this.poolsMask |= src.poolsMask & bit;
+    this.mountFixesMask |= src.mountFixesMask & bit;
+    final int from = cell(player, 0);
+    System.arraycopy(src.whists, from, this.whists, from, SIZE);
+    System.arraycopy(src.whistFixes, from, this.whistFixes, from, SIZE);
+    System.arraycopy(src.whistSaldos, from, this.whistSaldos, from, SIZE);
+    this.whistsMask |= src.whistsMask & row;
+    this.whistFixesMask |= src.whistFixesMask & row;
+    this.whistSaldosMask |= src.whistSaldosMask & row;
+    invalidate(DIRTY_ALL);
+  }
+
+  /**
+   * Returns a pair matrix values array of the given kind.
+   *
+   * @param kind pair matrix kind.
+   * @return values array.
+   */
+  int[] values(int kind) {
+    switch (kind) {
+      case WHISTS:
+        return this.whists;
+      case WHIST_FIXES:
+        return this.whistFixes;
+      default:
+        return this.whistSaldos;
+    }
+  }
+
+  /**
+   * Returns a pair matrix bit mask of the given kind.
+   *
+   * @param kind pair matrix kind.
+   * @return bit mask.
+   */
+  int mask(int kind) {
+    switch (kind) {
+      case WHISTS:
+        return this.whistsMask;
+      case WHIST_FIXES:
+        return this.whistFixesMask;
+      default:
+        return this.whistSaldosMask;
+    }
+  }
+
+  /**
+   * Sets a pair matrix bit mask of the given kind.
+   *
+   * @param kind pair matrix kind.
+   * @param mask new bit mask value.
+   */
+  void setMask(int kind, int mask) {
+    switch (kind) {
+      case WHISTS:
+        this.whistsMask = mask;
+        break;
+      case WHIST_FIXES:
+        this.whistFixesMask = mask;
+        break;
+      default:
+        this.whistSaldosMask = mask;
+    }
+  }
+
+  /**
+   * Map view over one row of a pair matrix (whists, whist
+   * fixes or whist saldos); keys are iterated in the place order.
+   */
+  abstract static class RowView extends AbstractMap<Place, Integer> {
+
+    /** Player's place index (matrix row). */
+    final int player;
+
+    /** Viewed pair matrix kind. */
+    final int kind;
+
+    /**
+     * Constructor.
+     *
+     * @param player player's place index.
+     * @param kind   viewed pair matrix kind.
+     */
+    RowView(int player, int kind) {
+      this.player = player;
+      this.kind = kind;
+    }
+
+    /**
+     * Returns the matrix this view reads from.
+     *
+     * @return matrix to read the data from.
+     */
+    abstract ScoreMatrix matrix();
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer get(Object key) {
+      if (!(key instanceof Place)) {
+        return null;
+      }
+      ScoreMatrix m = matrix();
+      final int cell = cell(this.player, ((Place) key).index);
+      return isSet(m.mask(this.kind), cell) ? m.values(this.kind)[cell] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof Place && isSet(matrix().mask(this.kind), cell(this.player, ((Place) key).index));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer put(Place key, Integer value) {
+      if (value == null) {
+        return remove(key);
+      }
+      Integer old = get(key);
+      if (value.equals(old)) {
+        return old;
+      }
+      ScoreMatrix m = matrix();
+      final int cell = cell(this.player, key.index);
+      m.values(this.kind)[cell] = value;
+      m.setMask(this.kind, m.mask(this.kind) | (1 << cell));
+      m.invalidate(DIRTY_FINAL_SCORES);
+      return old;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Integer remove(Object key) {
+      Integer old = get(key);
+      if (old != null) {
+        ScoreMatrix m = matrix();
+        m.setMask(this.kind, m.mask(this.kind) & ~(1 << cell(this.player, ((Place) key).index)));
+        m.invalidate(DIRTY_FINAL_SCORES);
+      }
+      return old;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+      ScoreMatrix m = matrix();
+      m.setMask(this.kind, m.mask(this.kind) & ~rowMask(this.player));
+      m.invalidate(DIRTY_FINAL_SCORES);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+      return Integer.bitCount(matrix().mask(this.kind) & rowMask(this.player));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Entry<Place, Integer>> entrySet() {
+      return new AbstractSet<Entry<Place, Integer>>() {
+        @Override
+        public Iterator<Entry<Place, Integer>> iterator() {
+          return new Iterator<Entry<Place, Integer>>() {
+            private int next = advance(0);
+            private Place last;
+
+            private int advance(int from) {
+              final int mask = matrix().mask(RowView.this.kind);
+              while (from < SIZE && !isSet(mask, cell(player, from))) {
+                from++;
+              }
+              return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+              return this.next < SIZE;
+            }
+
+            @Override
+            public Entry<Place, Integer> next() {
+              if (this.next >= SIZE) {
+                throw new NoSuchElementException();
+              }
+              this.last = Place.getPlaceForIndex(this.next);
+              Entry<Place, Integer> entry = new SimpleImmutableEntry<>(
+                  this.last, matrix().values(RowView.this.kind)[cell(player, this.next)]);
+              this.next = advance(this.next + 1);
+              return entry;
+            }
+
+            @Override
+            public void remove() {
+              if (this.last == null) {
+                throw new IllegalStateException();
+              }
+              RowView.this.remove(this.last);
+              this.last = null;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return RowView.this.size();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,369 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import net.curre.prefcount.gui.type.Place;
+
+import javax.validation.constraints.Null;
+
+/**
+ * Immutable copy of the game data and of all derived values (new,
+ * final mountains and final scores) taken at a given version of a
+ * <code>GameResultBean</code>. Snapshots are published by the result
+ * service and can be read from any thread without synchronization.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class ScoreSnapshot {
+
+  /** Version of the game data (modification count of the score matrix). */
+  private final long version;
+
+  /** Bit mask of the places that take part in the game. */
+  private final int playersMask;
+
+  /** True for the Leningradka pref type. */
+  private final boolean leningradka;
+
+  /** Player used for the divisible by N adjustments or null. */
+  private final Place divisibleByNPlayer;
+
+  /** Indicates that the final scores are ready for display. */
+  private final boolean finalScoresReady;
+
+  /** Max pool value. */
+  private final int maxPool;
+
+  /** Average mountain or null if not computed. */
+  private final Float averageMountain;
+
+  /** Minimum mountain. */
+  private final int minMountain;
+
+  /** Player names (indexed by place index). */
+  private final String[] playerNames;
+
+  /** Mountains (indexed by place index). */
+  private final int[] mountains;
+
+  /** Pools (indexed by place index). */
+  private final int[] pools;
+
+  /** Mount fixes (indexed by place index). */
+  private final int[] mountFixes;
+
+  /** New mountains (indexed by place index). */
+  private final int[] newMountains;
+
+  /** Final mountains in whists (indexed by place index). */
+  private final int[] finalMountains;
+
+  /** Final scores in whists (indexed by place index). */
+  private final int[] finalScores;
+
+  /** Whists (indexed by a pair matrix cell). */
+  private final int[] whists;
+
+  /** Whist fixes (indexed by a pair matrix cell). */
+  private final int[] whistFixes;
+
+  /** Whist saldos (indexed by a pair matrix cell). */
+  private final int[] whistSaldos;
+
+  /** Bit mask of the set mountains. */
+  private final int mountainsMask;
+
+  /** Bit mask of the set pools. */
+  private final int poolsMask;
+
+  /** Bit mask of the set mount fixes. */
+  private final int mountFixesMask;
+
+  /** Bit mask of the set whists. */
+  private final int whistsMask;
+
+  /** Bit mask of the set whist fixes. */
+  private final int whistFixesMask;
+
+  /** Bit mask of the set whist saldos. */
+  private final int whistSaldosMask;
+
+  /**
+   * Takes a snapshot of the given game; must be called
+   * by the thread that modifies the game.
+   *
+   * @param rBean game to take the snapshot of.
+   */
+  public ScoreSnapshot(GameResultBean rBean) {
+    final ScoreMatrix m = rBean.getScoreMatrix();
+    this.version = m.modCount;
+    this.playersMask = m.playersMask;
+    this.leningradka = rBean.isLeningradka();
+    this.divisibleByNPlayer = rBean.getDivisibleByNPlayer();
+    this.finalScoresReady = rBean.isFinalScoresReady();
+    this.maxPool = rBean.getMaxPool();
+    this.averageMountain = rBean.getAverageMountain();
+    this.minMountain = m.minMountain;
+
+    this.playerNames = new String[ScoreMatrix.SIZE];
+    this.newMountains = new int[ScoreMatrix.SIZE];
+    this.finalMountains = new int[ScoreMatrix.SIZE];
+    this.finalScores = new int[ScoreMatrix.SIZE];
+    for (PlayerStatistics player : rBean.getPlayerStats().values()) {
+      final Place place = player.getPlayerPlace();
+      this.playerNames[place.index] = player.getPlayerName();
+      this.newMountains[place.index] = rBean.getNewMountain(place);
+      this.finalMountains[place.index] = rBean.getFinalMountainInWhists(place);
+      this.finalScores[place.index] = rBean.getFinalScoreInWhists(place);
+    }
+
+    this.mountains = m.mountains.clone();
+    this.pools = m.pools.clone();
+    this.mountFixes = m.mountFixes.clone();
+    this.whists = m.whists.clone();
+    this.whistFixes = m.whistFixes.clone();
+    this.whistSaldos = m.whistSaldos.clone();
+    this.mountainsMask = m.mountainsMask;
+    this.poolsMask = m.poolsMask;
+    this.mountFixesMask = m.mountFixesMask;
+    this.whistsMask = m.whistsMask;
+    this.whistFixesMask = m.whistFixesMask;
+    this.whistSaldosMask = m.whistSaldosMask;
+  }
+
+  /**
+   * Gets the version of the game data this snapshot was taken at.
+   *
+   * @return snapshot version (grows with every change of the game).
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * Returns the number of players in the game.
+   *
+   * @return The number of players in the game.
+   */
+  public int getNumberOfPlayers() {
+    return Integer.bitCount(this.playersMask);
+  }
+
+  /**
+   * Determines if the player at the given place takes part in the game.
+   *
+   * @param place player's place.
+   * @return true if the place is taken by a player; false otherwise.
+   */
+  public boolean hasPlayer(Place place) {
+    return ScoreMatrix.isSet(this.playersMask, place.index);
+  }
+
+  /**
+   * Getter for the Leningradka pref type flag.
+   *
+   * @return true when the pref type is Leningradka; false otherwise.
+   */
+  public boolean isLeningradka() {
+    return this.leningradka;
+  }
+
+  /**
+   * Gets the player used for the divisible by N adjustments.
+   *
+   * @return the adjustment player's place or null.
+   */
+  public @Null Place getDivisibleByNPlayer() {
+    return this.divisibleByNPlayer;
+  }
+
+  /**
+   * Getter for the flag that indicates that the player
+   * final scores are ready for display.
+   *
+   * @return True if all the player final scores have been generated;
+   *         false otherwise.
+   */
+  public boolean isFinalScoresReady() {
+    return this.finalScoresReady;
+  }
+
+  /**
+   * Getter for the max pool value.
+   *
+   * @return The max pool.
+   */
+  public int getMaxPool() {
+    return this.maxPool;
+  }
+
+  /**
+   * Getter for the average mountain.
+   *
+   * @return the average mountain or null if not computed.
+   */
+  public @Null Float getAverageMountain() {
+    return this.averageMountain;
+  }
+
+  /**
+   * Returns the minimum mountain in the game.
+   *
+   * @return the minimum mountain in the game.
+   */
+  public int getMinMountain() {
+    return this.minMountain;
+  }
+
+  /**
+   * Getter for the player's name.
+   *
+   * @param place player's place.
+   * @return Player's name.
+   */
+  public String getPlayerName(Place place) {
+    return this.playerNames[place.index];
+  }
+
+  /**
+   * Getter for the player's mountain.
+   *
+   * @param place player's place.
+   * @return Player's mountain value or null if not set.
+   */
+  public @Null Integer getMountain(Place place) {
+    return valueOf(this.mountains, this.mountainsMask, place.index);
+  }
+
+  /**
+   * Getter for the player's pool.
+   *
+   * @param place player's place.
+   * @return Player's pool value or null if not set.
+   */
+  public @Null Integer getPool(Place place) {
+    return valueOf(this.pools, this.poolsMask, place.index);
+  }
+
+  /**
+   * Getter for the player's extra mountain points (when "divisible by N").
+   *
+   * @param place player's place.
+   * @return Player's mount fix or null if there is none.
+   */
+  public @Null Integer getMountFix(Place place) {
+    return valueOf(this.mountFixes, this.mountFixesMask, place.index);
+  }
+
+  /**
+   * Returns the new computed mountain value.
+   *
+   * @param place player's place.
+   * @return New computed mountain value.
+   */
+  public int getNewMountain(Place place) {
+    return this.newMountains[place.index];
+  }
+
+  /**
+   * Returns the "final" computed mountain value in whists (x10).
+   *
+   * @param place player's place.
+   * @return Final computed mountain value in whists (x10).
+   */
+  public int getFinalMountainInWhists(Place place) {
+    return this.finalMountains[place.index];
+  }
+
+  /**
+   * Returns computed final score (balance) in whists.
+   *
+   * @param place player's place.
+   * @return Computed final score (balance) in whists.
+   */
+  public int getFinalScoreInWhists(Place place) {
+    return this.finalScores[place.index];
+  }
+
+  /**
+   * Returns whists that a player has against another player.
+   *
+   * @param place      player's place.
+   * @param otherPlace other player's place.
+   * @return whists value or null if not set.
+   */
+  public @Null Integer getWhistsAgainstPlayer(Place place, Place otherPlace) {
+    return valueOf(this.whists, this.whistsMask, ScoreMatrix.cell(place.index, otherPlace.index));
+  }
+
+  /**
+   * Returns whist fix that a player has against another player.
+   *
+   * @param place      player's place.
+   * @param otherPlace other player's place.
+   * @return whist fix or null if there is none.
+   */
+  public @Null Integer getWhistFixAgainstPlayer(Place place, Place otherPlace) {
+    return valueOf(this.whistFixes, this.whistFixesMask, ScoreMatrix.cell(place.index, otherPlace.index));
+  }
+
+  /**
+   * Returns whist saldo that a player has against another player;
+   * the player's total saldo is returned when both places are the same.
+   *
+   * @param place      player's place.
+   * @param otherPlace other player's place.
+   * @return whist saldo or null if not computed.
+   */
+  public @Null Integer getWhistSaldoAgainstPlayer(Place place, Place otherPlace) {
+    return valueOf(this.whistSaldos, this.whistSaldosMask, ScoreMatrix.cell(place.index, otherPlace.index));
+  }
+
+  /**
+   * Returns a string representation of the whists that a player has
+   * against another player (value followed by a '.').
+   *
+   * @param place      player's place.
+   * @param otherPlace other player's place.
+   * @return whists string or an empty string if the value is not set.
+   */
+  public String getWhistsStringForPlayer(Place place, Place otherPlace) {
+    Integer val = getWhistsAgainstPlayer(place, otherPlace);
+    return val == null ? "" : val + ".";
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return super.toString() + ": version=" + this.version +
+        ", finalScoresReady=" + this.finalScoresReady +
+        ", averageMountain=" + this.averageMountain +
+        ", minMountain=" + this.minMountain + ';';
+  }
+
+  /**
+   * Returns a value from an array of set values.
+   *
+   * @param values values array.
+   * @param mask   bit mask of the set values.
+   * @param idx    value index.
+   * @return the value or null if not set.
+   */
+  private static @Null Integer valueOf(int[] values, int mask, int idx) {
+    return ScoreMatrix.isSet(mask, idx) ? values[idx] : null;
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import static net.curre.prefcount.bean.ScoreMatrix.DIRTY_FINAL_SCORES;
+import static net.curre.prefcount.bean.ScoreMatrix.DIRTY_RESULTS;
+import static net.curre.prefcount.bean.ScoreMatrix.SIZE;
+import static net.curre.prefcount.bean.ScoreMatrix.cell;
+import static net.curre.prefcount.bean.ScoreMatrix.isSet;
+import static net.curre.prefcount.bean.ScoreMatrix.valueOrZero;
+
+/**
+ * Scoring kernel that computes the game results directly on the
+ * primitive arrays of a <code>ScoreMatrix</code>; no objects are
+ * allocated while computing the results. It lives in the bean package
+ * since it's the only code outside the beans that writes the matrix fields.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class ScoringKernel {
+
+  /** Private constructor - static methods only. */
+  private ScoringKernel() {
+  }
+
+  /**
+   * Computes the final player scores (minimum and average
+   * mountain, mount and whist fixes, and whist saldos).
+   *
+   * @param m           score matrix with all necessary game data.
+   * @param leningradka true for the Leningradka pref type.
+   * @param adjustIndex place index of the "divisible by N" adjustment
+   *                    player or -1 if divisibility of mount doesn't matter.
+   */
+  public static void computeFinalResults(ScoreMatrix m, boolean leningradka, int adjustIndex) {
+    final int players = m.playersMask;
+    final int playersNum = Integer.bitCount(players);
+    final int maxPool = m.maxPool();
+
+    // computing the average and minimum mountain
+    int min = Integer.MAX_VALUE;
+    int sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      if (isSet(players, i)) {
+        int currMountain = m.newMountain(i, leningradka, maxPool);
+        sum += currMountain;
+        if (currMountain < min) {
+          min = currMountain;
+        }
+      }
+    }
+
+    // resetting mount fix and whist values
+    m.mountFixesMask = 0;
+    m.whistFixesMask = 0;
+    m.whistSaldosMask = 0;
+
+    m.minMountain = min;
+
+    // determining the mount fix for the "divisible by N" option
+    int mountFix = 0;
+    if (adjustIndex >= 0) {
+      final int remainder = (sum - min * playersNum) % playersNum;
+      mountFix = doFixForDivisibleByN(m, remainder, adjustIndex);
+    }
+    final float average = (float) (sum + mountFix) / (float) playersNum - min;
+    m.averageMountain = Math.round(average * 100) / 100F;
+    m.averageMountainSet = true;
+
+    computeWhistSaldos(m);
+    m.invalidate(DIRTY_FINAL_SCORES);
+    m.dirty &= ~DIRTY_RESULTS;
+  }
+
+  /**
+   * Clears the computed whist saldo values.
+   *
+   * @param m score matrix to clear.
+   */
+  public static void clearFinalResults(ScoreMatrix m) {
+    m.whistSaldosMask = 0;
+    m.invalidate(DIRTY_FINAL_SCORES);
+  }
+
+  /**
+   * Sets whists that one player has against another and patches
+   * the already computed whist saldos in place: only the two pair
+   * cells and the two totals on the diagonal are shifted by the change
+   * (whist fixes depend on mountains and pools only, so they stay valid).
+   * When the saldos were not computed yet, or any other input changed
+   * since they were (the computed results are dirty), only the whist is set
+   * and the saldos are cleared, so they are recomputed with the final results.
+   * Setting the same value again is a no-op.
+   *
+   * @param m        score matrix to update.
+   * @param player   place index of the player who has the whists.
+   * @param other    place index of the player the whists are against.
+   * @param newWhist new whists value.
+   * @return change of the player's total whist saldo (the other
+   *         player's total changes by the negated value); 0 when
+   *         the saldos were not patched.
+   * @throws IllegalArgumentException if both indexes are the same.
+   */
+  public static int updateWhist(ScoreMatrix m, int player, int other, int newWhist) {
+    if (player == other) {
+      throw new IllegalArgumentException("Player can't have whists against himself: " + player);
+    }
+    final int currCell = cell(player, other);
+    final boolean wasSet = isSet(m.whistsMask, currCell);
+    final int delta = newWhist - valueOrZero(m.whists, m.whistsMask, currCell);
+    if (wasSet && delta == 0) {
+      return 0;
+    }
+    m.whists[currCell] = newWhist;
+    m.whistsMask |= 1 << currCell;
+
+    final int totalCell = cell(player, player);
+    final int otherTotalCell = cell(other, other);
+    final int pairMask = (1 << currCell) | (1 << totalCell) | (1 << otherTotalCell);
+    if (m.isDirty(DIRTY_RESULTS) || (m.whistSaldosMask & pairMask) != pairMask) {
+      m.whistSaldosMask = 0;
+      m.invalidate(DIRTY_FINAL_SCORES);
+      return 0;
+    }
+    m.touch();
+    if (delta == 0) {
+      return 0;
+    }
+    final int[] saldos = m.whistSaldos;
+    saldos[currCell] += delta;
+    saldos[cell(other, player)] -= delta;
+    saldos[totalCell] += delta;
+    saldos[otherTotalCell] -= delta;
+    return delta;
+  }
+
+  /**
+   * Computes the whists saldo/balances for all players;
+   * total player's saldo is stored on the matrix diagonal.
+   *
+   * @param m score matrix with the whists and whist fixes.
+   */
+  private static void computeWhistSaldos(ScoreMatrix m) {
+    final int players = m.playersMask;
+    final int[] whists = m.whists;
+    final int[] fixes = m.whistFixes;
+    final int[] saldos = m.whistSaldos;
+    for (int curr = 0; curr < SIZE; curr++) {
+      if (!isSet(players, curr)) {
+        continue;
+      }
+      int totalSaldo = 0;
+      for (int other = 0; other < SIZE; other++) {
+        if (other == curr || !isSet(players, other)) {
+          continue;
+        }
+        final int currCell = cell(curr, other);
+        if (!isSet(m.whistSaldosMask, currCell)) {
+          final int otherCell = cell(other, curr);
+          final int currWhist = valueOrZero(whists, m.whistsMask, currCell) +
+                                valueOrZero(fixes, m.whistFixesMask, currCell);
+          final int whistAgainst = valueOrZero(whists, m.whistsMask, otherCell) +
+                                   valueOrZero(fixes, m.whistFixesMask, otherCell);
+          saldos[currCell] = currWhist - whistAgainst;
+          saldos[otherCell] = whistAgainst - currWhist;
+          m.whistSaldosMask |= (1 << currCell) | (1 << otherCell);
+        }
+        totalSaldo += saldos[currCell];
+      }
+      // saving total saldo under the same (as the player's place) index
+      final int totalCell = cell(curr, curr);
+      saldos[totalCell] = totalSaldo;
+      m.whistSaldosMask |= 1 << totalCell;
+    }
+  }
+
+  /**
+   * Computes and sets the additional mount and whist fields
+   * for the "Divisible by N" option (public for the benchmarks;
+   * <code>computeFinalResults</code> resets the fixes before calling it).
+   *
+   * @param m           score matrix with all necessary game data.
+   * @param remainder   mount remainder.
+   * @param adjustIndex adjustment player's place index.
+   * @return computed mount fix that will make the sum of mounts divisible by N.
+   */
+  public static int doFixForDivisibleByN(ScoreMatrix m, int remainder, int adjustIndex) {
+    int mountFix = 0;
+
+    if (remainder != 0) {
+      final int playersNum = m.playersCount();
+
+      // remainder 1 is subtracted and remainder N-1 is added
+      // (nothing for the remainder 2 in a 4 players game)
+      final int fixWhist = playersNum - 1;
+      if (remainder == 1) {
+        // subtracting 1 from the adjustment player
+        mountFix = -1;
+        // writing the whists against this player
+        addWhistsFixAgainstSelf(m, adjustIndex, fixWhist);
+
+      } else if (remainder == playersNum - 1) {
+        // adding 1 to the adjustment player
+        mountFix = 1;
+        // writing the whists against other players
+        addWhistsFixAgainstOthers(m, adjustIndex, fixWhist);
+      }
+      if (mountFix != 0) {
+        m.mountFixes[adjustIndex] = mountFix;
+        m.mountFixesMask |= 1 << adjustIndex;
+      }
+    }
+    return mountFix;
+  }
+
+  /**
+   * Adds whist (additional whist fixes for the "divisible by N" option)
+   * against all other players provided the current player index.
+   *
+   * @param m      score matrix.
+   * @param player current player place index.
+   * @param value  whist value to add.
+   */
+  private static void addWhistsFixAgainstOthers(ScoreMatrix m, int player, int value) {
+    for (int other = 0; other < SIZE; other++) {
+      if (other != player && isSet(m.playersMask, other)) {
+        final int c = cell(player, other);
+        m.whistFixes[c] = value;
+        m.whistFixesMask |= 1 << c;
+      }
+    }
+  }
+
+  /**
+   * Adds whist (additional whist fixes for the "divisible by N" option)
+   * for all players against the given player.
+   *
+   * @param m      score matrix.
+   * @param player current player place index.
+   * @param value  whist value to add.
+   */
+  private static void addWhistsFixAgainstSelf(ScoreMatrix m, int player, int value) {
+    for (int other = 0; other < SIZE; other++) {
+      if (other != player && isSet(m.playersMask, other)) {
+        final int c = cell(other, player);
+        m.whistFixes[c] = value;
+        m.whistFixesMask |= 1 << c;
+      }
+    }
+  }
+}
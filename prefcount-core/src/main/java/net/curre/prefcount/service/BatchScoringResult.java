@@ -0,0 +1,195 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.gui.type.Place;
+
+/**
+ * Results of scoring a batch of games - per game
+ * results and the aggregate timing of the batch.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class BatchScoringResult {
+
+  /** Per game results, in the order of the scored games. */
+  private final List<GameResult> results;
+
+  /** Wall clock time it took to score the whole batch (in nanoseconds). */
+  private final long wallTimeNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param results       per game results.
+   * @param wallTimeNanos wall clock time it took to score the batch.
+   */
+  BatchScoringResult(GameResult[] results, long wallTimeNanos) {
+    this.results = Collections.unmodifiableList(Arrays.asList(results));
+    this.wallTimeNanos = wallTimeNanos;
+  }
+
+  /**
+   * Gets per game results, in the order of the scored games.
+   *
+   * @return per game results.
+   */
+  public List<GameResult> getResults() {
+    return this.results;
+  }
+
+  /**
+   * Gets the number of games in the batch.
+   *
+   * @return number of games in the batch.
+   */
+  public int getGamesCount() {
+    return this.results.size();
+  }
+
+  /**
+   * Gets the number of games that could not be scored.
+   *
+   * @return number of failed games.
+   */
+  public int getFailuresCount() {
+    int count = 0;
+    for (GameResult result : this.results) {
+      if (result.getError() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets wall clock time it took to score the whole batch.
+   *
+   * @return batch wall clock time in nanoseconds.
+   */
+  public long getWallTimeNanos() {
+    return this.wallTimeNanos;
+  }
+
+  /**
+   * Gets the sum of the times it took to score the individual
+   * games (on all threads).
+   *
+   * @return total scoring time in nanoseconds.
+   */
+  public long getTotalScoringNanos() {
+    long total = 0;
+    for (GameResult result : this.results) {
+      total += result.getScoringNanos();
+    }
+    return total;
+  }
+
+  /**
+   * Gets the batch throughput.
+   *
+   * @return number of scored games per second.
+   */
+  public double getGamesPerSecond() {
+    return this.wallTimeNanos == 0 ? 0 : this.results.size() * 1e9 / this.wallTimeNanos;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return "games=" + getGamesCount() + ", failures=" + getFailuresCount() +
+        ", wallTimeMs=" + this.wallTimeNanos / 1000000 +
+        ", scoringTimeMs=" + getTotalScoringNanos() / 1000000;
+  }
+
+  /** Result of scoring one game. */
+  public static class GameResult {
+
+    /** Scored game. */
+    private final GameResultBean bean;
+
+    /** Final scores in whists (indexed by place index); null if scoring failed. */
+    private final int[] finalScores;
+
+    /** Error that occurred while scoring the game; null if scoring succeeded. */
+    private final RuntimeException error;
+
+    /** Time it took to score the game (in nanoseconds). */
+    private final long scoringNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param bean         scored game.
+     * @param finalScores  final scores in whists or null if scoring failed.
+     * @param error        scoring error or null if scoring succeeded.
+     * @param scoringNanos time it took to score the game.
+     */
+    GameResult(GameResultBean bean, int[] finalScores, RuntimeException error, long scoringNanos) {
+      this.bean = bean;
+      this.finalScores = finalScores;
+      this.error = error;
+      this.scoringNanos = scoringNanos;
+    }
+
+    /**
+     * Gets the scored game.
+     *
+     * @return the scored game.
+     */
+    public GameResultBean getBean() {
+      return this.bean;
+    }
+
+    /**
+     * Gets the final score of the given player.
+     *
+     * @param place player's place.
+     * @return final score in whists.
+     * @throws IllegalStateException if the game could not be scored.
+     */
+    public int getFinalScoreInWhists(Place place) {
+      if (this.finalScores == null) {
+        throw new IllegalStateException("Game was not scored: " + this.error);
+      }
+      return this.finalScores[place.index];
+    }
+
+    /**
+     * Gets the error that occurred while scoring the game.
+     *
+     * @return scoring error or null if the game was scored successfully.
+     */
+    public RuntimeException getError() {
+      return this.error;
+    }
+
+    /**
+     * Gets the time it took to score the game.
+     *
+     * @return scoring time in nanoseconds.
+     */
+    public long getScoringNanos() {
+      return this.scoringNanos;
+    }
+  }
+}
@@ -0,0 +1,730 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Archive of the finished games, stored in a memory-mapped file of
+ * fixed-size records. A game ID is its record index, so the record offset
+ * is computed from the ID (the offset index is implicit) and any game is
+ * read in constant time; a scan goes through the file sequentially.
+ * Opening the archive only maps the file and reads its header, the games
+ * are read (or decoded into <code>GameResultBean</code>s) on demand.
+ * <p/>
+ * File format: a header (magic, version, record size, number of games)
+ * followed by the game records. A record holds the game options, the point
+ * cost and, for every place, the player name ID, the scores and the final
+ * results. The full player names are appended to a names file next to the
+ * archive (a name ID is its index in that file), so the records stay
+ * fixed-size whatever the name length. New names and then the new record
+ * are forced to the disk before the number of games is updated, so a crash
+ * while appending never leaves a partial game in the archive.
+ * <p/>
+ * The lifetime statistics of the players (<code>PlayerStatsIndex</code>) are
+ * updated with every archived game and saved next to the archive file; they
+ * are only rebuilt from the games when the saved index is missing or stale.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class GameArchive implements Closeable {
+
+  /** Archive file magic ("PCA1"). */
+  static final int MAGIC = 0x50434131;
+
+  /** Archive file format version. */
+  static final int VERSION = 2;
+
+  /** Player names file magic ("PCN1"). */
+  static final int NAMES_MAGIC = 0x50434E31;
+
+  /** Size of the file header. */
+  static final int HEADER_SIZE = 32;
+
+  /** Size of a player slot in a record. */
+  static final int SLOT_SIZE = 36;
+
+  /** Size of a game record. */
+  static final int RECORD_SIZE = 32 + 4 * SLOT_SIZE;
+
+  /** Number of records the file grows by at least. */
+  private static final int MIN_GROWTH = 64;
+
+  /** Encoded null value. */
+  private static final int NULL_VALUE = Integer.MIN_VALUE;
+
+  /** Header offset of the number of games. */
+  private static final int HEADER_COUNT = 12;
+
+  /** Header offset of the flag set when the saved player stats index is stale. */
+  private static final int HEADER_INDEX_STALE = 16;
+
+  /** Record offset of the time the game was archived. */
+  private static final int TIMESTAMP = 0;
+
+  /** Record offset of the Leningradka flag. */
+  private static final int LENINGRADKA = 8;
+
+  /** Record offset of the number of players. */
+  private static final int PLAYERS_NUMBER = 9;
+
+  /** Record offset of the "divisible by N" player index (-1 if there is none). */
+  private static final int DIVISIBLE_BY_N = 10;
+
+  /** Record offset of the point cost. */
+  private static final int POINT_COST = 16;
+
+  /** Record offset of the first player slot (slots are indexed by place index). */
+  private static final int SLOTS = 32;
+
+  /** Slot offset of the player name ID (-1 if there is no name). */
+  private static final int NAME = 0;
+
+  /** Slot offset of the mountain. */
+  private static final int MOUNTAIN = 4;
+
+  /** Slot offset of the pool. */
+  private static final int POOL = 8;
+
+  /** Slot offset of the whists (indexed by the other player's place index). */
+  private static final int WHISTS = 12;
+
+  /** Slot offset of the new mountain. */
+  private static final int NEW_MOUNTAIN = 28;
+
+  /** Slot offset of the final score in whists. */
+  private static final int FINAL_SCORE = 32;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(GameArchive.class.getName());
+
+  /** Archive file channel. */
+  private final FileChannel channel;
+
+  /** Path to the player stats index file. */
+  private final Path indexPath;
+
+  /** Player names by the name ID (read by the game views without locking). */
+  private final List<String> names;
+
+  /** Player name IDs by the name. */
+  private final Map<String, Integer> nameIds;
+
+  /** Player names file channel (positioned at the end of the names). */
+  private FileChannel namesChannel;
+
+  /** Lifetime statistics of the players. */
+  private PlayerStatsIndex statsIndex;
+
+  /** Mapped archive file (remapped when the file grows). */
+  private MappedByteBuffer buffer;
+
+  /** Number of records the mapped file can hold. */
+  private int capacity;
+
+  /** Number of archived games. */
+  private int count;
+
+  /**
+   * Opens (or creates) an archive.
+   *
+   * @param path path to the archive file.
+   * @throws ServiceException if the file can't be opened or it is not an archive.
+   */
+  public GameArchive(Path path) throws ServiceException {
+    this.indexPath = path.resolveSibling(path.getFileName() + ".index");
+    this.names = new CopyOnWriteArrayList<>();
+    this.nameIds = new HashMap<>();
+    try {
+      this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                      StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new ServiceException("Unable to open the game archive " + path, e);
+    }
+    try {
+      final long size = this.channel.size();
+      if (size == 0) {
+        map(MIN_GROWTH);
+        this.buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, RECORD_SIZE).putInt(HEADER_COUNT, 0);
+        this.buffer.force();
+      } else {
+        if (size < HEADER_SIZE) {
+          throw new ServiceException("Game archive " + path + " is truncated");
+        }
+        map((int) ((size - HEADER_SIZE) / RECORD_SIZE));
+        if (this.buffer.getInt(0) != MAGIC || this.buffer.getInt(8) != RECORD_SIZE) {
+          throw new ServiceException("File " + path + " is not a game archive");
+        }
+        if (this.buffer.getInt(4) != VERSION) {
+          throw new ServiceException("Unsupported game archive version " + this.buffer.getInt(4));
+        }
+        this.count = this.buffer.getInt(HEADER_COUNT);
+        if (this.count < 0 || this.count > this.capacity) {
+          throw new ServiceException("Game archive " + path + " is corrupted");
+        }
+      }
+      openNames(path.resolveSibling(path.getFileName() + ".names"));
+    } catch (IOException | ServiceException e) {
+      try {
+        this.channel.close();
+        if (this.namesChannel != null) {
+          this.namesChannel.close();
+        }
+      } catch (IOException closeException) {
+        logger.warn("Unable to close the game archive", closeException);
+      }
+      throw e instanceof ServiceException ? (ServiceException) e :
+            new ServiceException("Unable to read the game archive " + path, e);
+    }
+    logger.info("Opened the game archive with {} games", this.count);
+
+    this.statsIndex = PlayerStatsIndex.load(this.indexPath);
+    if (this.statsIndex == null || this.statsIndex.getGameCount() != this.count ||
+        this.buffer.getInt(HEADER_INDEX_STALE) != 0) {
+      rebuildStatsIndex();
+    }
+  }
+
+  /**
+   * Gets the number of archived games.
+   *
+   * @return number of games (the game IDs are 0 to count - 1).
+   */
+  public synchronized int getGameCount() {
+    return this.count;
+  }
+
+  /**
+   * Archives a finished game (its final results have to be generated) and
+   * sets its archived game ID. A game that is already archived (it has the
+   * ID of an archived game) is not archived again.
+   *
+   * @param rBean finished game.
+   * @return ID of the archived game.
+   * @throws ServiceException if the game can't be written.
+   */
+  public synchronized int append(GameResultBean rBean) throws ServiceException {
+    if (rBean.getArchivedGameId() >= 0 && rBean.getArchivedGameId() < this.count) {
+      logger.debug("Game {} is already archived", rBean.getArchivedGameId());
+      return rBean.getArchivedGameId();
+    }
+    try {
+      if (this.count == this.capacity) {
+        map(this.capacity + Math.max(MIN_GROWTH, this.capacity / 2));
+      }
+      final int id = this.count;
+      final int record = getOffset(id);
+      final int namesCount = this.names.size();
+      for (int i = 0; i < RECORD_SIZE; i++) {
+        this.buffer.put(record + i, (byte) 0);
+      }
+      this.buffer.putLong(record + TIMESTAMP, System.currentTimeMillis());
+      this.buffer.put(record + LENINGRADKA, (byte) (rBean.isLeningradka() ? 1 : 0));
+      this.buffer.put(record + PLAYERS_NUMBER, (byte) rBean.getNumberOfPlayers());
+      final Place divisiblePlace = rBean.getDivisibleByNPlayer();
+      this.buffer.put(record + DIVISIBLE_BY_N, (byte) (divisiblePlace == null ? -1 : divisiblePlace.index));
+      for (Place place : Place.getPlaces(rBean.getNumberOfPlayers())) {
+        final PlayerStatistics stats = rBean.getPlayerStats().get(place);
+        final int slot = record + SLOTS + place.index * SLOT_SIZE;
+        this.buffer.putInt(slot + NAME, getNameId(stats.getPlayerName()));
+        this.buffer.putInt(slot + MOUNTAIN, encode(stats.getMountain()));
+        this.buffer.putInt(slot + POOL, encode(stats.getPool()));
+        for (Place other : Place.values()) {
+          this.buffer.putInt(slot + WHISTS + other.index * 4,
+                             other == place ? NULL_VALUE : encode(stats.getWhistsAgainstPlayer(other)));
+        }
+        this.buffer.putInt(slot + NEW_MOUNTAIN, rBean.getNewMountain(place));
+        this.buffer.putInt(slot + FINAL_SCORE, rBean.getFinalScoreInWhists(place));
+      }
+      // the game is archived only when the number of games is updated (after the record is on the disk)
+      if (this.names.size() != namesCount) {
+        this.namesChannel.force(false);
+      }
+      this.buffer.force();
+      this.buffer.putInt(HEADER_COUNT, id + 1);
+      this.buffer.force();
+      this.count = id + 1;
+
+      this.statsIndex.addGame(new ArchivedGame(this.buffer, this.names, id));
+      saveStatsIndex();
+      rBean.setArchivedGameId(id);
+      return id;
+    } catch (IOException e) {
+      throw new ServiceException("Unable to archive the game", e);
+    }
+  }
+
+  /**
+   * Removes the last archived game (e.g. when the user goes back to edit it).
+   *
+   * @param id ID of the game to remove.
+   * @return true if the game was removed; false if it's not the last game.
+   */
+  public synchronized boolean removeLastGame(int id) {
+    if (id < 0 || id != this.count - 1) {
+      return false;
+    }
+    this.statsIndex.removeGame(new ArchivedGame(this.buffer, this.names, id));
+    this.count = id;
+    this.buffer.putInt(HEADER_COUNT, id);
+    this.buffer.force();
+    saveStatsIndex();
+    return true;
+  }
+
+  /**
+   * Sets the cost of one point of an archived game. The players money
+   * statistics are updated right away, but they are saved only when the
+   * archive is closed or the next game is archived (the cost changes with
+   * every typed key).
+   *
+   * @param id   game ID.
+   * @param cost cost of one point.
+   */
+  public synchronized void setPointCost(int id, double cost) {
+    checkId(id);
+    final ArchivedGame game = new ArchivedGame(this.buffer, this.names, id);
+    final double oldCost = game.getPointCost();
+    this.buffer.putDouble(getOffset(id) + POINT_COST, cost);
+    this.statsIndex.updatePointCost(game, oldCost);
+    this.buffer.putInt(HEADER_INDEX_STALE, 1);
+  }
+
+  /**
+   * Gets the lifetime statistics of all players.
+   *
+   * @return the players statistics sorted by the normalized name.
+   */
+  public synchronized List<PlayerStatsIndex.Entry> getPlayerStats() {
+    return this.statsIndex.getEntries();
+  }
+
+  /**
+   * Gets the lifetime statistics of a player.
+   *
+   * @param name player name (matched by the normalized name).
+   * @return the player statistics or null if the player didn't play any archived game.
+   */
+  public synchronized PlayerStatsIndex.Entry getPlayerStats(String name) {
+    return this.statsIndex.getEntry(name);
+  }
+
+  /**
+   * Gets an archived game (a view of its record, nothing is decoded).
+   *
+   * @param id game ID.
+   * @return the game.
+   */
+  public synchronized ArchivedGame getArchivedGame(int id) {
+    checkId(id);
+    return new ArchivedGame(this.buffer, this.names, id);
+  }
+
+  /**
+   * Decodes an archived game into a new game result bean
+   * (its final results can be generated again).
+   *
+   * @param id game ID.
+   * @return the game.
+   */
+  public GameResultBean getGame(int id) {
+    final ArchivedGame game = getArchivedGame(id);
+    final GameResultBean rBean = new GameResultBean(game.isLeningradka() ? PrefType.LENINGRAD : PrefType.SOCHI,
+                                                    game.getNumberOfPlayers());
+    for (Place place : Place.getPlaces(game.getNumberOfPlayers())) {
+      final PlayerStatistics stats = rBean.getPlayerStats().get(place);
+      stats.setPlayerName(game.getPlayerName(place));
+      stats.setMountain(game.getMountain(place));
+      stats.setPool(game.getPool(place));
+      for (Place other : Place.getOtherPlayersWhistPlaces(place, game.getNumberOfPlayers())) {
+        stats.setWhistsAgainstPlayer(other, game.getWhistsAgainstPlayer(place, other));
+      }
+    }
+    rBean.setMountDivisibleByN(game.getDivisibleByNPlayer());
+    return rBean;
+  }
+
+  /**
+   * Scans all archived games in the ID order. The same game view is reused
+   * for all games, so it must not be kept by the consumer.
+   *
+   * @param consumer consumer of the games.
+   */
+  public void scan(Consumer<ArchivedGame> consumer) {
+    final MappedByteBuffer mapped;
+    final int games;
+    synchronized (this) {
+      mapped = this.buffer;
+      games = this.count;
+    }
+    final ArchivedGame game = new ArchivedGame(mapped, this.names, 0);
+    for (int id = 0; id < games; id++) {
+      game.id = id;
+      game.offset = getOffset(id);
+      consumer.accept(game);
+    }
+  }
+
+  /** Forces the archive to the disk and closes the file. */
+  @Override
+  public synchronized void close() {
+    if (this.buffer.getInt(HEADER_INDEX_STALE) != 0) {
+      saveStatsIndex();
+    }
+    try {
+      this.buffer.force();
+      this.channel.close();
+      this.namesChannel.close();
+    } catch (IOException e) {
+      logger.warn("Unable to close the game archive", e);
+    }
+  }
+
+  /** Rebuilds the player stats index from all archived games and saves it. */
+  private void rebuildStatsIndex() {
+    final long start = System.currentTimeMillis();
+    this.statsIndex = new PlayerStatsIndex();
+    scan(this.statsIndex::addGame);
+    logger.info("Rebuilt the player stats index of {} games in {}ms",
+                this.count, System.currentTimeMillis() - start);
+    saveStatsIndex();
+  }
+
+  /** Saves the player stats index (the index is marked stale if it can't be saved). */
+  private void saveStatsIndex() {
+    try {
+      this.statsIndex.save(this.indexPath);
+      this.buffer.putInt(HEADER_INDEX_STALE, 0);
+    } catch (IOException e) {
+      logger.warn("Unable to save the player stats index", e);
+      this.buffer.putInt(HEADER_INDEX_STALE, 1);
+    }
+    this.buffer.force();
+  }
+
+  /**
+   * Maps the archive file (grows the file if needed).
+   *
+   * @param records number of records the mapped file should hold.
+   * @throws IOException on an I/O error.
+   */
+  private void map(int records) throws IOException {
+    this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) records * RECORD_SIZE);
+    this.capacity = records;
+  }
+
+  /**
+   * Opens (or creates) the player names file and reads the names. An
+   * incomplete name at the end of the file (torn by a crash, so no game
+   * refers to it) is discarded.
+   *
+   * @param namesPath path to the names file.
+   * @throws IOException      on an I/O error.
+   * @throws ServiceException if the file is not a names file.
+   */
+  private void openNames(Path namesPath) throws IOException, ServiceException {
+    this.namesChannel = FileChannel.open(namesPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                         StandardOpenOption.WRITE);
+    final long size = this.namesChannel.size();
+    if (size < 4) {
+      this.namesChannel.truncate(0);
+      writeFully(this.namesChannel, ByteBuffer.allocate(4).putInt(0, NAMES_MAGIC));
+      this.namesChannel.force(false);
+      return;
+    }
+    final ByteBuffer data = ByteBuffer.allocate((int) size);
+    while (data.hasRemaining() && this.namesChannel.read(data, data.position()) >= 0) {
+      // reading the whole file
+    }
+    if (data.getInt(0) != NAMES_MAGIC) {
+      throw new ServiceException("File " + namesPath + " is not a player names file");
+    }
+    final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data.array(), 4, (int) size - 4));
+    long valid = 4;
+    try {
+      while (in.available() > 0) {
+        final String name = in.readUTF();
+        this.nameIds.put(name, this.names.size());
+        this.names.add(name);
+        valid = size - in.available();
+      }
+    } catch (EOFException | UTFDataFormatException e) {
+      logger.warn("Discarding {} bytes of an incomplete player name", size - valid);
+      this.namesChannel.truncate(valid);
+    }
+    this.namesChannel.position(valid);
+  }
+
+  /**
+   * Gets the ID of a player name; a new name is appended to the names file
+   * (the caller forces the file to the disk).
+   *
+   * @param name player name or null.
+   * @return the name ID or -1 for null.
+   * @throws IOException on a write error.
+   */
+  private int getNameId(String name) throws IOException {
+    if (name == null) {
+      return -1;
+    }
+    Integer id = this.nameIds.get(name);
+    if (id == null) {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream(2 + name.length());
+      new DataOutputStream(bytes).writeUTF(name);
+      writeFully(this.namesChannel, ByteBuffer.wrap(bytes.toByteArray()));
+      id = this.names.size();
+      this.names.add(name);
+      this.nameIds.put(name, id);
+    }
+    return id;
+  }
+
+  /**
+   * Writes all remaining bytes to a channel.
+   *
+   * @param channel channel to write to.
+   * @param data    bytes to write.
+   * @throws IOException on a write error.
+   */
+  private static void writeFully(FileChannel channel, ByteBuffer data) throws IOException {
+    while (data.hasRemaining()) {
+      channel.write(data);
+    }
+  }
+
+  /**
+   * Checks that a game ID is valid.
+   *
+   * @param id game ID.
+   */
+  private void checkId(int id) {
+    if (id < 0 || id >= this.count) {
+      throw new IllegalArgumentException("Invalid game ID " + id + ", the archive has " + this.count + " games");
+    }
+  }
+
+  /**
+   * Computes the offset of a game record.
+   *
+   * @param id game ID.
+   * @return the record offset.
+   */
+  private static int getOffset(int id) {
+    return HEADER_SIZE + id * RECORD_SIZE;
+  }
+
+  /**
+   * Encodes a nullable integer.
+   *
+   * @param value value or null.
+   * @return the encoded value.
+   */
+  private static int encode(Integer value) {
+    return value == null ? NULL_VALUE : value;
+  }
+
+  /**
+   * Decodes a nullable integer.
+   *
+   * @param value encoded value.
+   * @return the value or null.
+   */
+  private static Integer decode(int value) {
+    return value == NULL_VALUE ? null : value;
+  }
+
+  /** View of an archived game that reads its values from the archive record. */
+  public static class ArchivedGame {
+
+    /** Mapped archive file. */
+    private final MappedByteBuffer buffer;
+
+    /** Player names by the name ID. */
+    private final List<String> names;
+
+    /** Game ID. */
+    private int id;
+
+    /** Game record offset. */
+    private int offset;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer mapped archive file.
+     * @param names  player names by the name ID.
+     * @param id     game ID.
+     */
+    ArchivedGame(MappedByteBuffer buffer, List<String> names, int id) {
+      this.buffer = buffer;
+      this.names = names;
+      this.id = id;
+      this.offset = getOffset(id);
+    }
+
+    /**
+     * Gets the game ID.
+     *
+     * @return game ID.
+     */
+    public int getId() {
+      return this.id;
+    }
+
+    /**
+     * Gets the time the game was archived.
+     *
+     * @return time in milliseconds.
+     */
+    public long getTimestamp() {
+      return this.buffer.getLong(this.offset + TIMESTAMP);
+    }
+
+    /**
+     * Determines if the game is Leningradka.
+     *
+     * @return true if the game is Leningradka; false if it's Sochi.
+     */
+    public boolean isLeningradka() {
+      return this.buffer.get(this.offset + LENINGRADKA) != 0;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return number of players (3 or 4).
+     */
+    public int getNumberOfPlayers() {
+      return this.buffer.get(this.offset + PLAYERS_NUMBER);
+    }
+
+    /**
+     * Gets the "divisible by N" player.
+     *
+     * @return the player's place or null if the divisibility didn't matter.
+     */
+    public Place getDivisibleByNPlayer() {
+      final int index = this.buffer.get(this.offset + DIVISIBLE_BY_N);
+      return index < 0 ? null : Place.getPlaceForIndex(index);
+    }
+
+    /**
+     * Gets the cost of one point.
+     *
+     * @return the point cost (0 if it wasn't set).
+     */
+    public double getPointCost() {
+      return this.buffer.getDouble(this.offset + POINT_COST);
+    }
+
+    /**
+     * Gets a player name.
+     *
+     * @param place player's place.
+     * @return the name or null.
+     */
+    public String getPlayerName(Place place) {
+      final int nameId = this.buffer.getInt(getSlot(place) + NAME);
+      return nameId < 0 || nameId >= this.names.size() ? null : this.names.get(nameId);
+    }
+
+    /**
+     * Gets a player's mountain.
+     *
+     * @param place player's place.
+     * @return the mountain or null.
+     */
+    public Integer getMountain(Place place) {
+      return decode(this.buffer.getInt(getSlot(place) + MOUNTAIN));
+    }
+
+    /**
+     * Gets a player's pool.
+     *
+     * @param place player's place.
+     * @return the pool or null.
+     */
+    public Integer getPool(Place place) {
+      return decode(this.buffer.getInt(getSlot(place) + POOL));
+    }
+
+    /**
+     * Gets a player's whists against another player.
+     *
+     * @param place      player's place.
+     * @param otherPlace other player's place.
+     * @return the whists or null.
+     */
+    public Integer getWhistsAgainstPlayer(Place place, Place otherPlace) {
+      return decode(this.buffer.getInt(getSlot(place) + WHISTS + otherPlace.index * 4));
+    }
+
+    /**
+     * Gets a player's new computed mountain.
+     *
+     * @param place player's place.
+     * @return the new mountain.
+     */
+    public int getNewMountain(Place place) {
+      return this.buffer.getInt(getSlot(place) + NEW_MOUNTAIN);
+    }
+
+    /**
+     * Gets a player's final score (balance) in whists.
+     *
+     * @param place player's place.
+     * @return the final score.
+     */
+    public int getFinalScoreInWhists(Place place) {
+      return this.buffer.getInt(getSlot(place) + FINAL_SCORE);
+    }
+
+    /**
+     * Computes the offset of a player slot.
+     *
+     * @param place player's place.
+     * @return the slot offset.
+     */
+    private int getSlot(Place place) {
+      return this.offset + SLOTS + place.index * SLOT_SIZE;
+    }
+  }
+}
@@ -0,0 +1,742 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.gui.type.Place;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Write-ahead journal of the game in progress, so that the score sheet
+ * survives a crash or a power cut. Every committed change (player names,
+ * player scores, the "divisible by N" player, the finished state) is
+ * appended as a compact binary record; a checkpoint record with the whole game state replaces
+ * the journal contents every <code>CHECKPOINT_INTERVAL</code> records (and
+ * after a restore), so replaying the journal only goes through the changes
+ * made since the last checkpoint. A finished game is not restored: a new
+ * game is started instead.
+ * <p/>
+ * Records are appended to a memory buffer on the calling thread and written
+ * by a background thread with group commit: all records appended while the
+ * previous group is being forced to the disk are written and forced together.
+ * <p/>
+ * File format: a header (magic, version) followed by records; a record is
+ * the body length (int), the body (record type byte and data) and the CRC32
+ * of the body (int). Replay stops at the first incomplete or corrupted record
+ * (e.g. a record torn by a power cut).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class GameJournal implements Closeable {
+
+  /** Number of records after which the journal is compacted into a checkpoint. */
+  public static final int CHECKPOINT_INTERVAL = 64;
+
+  /** Journal file magic ("PCJ1"). */
+  static final int MAGIC = 0x50434A31;
+
+  /** Journal file format version. */
+  static final int VERSION = 2;
+
+  /** Record with the whole game state. */
+  static final byte CHECKPOINT = 1;
+
+  /** Record with the player names (and so the number of players). */
+  static final byte PLAYER_NAMES = 2;
+
+  /** Record with one player's scores. */
+  static final byte PLAYER_SCORES = 3;
+
+  /** Record with the "divisible by N" player. */
+  static final byte DIVISIBLE_BY_N = 4;
+
+  /** Record with the finished state (final scores ready and the archived game ID). */
+  static final byte FINISHED = 5;
+
+  /** Encoded null value. */
+  private static final int NULL_VALUE = Integer.MIN_VALUE;
+
+  /** Max size of a record body (larger sizes mean a corrupted record). */
+  private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+  /** Size of the file header. */
+  private static final int HEADER_SIZE = 8;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(GameJournal.class.getName());
+
+  /** Path to the journal file. */
+  private final Path path;
+
+  /** Writer of the record groups (its thread is started on demand). */
+  private final ExecutorService committer;
+
+  /** Lock guarding the pending records and the counters. */
+  private final Object lock = new Object();
+
+  /** Records waiting to be written. */
+  private final ByteArrayOutputStream pending;
+
+  /** Checkpoint waiting to replace the journal contents or null if there is none. */
+  private byte[] pendingCheckpoint;
+
+  /** Indicates that a commit of the pending records is scheduled. */
+  private boolean commitScheduled;
+
+  /** Indicates that the journal file must be rewritten (a write failed and may have left a torn record). */
+  private boolean rewriteRequired;
+
+  /** Number of the appended records. */
+  private long appendedCount;
+
+  /** Number of the records written to the disk. */
+  private long committedCount;
+
+  /** Number of the group commits. */
+  private long commitCount;
+
+  /** Number of the records appended since the last checkpoint. */
+  private int recordsSinceCheckpoint;
+
+  /** Channel of the journal file (accessed by the committer only) or null if it's not open. */
+  private FileChannel channel;
+
+  /** Checkpoint the journal file starts with (accessed by the committer only) or null if there is none. */
+  private byte[] writtenCheckpoint;
+
+  /** Records written to the journal file after its checkpoint (accessed by the committer only). */
+  private final ByteArrayOutputStream writtenRecords = new ByteArrayOutputStream(1024);
+
+  /**
+   * Constructor.
+   *
+   * @param path path to the journal file.
+   */
+  public GameJournal(Path path) {
+    this.path = path;
+    this.pending = new ByteArrayOutputStream(1024);
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+      Thread thread = new Thread(r, "prefcount-game-journal");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true);
+    this.committer = executor;
+  }
+
+  /**
+   * Replays the journal into a game and replaces the journal contents with a
+   * checkpoint of the restored game. A missing or unreadable journal leaves
+   * the game unchanged (and starts a new journal). If the journaled game was
+   * finished, a new game with the same type and number of players is started.
+   *
+   * @param rBean game to restore.
+   * @return true if a game in progress was restored.
+   */
+  public boolean restore(GameResultBean rBean) {
+    int replayed = 0;
+    try {
+      final byte[] data = Files.readAllBytes(this.path);
+      final ByteBuffer buffer = ByteBuffer.wrap(data);
+      if (data.length < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        logger.warn("Ignoring invalid game journal {}", this.path);
+      } else {
+        final CRC32 crc = new CRC32();
+        while (buffer.remaining() >= 4) {
+          final int length = buffer.getInt();
+          if (length <= 0 || length > MAX_RECORD_SIZE || buffer.remaining() < length + 4) {
+            break;
+          }
+          crc.reset();
+          crc.update(data, buffer.position(), length);
+          if ((int) crc.getValue() != buffer.getInt(buffer.position() + length)) {
+            break;
+          }
+          replay(rBean, new DataInputStream(new ByteArrayInputStream(data, buffer.position(), length)));
+          buffer.position(buffer.position() + length + 4);
+          replayed++;
+        }
+        if (buffer.hasRemaining()) {
+          logger.warn("Discarding {} bytes of an incomplete game journal record", buffer.remaining());
+        }
+        logger.info("Replayed {} game journal records", replayed);
+      }
+    } catch (NoSuchFileException e) {
+      logger.info("No game journal found, starting a new one");
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Unable to replay the game journal", e);
+    }
+    if (rBean.isFinalScoresReady()) {
+      logger.info("Last journaled game is finished, starting a new game");
+      rBean.resetNumberOfPlayers(rBean.getNumberOfPlayers());
+      rBean.setMountDivisibleByN(null);
+      rBean.setFinalScoresReady(false);
+      replayed = 0;
+    }
+    checkpoint(rBean);
+    return replayed > 0;
+  }
+
+  /**
+   * Appends the player names (and so the number of players) of a game.
+   *
+   * @param rBean game.
+   */
+  public void logPlayerNames(GameResultBean rBean) {
+    final RecordWriter writer = new RecordWriter(PLAYER_NAMES);
+    writer.writeByte(rBean.getNumberOfPlayers());
+    for (Place place : Place.getPlaces(rBean.getNumberOfPlayers())) {
+      writer.writeString(rBean.getPlayerStats().get(place).getPlayerName());
+    }
+    append(rBean, writer);
+  }
+
+  /**
+   * Appends one player's scores (mountain, pool and whists) of a game.
+   *
+   * @param rBean game.
+   * @param place player's place.
+   */
+  public void logPlayerScores(GameResultBean rBean, Place place) {
+    final RecordWriter writer = new RecordWriter(PLAYER_SCORES);
+    writePlayerScores(writer, rBean, place);
+    append(rBean, writer);
+  }
+
+  /**
+   * Appends the "divisible by N" player of a game.
+   *
+   * @param rBean game.
+   */
+  public void logDivisibleByN(GameResultBean rBean) {
+    final RecordWriter writer = new RecordWriter(DIVISIBLE_BY_N);
+    final Place place = rBean.getDivisibleByNPlayer();
+    writer.writeByte(place == null ? -1 : place.index);
+    append(rBean, writer);
+  }
+
+  /**
+   * Appends the finished state of a game: whether its final scores are
+   * entered and its ID in the game archive.
+   *
+   * @param rBean game.
+   */
+  public void logFinished(GameResultBean rBean) {
+    final RecordWriter writer = new RecordWriter(FINISHED);
+    writer.writeBoolean(rBean.isFinalScoresReady());
+    writer.writeNullableInt(rBean.getArchivedGameId());
+    append(rBean, writer);
+  }
+
+  /**
+   * Replaces the journal contents with a checkpoint of the whole game
+   * (e.g. when a new game is started).
+   *
+   * @param rBean game.
+   */
+  public void checkpoint(GameResultBean rBean) {
+    final RecordWriter writer = new RecordWriter(CHECKPOINT);
+    writer.writeBoolean(rBean.isLeningradka());
+    writer.writeByte(rBean.getNumberOfPlayers());
+    final Place divisiblePlace = rBean.getDivisibleByNPlayer();
+    writer.writeByte(divisiblePlace == null ? -1 : divisiblePlace.index);
+    writer.writeBoolean(rBean.isFinalScoresReady());
+    writer.writeNullableInt(rBean.getArchivedGameId());
+    for (Place place : Place.getPlaces(rBean.getNumberOfPlayers())) {
+      writer.writeString(rBean.getPlayerStats().get(place).getPlayerName());
+      writePlayerScores(writer, rBean, place);
+    }
+    synchronized (this.lock) {
+      // the checkpoint supersedes all pending records
+      this.pendingCheckpoint = writer.toRecord();
+      this.pending.reset();
+      this.recordsSinceCheckpoint = 0;
+      this.appendedCount++;
+      scheduleCommit();
+    }
+  }
+
+  /**
+   * Waits until all appended records are written to the disk. Records that
+   * failed to be written are kept pending until the next commit (triggered
+   * by the next appended record).
+   *
+   * @param timeout max time to wait (in milliseconds).
+   * @return true if all records are written; false if the time ran out.
+   * @throws InterruptedException if the calling thread is interrupted.
+   */
+  public boolean sync(long timeout) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + timeout;
+    synchronized (this.lock) {
+      final long target = this.appendedCount;
+      while (this.committedCount < target) {
+        final long left = deadline - System.currentTimeMillis();
+        if (left <= 0) {
+          return false;
+        }
+        this.lock.wait(left);
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Gets the number of the appended records (including the checkpoints).
+   *
+   * @return number of records.
+   */
+  public long getRecordCount() {
+    synchronized (this.lock) {
+      return this.appendedCount;
+    }
+  }
+
+  /**
+   * Gets the number of the group commits (file writes followed by a force).
+   *
+   * @return number of commits.
+   */
+  public long getCommitCount() {
+    synchronized (this.lock) {
+      return this.commitCount;
+    }
+  }
+
+  /**
+   * Writes the pending records and closes the journal file
+   * (the journal can still be appended to; it's reopened then).
+   */
+  @Override
+  public void close() {
+    try {
+      if (!sync(1000)) {
+        logger.warn("Game journal was not written in time");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    this.committer.execute(this::closeChannel);
+  }
+
+  /**
+   * Appends a record (replaces the journal with a checkpoint every
+   * <code>CHECKPOINT_INTERVAL</code> records).
+   *
+   * @param rBean  game the record belongs to.
+   * @param writer writer with the record data.
+   */
+  private void append(GameResultBean rBean, RecordWriter writer) {
+    final byte[] record = writer.toRecord();
+    final boolean checkpoint;
+    synchronized (this.lock) {
+      this.pending.write(record, 0, record.length);
+      this.appendedCount++;
+      checkpoint = ++this.recordsSinceCheckpoint >= CHECKPOINT_INTERVAL;
+      scheduleCommit();
+    }
+    if (checkpoint) {
+      checkpoint(rBean);
+    }
+  }
+
+  /** Schedules a commit of the pending records unless one is already scheduled; call under the lock. */
+  private void scheduleCommit() {
+    if (!this.commitScheduled) {
+      this.commitScheduled = true;
+      this.committer.execute(this::commit);
+    }
+  }
+
+  /**
+   * Writes the pending records (or the pending checkpoint) as one group; runs
+   * on the committer thread. If the write fails, the group is kept pending
+   * (unless a newer checkpoint supersedes it) and the next commit rewrites the
+   * whole journal, so a partly written group never stays in the file.
+   */
+  private void commit() {
+    final byte[] checkpoint;
+    final byte[] records;
+    final boolean rewrite;
+    final long target;
+    synchronized (this.lock) {
+      checkpoint = this.pendingCheckpoint;
+      records = this.pending.toByteArray();
+      rewrite = this.rewriteRequired;
+      target = this.appendedCount;
+      this.pendingCheckpoint = null;
+      this.pending.reset();
+      this.rewriteRequired = false;
+      this.commitScheduled = false;
+    }
+    boolean written = false;
+    try {
+      if (checkpoint != null) {
+        rewrite(checkpoint, records);
+        this.writtenCheckpoint = checkpoint;
+        this.writtenRecords.reset();
+      } else if (rewrite) {
+        final ByteArrayOutputStream all = new ByteArrayOutputStream(this.writtenRecords.size() + records.length);
+        this.writtenRecords.writeTo(all);
+        all.write(records, 0, records.length);
+        rewrite(this.writtenCheckpoint, all.toByteArray());
+      } else {
+        if (this.channel == null) {
+          openChannel();
+        }
+        writeFully(this.channel, records);
+        this.channel.force(false);
+      }
+      this.writtenRecords.write(records, 0, records.length);
+      written = true;
+    } catch (IOException e) {
+      logger.warn("Unable to write the game journal", e);
+      closeChannel();
+    }
+    synchronized (this.lock) {
+      this.commitCount++;
+      if (written) {
+        this.committedCount = target;
+        this.lock.notifyAll();
+      } else if (this.pendingCheckpoint == null) {
+        final byte[] newer = this.pending.toByteArray();
+        this.pending.reset();
+        this.pending.write(records, 0, records.length);
+        this.pending.write(newer, 0, newer.length);
+        if (checkpoint != null) {
+          this.pendingCheckpoint = checkpoint;
+        } else {
+          this.rewriteRequired = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the journal file with a new one that starts with a checkpoint.
+   *
+   * @param checkpoint checkpoint record or null if the journal has no checkpoint.
+   * @param records    records appended after the checkpoint.
+   * @throws IOException on a write error.
+   */
+  private void rewrite(byte[] checkpoint, byte[] records) throws IOException {
+    closeChannel();
+    final Path temp = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+    try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeFully(tempChannel, ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).array());
+      if (checkpoint != null) {
+        writeFully(tempChannel, checkpoint);
+      }
+      writeFully(tempChannel, records);
+      tempChannel.force(false);
+    }
+    try {
+      Files.move(temp, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, this.path, StandardCopyOption.REPLACE_EXISTING);
+    }
+    openChannel();
+  }
+
+  /**
+   * Opens the journal file for appending.
+   *
+   * @throws IOException on an I/O error.
+   */
+  private void openChannel() throws IOException {
+    this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                    StandardOpenOption.APPEND);
+  }
+
+  /** Closes the journal file (if it's open). */
+  private void closeChannel() {
+    if (this.channel != null) {
+      try {
+        this.channel.close();
+      } catch (IOException e) {
+        logger.warn("Unable to close the game journal", e);
+      }
+      this.channel = null;
+    }
+  }
+
+  /**
+   * Writes all given bytes to a channel.
+   *
+   * @param channel channel to write to.
+   * @param data    bytes to write.
+   * @throws IOException on a write error.
+   */
+  private static void writeFully(FileChannel channel, byte[] data) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(data);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Writes one player's scores.
+   *
+   * @param writer record writer.
+   * @param rBean  game.
+   * @param place  player's place.
+   */
+  private static void writePlayerScores(RecordWriter writer, GameResultBean rBean, Place place) {
+    final PlayerStatistics stats = rBean.getPlayerStats().get(place);
+    final Place[] places = Place.getPlaces(rBean.getNumberOfPlayers());
+    writer.writeByte(place.index);
+    writer.writeNullableInt(stats.getMountain());
+    writer.writeNullableInt(stats.getPool());
+    writer.writeByte(places.length - 1);
+    for (Place other : places) {
+      if (other != place) {
+        writer.writeByte(other.index);
+        writer.writeNullableInt(stats.getWhistsAgainstPlayer(other));
+      }
+    }
+  }
+
+  /**
+   * Applies one record to a game.
+   *
+   * @param rBean game.
+   * @param in    record body.
+   * @throws IOException if the record is invalid.
+   */
+  private static void replay(GameResultBean rBean, DataInputStream in) throws IOException {
+    final byte type = in.readByte();
+    switch (type) {
+      case CHECKPOINT:
+        rBean.setLeningradka(in.readBoolean());
+        final int numberOfPlayers = readNumberOfPlayers(in);
+        final Place divisiblePlace = readPlace(in, true);
+        final boolean finished = in.readBoolean();
+        final int archivedGameId = in.readInt();
+        rBean.resetNumberOfPlayers(numberOfPlayers);
+        for (Place place : Place.getPlaces(numberOfPlayers)) {
+          rBean.getPlayerStats().get(place).setPlayerName(readString(in));
+          readPlayerScores(rBean, in);
+        }
+        rBean.setMountDivisibleByN(divisiblePlace);
+        rBean.setFinalScoresReady(finished);
+        rBean.setArchivedGameId(archivedGameId);
+        break;
+      case PLAYER_NAMES:
+        final Map<Place, String> names = new EnumMap<>(Place.class);
+        for (Place place : Place.getPlaces(readNumberOfPlayers(in))) {
+          names.put(place, readString(in));
+        }
+        rBean.updateNumberOfPlayers(names);
+        break;
+      case PLAYER_SCORES:
+        readPlayerScores(rBean, in);
+        break;
+      case DIVISIBLE_BY_N:
+        rBean.setMountDivisibleByN(readPlace(in, true));
+        break;
+      case FINISHED:
+        rBean.setFinalScoresReady(in.readBoolean());
+        rBean.setArchivedGameId(in.readInt());
+        break;
+      default:
+        throw new IOException("Unknown game journal record type " + type);
+    }
+  }
+
+  /**
+   * Reads one player's scores into a game.
+   *
+   * @param rBean game.
+   * @param in    record body.
+   * @throws IOException if the record is invalid.
+   */
+  private static void readPlayerScores(GameResultBean rBean, DataInputStream in) throws IOException {
+    final PlayerStatistics stats = rBean.getPlayerStats().get(readPlace(in, false));
+    if (stats == null) {
+      throw new IOException("Game journal refers to a missing player");
+    }
+    stats.setMountain(readNullableInt(in));
+    stats.setPool(readNullableInt(in));
+    final int whists = in.readByte();
+    for (int i = 0; i < whists; i++) {
+      final Place other = readPlace(in, false);
+      stats.setWhistsAgainstPlayer(other, readNullableInt(in));
+    }
+  }
+
+  /**
+   * Reads a number of players.
+   *
+   * @param in record body.
+   * @return the number of players (3 or 4).
+   * @throws IOException if the number is invalid.
+   */
+  private static int readNumberOfPlayers(DataInputStream in) throws IOException {
+    final int number = in.readByte();
+    if (number != 3 && number != 4) {
+      throw new IOException("Invalid number of players in the game journal: " + number);
+    }
+    return number;
+  }
+
+  /**
+   * Reads a place.
+   *
+   * @param in       record body.
+   * @param nullable true if the place may be absent.
+   * @return the place (or null if it's absent).
+   * @throws IOException if the place is invalid.
+   */
+  private static Place readPlace(DataInputStream in, boolean nullable) throws IOException {
+    final int index = in.readByte();
+    if (index == -1 && nullable) {
+      return null;
+    }
+    try {
+      return Place.getPlaceForIndex(index);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid place in the game journal: " + index, e);
+    }
+  }
+
+  /**
+   * Reads a nullable string.
+   *
+   * @param in record body.
+   * @return the string or null.
+   * @throws IOException if the string is invalid.
+   */
+  private static String readString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  /**
+   * Reads a nullable integer.
+   *
+   * @param in record body.
+   * @return the integer or null.
+   * @throws IOException if the integer is invalid.
+   */
+  private static Integer readNullableInt(DataInputStream in) throws IOException {
+    final int value = in.readInt();
+    return value == NULL_VALUE ? null : value;
+  }
+
+  /** Encoder of one record. */
+  private static class RecordWriter {
+
+    /** Record body. */
+    private final ByteArrayOutputStream body;
+
+    /** Data output on top of the body. */
+    private final DataOutputStream out;
+
+    /**
+     * Constructor.
+     *
+     * @param type record type.
+     */
+    RecordWriter(byte type) {
+      this.body = new ByteArrayOutputStream(64);
+      this.out = new DataOutputStream(this.body);
+      writeByte(type);
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param value value to write.
+     */
+    void writeByte(int value) {
+      this.body.write(value);
+    }
+
+    /**
+     * Writes a boolean.
+     *
+     * @param value value to write.
+     */
+    void writeBoolean(boolean value) {
+      this.body.write(value ? 1 : 0);
+    }
+
+    /**
+     * Writes a nullable integer.
+     *
+     * @param value value to write or null.
+     */
+    void writeNullableInt(Integer value) {
+      try {
+        this.out.writeInt(value == null ? NULL_VALUE : value);
+      } catch (IOException e) {
+        throw new IllegalStateException(e); // never happens with a byte array stream
+      }
+    }
+
+    /**
+     * Writes a nullable string.
+     *
+     * @param value value to write or null.
+     */
+    void writeString(String value) {
+      writeBoolean(value != null);
+      if (value != null) {
+        try {
+          this.out.writeUTF(value);
+        } catch (IOException e) {
+          throw new IllegalStateException(e); // never happens with a byte array stream
+        }
+      }
+    }
+
+    /**
+     * Frames the body as a record (length, body, CRC32).
+     *
+     * @return the record bytes.
+     */
+    byte[] toRecord() {
+      final byte[] data = this.body.toByteArray();
+      final CRC32 crc = new CRC32();
+      crc.update(data, 0, data.length);
+      return ByteBuffer.allocate(data.length + 8).putInt(data.length).put(data).putInt((int) crc.getValue()).array();
+    }
+  }
+}
@@ -0,0 +1,358 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import net.curre.prefcount.gui.type.Place;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Lifetime statistics of the players over all archived games (games played,
+ * total whists, final scores and money won), keyed by the normalized player
+ * name. The index is updated incrementally as the games are archived (see
+ * <code>GameArchive</code>), so reading the statistics never scans the archive.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class PlayerStatsIndex {
+
+  /** Index file magic ("PCI1"). */
+  static final int MAGIC = 0x50434931;
+
+  /** Index file format version. */
+  static final int VERSION = 1;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(PlayerStatsIndex.class.getName());
+
+  /** Players statistics by the normalized name. */
+  private final Map<String, Entry> entries;
+
+  /** Number of the archived games the index covers. */
+  private int gameCount;
+
+  /** Constructs an empty index. */
+  public PlayerStatsIndex() {
+    this.entries = new HashMap<>();
+  }
+
+  /**
+   * Normalizes a player name (players are matched by the normalized names):
+   * trims it, collapses the whitespace and converts it to lower case.
+   *
+   * @param name player name or null.
+   * @return the normalized name (empty for null).
+   */
+  public static String normalizeName(String name) {
+    if (name == null) {
+      return "";
+    }
+    return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Gets the number of the archived games the index covers.
+   *
+   * @return number of games.
+   */
+  public int getGameCount() {
+    return this.gameCount;
+  }
+
+  /**
+   * Gets the statistics of a player.
+   *
+   * @param name player name (it's normalized).
+   * @return copy of the player statistics or null if the player didn't play any game.
+   */
+  public Entry getEntry(String name) {
+    final Entry entry = this.entries.get(normalizeName(name));
+    return entry == null ? null : new Entry(entry);
+  }
+
+  /**
+   * Gets the statistics of all players.
+   *
+   * @return copies of the players statistics sorted by the normalized name.
+   */
+  public List<Entry> getEntries() {
+    final List<Entry> list = new ArrayList<>(this.entries.size());
+    for (Entry entry : this.entries.values()) {
+      list.add(new Entry(entry));
+    }
+    Collections.sort(list, (e1, e2) -> e1.key.compareTo(e2.key));
+    return list;
+  }
+
+  /**
+   * Adds an archived game to the statistics of its players.
+   *
+   * @param game archived game.
+   */
+  public void addGame(GameArchive.ArchivedGame game) {
+    update(game, 1, game.getPointCost());
+    this.gameCount++;
+  }
+
+  /**
+   * Removes an archived game from the statistics of its players.
+   *
+   * @param game archived game.
+   */
+  public void removeGame(GameArchive.ArchivedGame game) {
+    update(game, -1, game.getPointCost());
+    this.gameCount--;
+  }
+
+  /**
+   * Updates the money won by the players of an archived game after its
+   * point cost changed.
+   *
+   * @param game    archived game (with the new point cost).
+   * @param oldCost previous point cost.
+   */
+  public void updatePointCost(GameArchive.ArchivedGame game, double oldCost) {
+    final double delta = game.getPointCost() - oldCost;
+    for (Place place : Place.getPlaces(game.getNumberOfPlayers())) {
+      final Entry entry = this.entries.get(normalizeName(game.getPlayerName(place)));
+      if (entry != null) {
+        entry.moneyWon += game.getFinalScoreInWhists(place) * delta;
+      }
+    }
+  }
+
+  /**
+   * Writes the index to a file (the file is replaced atomically).
+   *
+   * @param path path to the index file.
+   * @throws IOException on a write error.
+   */
+  public void save(Path path) throws IOException {
+    final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileOutputStream fStream = new FileOutputStream(temp.toFile());
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fStream))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(this.gameCount);
+      out.writeInt(this.entries.size());
+      for (Entry entry : this.entries.values()) {
+        out.writeUTF(entry.name);
+        out.writeInt(entry.gamesPlayed);
+        out.writeLong(entry.totalWhists);
+        out.writeLong(entry.totalFinalScore);
+        out.writeDouble(entry.moneyWon);
+      }
+      out.flush();
+      fStream.getFD().sync();
+    }
+    try {
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Reads an index from a file.
+   *
+   * @param path path to the index file.
+   * @return the index or null if the file is missing or invalid.
+   */
+  public static PlayerStatsIndex load(Path path) {
+    try (InputStream iStream = Files.newInputStream(path);
+         DataInputStream in = new DataInputStream(new BufferedInputStream(iStream))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        logger.warn("Ignoring invalid player stats index {}", path);
+        return null;
+      }
+      final PlayerStatsIndex index = new PlayerStatsIndex();
+      index.gameCount = in.readInt();
+      final int size = in.readInt();
+      for (int i = 0; i < size; i++) {
+        final Entry entry = new Entry(in.readUTF());
+        entry.gamesPlayed = in.readInt();
+        entry.totalWhists = in.readLong();
+        entry.totalFinalScore = in.readLong();
+        entry.moneyWon = in.readDouble();
+        index.entries.put(entry.key, entry);
+      }
+      return index;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      logger.warn("Unable to read the player stats index {}", path, e);
+      return null;
+    }
+  }
+
+  /**
+   * Adds (or subtracts) a game to the statistics of its players.
+   *
+   * @param game archived game.
+   * @param sign 1 to add the game; -1 to subtract it.
+   * @param cost point cost of the game.
+   */
+  private void update(GameArchive.ArchivedGame game, int sign, double cost) {
+    final int numberOfPlayers = game.getNumberOfPlayers();
+    for (Place place : Place.getPlaces(numberOfPlayers)) {
+      final String name = game.getPlayerName(place);
+      final String key = normalizeName(name);
+      Entry entry = this.entries.get(key);
+      if (entry == null) {
+        if (sign < 0) {
+          continue;
+        }
+        entry = new Entry(name == null ? null : name.trim());
+        this.entries.put(key, entry);
+      }
+      int whists = 0;
+      for (Place other : Place.getOtherPlayersWhistPlaces(place, numberOfPlayers)) {
+        final Integer value = game.getWhistsAgainstPlayer(place, other);
+        if (value != null) {
+          whists += value;
+        }
+      }
+      final int finalScore = game.getFinalScoreInWhists(place);
+      entry.gamesPlayed += sign;
+      entry.totalWhists += sign * whists;
+      entry.totalFinalScore += sign * finalScore;
+      entry.moneyWon += sign * finalScore * cost;
+      if (entry.gamesPlayed <= 0) {
+        this.entries.remove(key);
+      }
+    }
+  }
+
+  /** Lifetime statistics of one player. */
+  public static class Entry {
+
+    /** Normalized player name. */
+    private final String key;
+
+    /** Player name (as it was first entered). */
+    private final String name;
+
+    /** Number of the games played. */
+    private int gamesPlayed;
+
+    /** Total whists the player wrote. */
+    private long totalWhists;
+
+    /** Total of the final scores in whists. */
+    private long totalFinalScore;
+
+    /** Total money won (negative if lost). */
+    private double moneyWon;
+
+    /**
+     * Constructor.
+     *
+     * @param name player name.
+     */
+    Entry(String name) {
+      this.key = normalizeName(name);
+      this.name = name == null ? "" : name;
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other statistics to copy.
+     */
+    Entry(Entry other) {
+      this.key = other.key;
+      this.name = other.name;
+      this.gamesPlayed = other.gamesPlayed;
+      this.totalWhists = other.totalWhists;
+      this.totalFinalScore = other.totalFinalScore;
+      this.moneyWon = other.moneyWon;
+    }
+
+    /**
+     * Gets the player name.
+     *
+     * @return the player name.
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * Gets the number of the games played.
+     *
+     * @return number of games.
+     */
+    public int getGamesPlayed() {
+      return this.gamesPlayed;
+    }
+
+    /**
+     * Gets the total whists the player wrote.
+     *
+     * @return number of whists.
+     */
+    public long getTotalWhists() {
+      return this.totalWhists;
+    }
+
+    /**
+     * Gets the total of the final scores.
+     *
+     * @return the total in whists.
+     */
+    public long getTotalFinalScore() {
+      return this.totalFinalScore;
+    }
+
+    /**
+     * Gets the average final score.
+     *
+     * @return the average in whists.
+     */
+    public double getAverageFinalScore() {
+      return this.gamesPlayed == 0 ? 0d : (double) this.totalFinalScore / this.gamesPlayed;
+    }
+
+    /**
+     * Gets the total money won.
+     *
+     * @return the money won (negative if lost).
+     */
+    public double getMoneyWon() {
+      return this.moneyWon;
+    }
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreMatrix;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.ScoringKernel;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.util.Instrumentation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This service bean is responsible for computing game results;
+ * the computing itself is done by the <code>ScoringKernel</code>.
+ * <p/>
+ * Created date: Jul 29, 2007
+ *
+ * @author Yevgeny Nyden
+ */
+public class ResultService {
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(ResultService.class.getName());
+
+  /** Max number of games scored by one batch task without splitting it further. */
+  static final int BATCH_THRESHOLD = 256;
+
+  /**
+   * Generates the final player scores. Note that the target
+   * pool must be set to a valid (positive) value.
+   *
+   * @param rBean <code>GameResultBean</code> object that contains
+   *              all necessary game data.
+   */
+  public static void generateFinalResults(GameResultBean rBean) {
+    logger.trace("Generating final results for Bean: {}", rBean);
+
+    final long start = Instrumentation.start();
+    try {
+      final Place adjustPlace = rBean.getDivisibleByNPlayer();
+      ScoringKernel.computeFinalResults(rBean.getScoreMatrix(), rBean.isLeningradka(),
+                                        adjustPlace == null ? -1 : adjustPlace.index);
+      rBean.setFinalScoresReady(true);
+    } finally {
+      Instrumentation.stop(Instrumentation.FINAL_RESULTS, start);
+    }
+  }
+
+  /**
+   * Generates the final player scores unless the computed ones are still
+   * current (e.g. only whists changed since, and the results were patched
+   * by <code>updateWhist</code>).
+   *
+   * @param rBean <code>GameResultBean</code> object that contains
+   *              all necessary game data.
+   */
+  public static void refreshFinalResults(GameResultBean rBean) {
+    if (rBean.getScoreMatrix().isDirty(ScoreMatrix.DIRTY_RESULTS)) {
+      generateFinalResults(rBean);
+    } else {
+      rBean.setFinalScoresReady(true);
+    }
+  }
+
+  /**
+   * Updates whists that one player has against another. Computed
+   * final results are patched incrementally (in constant time) rather
+   * than recomputed; if they were not computed yet, only the whist
+   * value is set.
+   *
+   * @param rBean      <code>GameResultBean</code> object that contains
+   *                   all necessary game data.
+   * @param place      place of the player who has the whists.
+   * @param otherPlace place of the player the whists are against.
+   * @param newWhist   new whists value.
+   */
+  public static void updateWhist(GameResultBean rBean, Place place, Place otherPlace, int newWhist) {
+    final int delta = ScoringKernel.updateWhist(rBean.getScoreMatrix(), place.index,
+                                                otherPlace.index, newWhist);
+    if (delta != 0) {
+      rBean.shiftFinalScores(place, otherPlace, delta);
+    }
+  }
+
+  /**
+   * Clears the final player scores.
+   *
+   * @param rBean <code>GameResultBean</code> object that contains
+   *              all necessary game data.
+   */
+  public static void clearFinalResults(GameResultBean rBean) {
+    // clearing the player whist saldo values
+    ScoringKernel.clearFinalResults(rBean.getScoreMatrix());
+    rBean.clearResults();
+  }
+
+  /**
+   * Publishes an immutable snapshot of the current game data unless the
+   * already published snapshot is up to date; must be called by the thread
+   * that modifies the game (readers use <code>GameResultBean.getSnapshot</code>).
+   *
+   * @param rBean <code>GameResultBean</code> object that contains
+   *              all necessary game data.
+   * @return the latest snapshot of the game.
+   */
+  public static ScoreSnapshot publishSnapshot(GameResultBean rBean) {
+    final ScoreSnapshot current = rBean.getSnapshot();
+    if (current != null && current.getVersion() == rBean.getScoreMatrix().getModCount()) {
+      return current;
+    }
+    return rBean.publishSnapshot(new ScoreSnapshot(rBean));
+  }
+
+  /**
+   * Generates the final player scores for a batch of games in parallel
+   * using the common fork/join pool.
+   *
+   * @param beans games to score; each game must not be modified
+   *              by other threads while the batch is running.
+   * @return per game results and aggregate timing of the batch.
+   * @throws ServiceException if the batch is interrupted.
+   */
+  public static BatchScoringResult generateFinalResults(Collection<GameResultBean> beans) throws ServiceException {
+    return generateFinalResults(beans, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Generates the final player scores for a batch of games in parallel.
+   * The batch is recursively split with fork/join when the given executor is
+   * a <code>ForkJoinPool</code>; otherwise, it's split into one chunk of games
+   * per available processor (a chunk the executor rejects is scored on the
+   * calling thread). Only the given beans are accessed (no application registry
+   * or UI state), and a game that fails to score doesn't fail the batch; its
+   * error is recorded in its result instead.
+   *
+   * @param beans    games to score; each game must not be modified
+   *                 by other threads while the batch is running.
+   * @param executor executor to run the scoring tasks on.
+   * @return per game results and aggregate timing of the batch.
+   * @throws ServiceException if the batch is interrupted.
+   */
+  public static BatchScoringResult generateFinalResults(Collection<GameResultBean> beans, Executor executor)
+      throws ServiceException {
+    final long start = System.nanoTime();
+    final GameResultBean[] games = beans.toArray(new GameResultBean[0]);
+    final BatchScoringResult.GameResult[] results = new BatchScoringResult.GameResult[games.length];
+
+    if (executor instanceof ForkJoinPool) {
+      ((ForkJoinPool) executor).invoke(new ScoringTask(games, results, 0, games.length));
+
+    } else if (games.length > 0) {
+      final int chunks = Math.min(Runtime.getRuntime().availableProcessors(),
+                                  (games.length + BATCH_THRESHOLD - 1) / BATCH_THRESHOLD);
+      final int chunkSize = (games.length + chunks - 1) / chunks;
+      final CountDownLatch latch = new CountDownLatch(chunks);
+      for (int i = 0; i < chunks; i++) {
+        final int from = i * chunkSize;
+        final int to = Math.min(games.length, from + chunkSize);
+        final Runnable task = () -> {
+          try {
+            scoreRange(games, results, from, to);
+          } finally {
+            latch.countDown();
+          }
+        };
+        try {
+          executor.execute(task);
+        } catch (RejectedExecutionException e) {
+          // the executor is saturated or shut down - scoring the chunk on the calling thread
+          task.run();
+        }
+      }
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServiceException("Interrupted while scoring a batch of " + games.length + " games", e);
+      }
+    }
+
+    BatchScoringResult batch = new BatchScoringResult(results, System.nanoTime() - start);
+    logger.debug("Scored a batch of games: {}", batch);
+    return batch;
+  }
+
+  /**
+   * Scores the given range of games.
+   *
+   * @param games   games to score.
+   * @param results array to store the per game results in.
+   * @param from    index of the first game to score (inclusive).
+   * @param to      index of the last game to score (exclusive).
+   */
+  private static void scoreRange(GameResultBean[] games, BatchScoringResult.GameResult[] results,
+                                 int from, int to) {
+    for (int i = from; i < to; i++) {
+      final GameResultBean bean = games[i];
+      final long start = System.nanoTime();
+      try {
+        generateFinalResults(bean);
+        final int[] scores = new int[ScoreMatrix.SIZE];
+        for (Place place : bean.getPlayerStats().keySet()) {
+          scores[place.index] = bean.getFinalScoreInWhists(place);
+        }
+        results[i] = new BatchScoringResult.GameResult(bean, scores, null, System.nanoTime() - start);
+      } catch (RuntimeException e) {
+        logger.warn("Unable to score game {}", bean, e);
+        results[i] = new BatchScoringResult.GameResult(bean, null, e, System.nanoTime() - start);
+      }
+    }
+  }
+
+  /** Fork/join task that scores a range of games. */
+  private static class ScoringTask extends RecursiveAction {
+
+    /** Games to score. */
+    private final GameResultBean[] games;
+
+    /** Array to store the per game results in. */
+    private final BatchScoringResult.GameResult[] results;
+
+    /** Index of the first game to score (inclusive). */
+    private final int from;
+
+    /** Index of the last game to score (exclusive). */
+    private final int to;
+
+    /**
+     * Constructor.
+     *
+     * @param games   games to score.
+     * @param results array to store the per game results in.
+     * @param from    index of the first game to score (inclusive).
+     * @param to      index of the last game to score (exclusive).
+     */
+    ScoringTask(GameResultBean[] games, BatchScoringResult.GameResult[] results, int from, int to) {
+      this.games = games;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void compute() {
+      if (this.to - this.from <= BATCH_THRESHOLD) {
+        scoreRange(this.games, this.results, this.from, this.to);
+      } else {
+        final int middle = (this.from + this.to) >>> 1;
+        invokeAll(new ScoringTask(this.games, this.results, this.from, middle),
+                  new ScoringTask(this.games, this.results, middle, this.to));
+      }
+    }
+  }
+}
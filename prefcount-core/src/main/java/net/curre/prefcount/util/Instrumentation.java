@@ -0,0 +1,244 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Latency instrumentation of the hot code paths (painting, scoring,
+ * settings I/O). Every measured path gets a histogram, which is published
+ * as a JMX MBean and optionally dumped to the log periodically.
+ * Instrumentation is off by default (enable it with the
+ * <code>prefcount.instrumentation</code> system property); when it's off
+ * a measured call costs one volatile read.
+ * <p/>
+ * Usage:
+ * <pre>
+ *   final long start = Instrumentation.start();
+ *   try {
+ *     ...
+ *   } finally {
+ *     Instrumentation.stop(Instrumentation.PAINT_BOARD, start);
+ *   }
+ * </pre>
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class Instrumentation {
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(Instrumentation.class.getName());
+
+  /** System property to enable the instrumentation. */
+  public static final String ENABLED_PROPERTY = "prefcount.instrumentation";
+
+  /** System property with the log dump period in seconds (0 or none - no dumps). */
+  public static final String LOG_PERIOD_PROPERTY = "prefcount.instrumentation.logPeriod";
+
+  /** Domain of the histogram MBeans. */
+  public static final String JMX_DOMAIN = "net.curre.prefcount";
+
+  /** Score board painting. */
+  public static final String PAINT_BOARD = "paintScoreBoard";
+
+  /** Players scores drawing. */
+  public static final String DRAW_SCORES = "drawPlayerScores";
+
+  /** Score table refresh. */
+  public static final String REFRESH_TABLE = "refreshScoreTable";
+
+  /** LAF theme activation. */
+  public static final String ACTIVATE_THEME = "activateLafTheme";
+
+  /** Final results computation. */
+  public static final String FINAL_RESULTS = "generateFinalResults";
+
+  /** Settings loading. */
+  public static final String LOAD_SETTINGS = "loadSettings";
+
+  /** Settings persisting (on the calling thread). */
+  public static final String PERSIST_SETTINGS = "persistSettings";
+
+  /** Settings file writing (always recorded, the writes are rare). */
+  public static final String WRITE_SETTINGS = "writeSettings";
+
+  /** Histograms by name. */
+  private static final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+  /** Indicates if the instrumentation is on. */
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  /** Log dump executor or null if it hasn't been started. */
+  private static ScheduledExecutorService logExecutor;
+
+  /** Log dump task or null if the histograms aren't dumped. */
+  private static ScheduledFuture<?> logTask;
+
+  static {
+    final long period = Long.getLong(LOG_PERIOD_PROPERTY, 0L);
+    if (enabled && period > 0) {
+      setLogPeriod(period);
+    }
+  }
+
+  /** Private constructor. */
+  private Instrumentation() {
+  }
+
+  /**
+   * Checks if the instrumentation is on.
+   *
+   * @return true if the calls are measured.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Turns the instrumentation on or off (recorded histograms are kept).
+   *
+   * @param on true to measure the calls.
+   */
+  public static void setEnabled(boolean on) {
+    enabled = on;
+  }
+
+  /**
+   * Starts measuring a call.
+   *
+   * @return start time to pass to <code>stop</code> or 0 if
+   *         the instrumentation is off.
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Stops measuring a call and records its time.
+   *
+   * @param name  name of the measured code path.
+   * @param start value returned by <code>start</code>.
+   */
+  public static void stop(String name, long start) {
+    if (start != 0L) {
+      getHistogram(name).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Gets a histogram (creates and registers it if needed).
+   *
+   * @param name name of the measured code path.
+   * @return the histogram.
+   */
+  public static LatencyHistogram getHistogram(String name) {
+    LatencyHistogram histogram = histograms.get(name);
+    if (histogram == null) {
+      histogram = histograms.computeIfAbsent(name, Instrumentation::createHistogram);
+    }
+    return histogram;
+  }
+
+  /**
+   * Gets all histograms sorted by name.
+   *
+   * @return list of histograms.
+   */
+  public static List<LatencyHistogram> getHistograms() {
+    List<LatencyHistogram> list = new ArrayList<>(histograms.values());
+    Collections.sort(list, (h1, h2) -> h1.getName().compareTo(h2.getName()));
+    return list;
+  }
+
+  /**
+   * Gets the JMX name of a histogram.
+   *
+   * @param name name of the measured code path.
+   * @return the MBean name.
+   * @throws JMException if the name is not valid.
+   */
+  public static ObjectName getObjectName(String name) throws JMException {
+    return new ObjectName(JMX_DOMAIN + ":type=Latency,name=" + ObjectName.quote(name));
+  }
+
+  /**
+   * Starts, changes or stops the periodic log dump of the histograms.
+   *
+   * @param seconds dump period in seconds (0 to stop dumping).
+   */
+  public static synchronized void setLogPeriod(long seconds) {
+    if (logTask != null) {
+      logTask.cancel(false);
+      logTask = null;
+    }
+    if (seconds <= 0) {
+      return;
+    }
+    if (logExecutor == null) {
+      logExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "prefcount-instrumentation");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    logTask = logExecutor.scheduleAtFixedRate(Instrumentation::logHistograms, seconds, seconds, TimeUnit.SECONDS);
+  }
+
+  /** Logs the summary of every histogram that has recorded calls. */
+  public static void logHistograms() {
+    for (LatencyHistogram histogram : getHistograms()) {
+      if (histogram.getCount() > 0) {
+        logger.info("Latency {}", histogram);
+      }
+    }
+  }
+
+  /**
+   * Creates a histogram and registers it with the platform MBean server.
+   *
+   * @param name name of the measured code path.
+   * @return new histogram.
+   */
+  private static LatencyHistogram createHistogram(String name) {
+    LatencyHistogram histogram = new LatencyHistogram(name);
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName objectName = getObjectName(name);
+      if (!server.isRegistered(objectName)) {
+        server.registerMBean(histogram, objectName);
+      }
+    } catch (JMException | RuntimeException e) {
+      logger.warn("Unable to register histogram MBean {}", name, e);
+    }
+    return histogram;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power of two (microsecond) buckets;
+ * calls can be recorded by any number of threads.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+  /** Number of buckets (the last one counts everything from ~18 minutes up). */
+  static final int BUCKETS_NUMBER = 31;
+
+  /** Name of the measured code path. */
+  private final String name;
+
+  /** Number of calls per bucket. */
+  private final AtomicLongArray buckets;
+
+  /** Number of recorded calls. */
+  private final AtomicLong count;
+
+  /** Total time of the recorded calls (in nanoseconds). */
+  private final AtomicLong totalNanos;
+
+  /** Longest call time (in nanoseconds). */
+  private final AtomicLong maxNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param name name of the measured code path.
+   */
+  public LatencyHistogram(String name) {
+    this.name = name;
+    this.buckets = new AtomicLongArray(BUCKETS_NUMBER);
+    this.count = new AtomicLong();
+    this.totalNanos = new AtomicLong();
+    this.maxNanos = new AtomicLong();
+  }
+
+  /**
+   * Records a call.
+   *
+   * @param nanos call time in nanoseconds.
+   */
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    final long micros = nanos / 1000;
+    final int bucket = Math.min(BUCKETS_NUMBER - 1, 64 - Long.numberOfLeadingZeros(micros));
+    this.buckets.incrementAndGet(bucket);
+    this.count.incrementAndGet();
+    this.totalNanos.addAndGet(nanos);
+    long max = this.maxNanos.get();
+    while (nanos > max && !this.maxNanos.compareAndSet(max, nanos)) {
+      max = this.maxNanos.get();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getCount() {
+    return this.count.get();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getMeanMillis() {
+    final long calls = this.count.get();
+    return calls == 0 ? 0d : this.totalNanos.get() / 1e6d / calls;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getMaxMillis() {
+    return this.maxNanos.get() / 1e6d;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getMedianMillis() {
+    return getPercentileMillis(0.5d);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getPercentile90Millis() {
+    return getPercentileMillis(0.9d);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public double getPercentile99Millis() {
+    return getPercentileMillis(0.99d);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long[] getBuckets() {
+    final long[] result = new long[BUCKETS_NUMBER];
+    for (int i = 0; i < BUCKETS_NUMBER; i++) {
+      result[i] = this.buckets.get(i);
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void reset() {
+    for (int i = 0; i < BUCKETS_NUMBER; i++) {
+      this.buckets.set(i, 0);
+    }
+    this.count.set(0);
+    this.totalNanos.set(0);
+    this.maxNanos.set(0);
+  }
+
+  /**
+   * Gets a percentile of the call times (upper bound of its bucket,
+   * but not more than the longest call time).
+   *
+   * @param fraction percentile as a fraction (0 to 1).
+   * @return percentile in milliseconds.
+   */
+  double getPercentileMillis(double fraction) {
+    final long[] counts = getBuckets();
+    long total = 0;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0) {
+      return 0d;
+    }
+    final long rank = (long) Math.ceil(total * fraction);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS_NUMBER; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min((1L << i) / 1e3d, getMaxMillis());
+      }
+    }
+    return getMaxMillis();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format("%s: count=%d, mean=%.3fms, p50=%.3fms, p90=%.3fms, p99=%.3fms, max=%.3fms",
+                         this.name, getCount(), getMeanMillis(), getMedianMillis(),
+                         getPercentile90Millis(), getPercentile99Millis(), getMaxMillis());
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+/**
+ * JMX interface of a latency histogram (all times are in milliseconds).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public interface LatencyHistogramMXBean {
+
+  /**
+   * Gets the name of the measured code path.
+   *
+   * @return the histogram name.
+   */
+  String getName();
+
+  /**
+   * Gets the number of recorded calls.
+   *
+   * @return number of calls.
+   */
+  long getCount();
+
+  /**
+   * Gets the mean call time.
+   *
+   * @return mean time in milliseconds.
+   */
+  double getMeanMillis();
+
+  /**
+   * Gets the longest call time.
+   *
+   * @return max time in milliseconds.
+   */
+  double getMaxMillis();
+
+  /**
+   * Gets the median call time (upper bound of its histogram bucket).
+   *
+   * @return median time in milliseconds.
+   */
+  double getMedianMillis();
+
+  /**
+   * Gets the 90th percentile of the call times (upper bound of its histogram bucket).
+   *
+   * @return 90th percentile in milliseconds.
+   */
+  double getPercentile90Millis();
+
+  /**
+   * Gets the 99th percentile of the call times (upper bound of its histogram bucket).
+   *
+   * @return 99th percentile in milliseconds.
+   */
+  double getPercentile99Millis();
+
+  /**
+   * Gets the number of calls in each histogram bucket; bucket <code>i</code>
+   * counts the calls that took less than <code>2^i</code> microseconds.
+   *
+   * @return bucket counts.
+   */
+  long[] getBuckets();
+
+  /** Clears the histogram. */
+  void reset();
+}
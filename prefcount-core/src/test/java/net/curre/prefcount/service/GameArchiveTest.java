@@ -0,0 +1,240 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import junit.framework.TestCase;
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+
+/**
+ * This is a junit test for testing <code>GameArchive</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class GameArchiveTest extends TestCase {
+
+  /** Temporary directory for the archive files. */
+  private Path tempDir;
+
+  /** {@inheritDoc} */
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    this.tempDir = Files.createTempDirectory("prefcount-archive");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void tearDown() throws Exception {
+    try (Stream<Path> files = Files.list(this.tempDir)) {
+      files.forEach(path -> path.toFile().delete());
+    }
+    Files.delete(this.tempDir);
+    super.tearDown();
+  }
+
+  /** Tests archiving the games and reading them after the archive is reopened. */
+  public void testAppendAndReopen() throws Exception {
+    final Path path = this.tempDir.resolve("games.archive");
+    GameArchive archive = new GameArchive(path);
+    assertEquals("New archive is not empty", 0, archive.getGameCount());
+    final int games = 150; // more than the initial capacity
+    for (int i = 0; i < games; i++) {
+      assertEquals("Wrong game ID", i, archive.append(createGame(i)));
+    }
+    archive.setPointCost(7, 0.5d);
+    archive.close();
+
+    archive = new GameArchive(path);
+    assertEquals("Wrong game count", games, archive.getGameCount());
+    final GameResultBean expected = createGame(42);
+    final GameArchive.ArchivedGame game = archive.getArchivedGame(42);
+    assertEquals("Wrong ID", 42, game.getId());
+    assertEquals("Wrong number of players", 4, game.getNumberOfPlayers());
+    assertTrue("Wrong pref type", game.isLeningradka());
+    assertEquals("Wrong divisible by N player", Place.WEST, game.getDivisibleByNPlayer());
+    assertEquals("Wrong point cost", 0.5d, archive.getArchivedGame(7).getPointCost());
+    for (Place place : Place.FOUR_PLAYERS) {
+      assertEquals("Wrong final score", expected.getFinalScoreInWhists(place), game.getFinalScoreInWhists(place));
+      assertEquals("Wrong new mountain", expected.getNewMountain(place), game.getNewMountain(place));
+    }
+
+    final GameResultBean decoded = archive.getGame(42);
+    ResultService.generateFinalResults(decoded);
+    for (Place place : Place.FOUR_PLAYERS) {
+      final PlayerStatistics exp = expected.getPlayerStats().get(place);
+      final PlayerStatistics act = decoded.getPlayerStats().get(place);
+      assertEquals("Wrong name", exp.getPlayerName(), act.getPlayerName());
+      assertEquals("Wrong mountain", exp.getMountain(), act.getMountain());
+      assertEquals("Wrong pool", exp.getPool(), act.getPool());
+      for (Place other : Place.getOtherPlayersWhistPlaces(place, 4)) {
+        assertEquals("Wrong whists", exp.getWhistsAgainstPlayer(other), act.getWhistsAgainstPlayer(other));
+      }
+      assertEquals("Wrong decoded final score",
+                   expected.getFinalScoreInWhists(place), decoded.getFinalScoreInWhists(place));
+    }
+
+    final AtomicInteger scanned = new AtomicInteger();
+    archive.scan(g -> {
+      assertEquals("Wrong scan order", scanned.getAndIncrement(), g.getId());
+      assertEquals("Wrong scanned name", "East" + g.getId(), g.getPlayerName(Place.EAST));
+    });
+    assertEquals("Wrong scanned count", games, scanned.get());
+    archive.close();
+  }
+
+  /** Tests archiving the same game twice, removing the last game, the player names and the invalid archives. */
+  public void testMiscellaneous() throws Exception {
+    final Path path = this.tempDir.resolve("games.archive");
+    GameArchive archive = new GameArchive(path);
+    final GameResultBean rBean = createGame(1);
+    rBean.getPlayerStats().get(Place.SOUTH).setPlayerName("A very long player name");
+    rBean.getPlayerStats().get(Place.NORTH).setPlayerName(null);
+    final int id = archive.append(rBean);
+    assertEquals("Wrong long name", "A very long player name", archive.getArchivedGame(id).getPlayerName(Place.SOUTH));
+    assertNull("Wrong null name", archive.getArchivedGame(id).getPlayerName(Place.NORTH));
+    assertEquals("Archived game ID is not set", id, rBean.getArchivedGameId());
+    assertEquals("Archived game is archived again", id, archive.append(rBean));
+    assertEquals("Wrong count after archiving the same game", 1, archive.getGameCount());
+    assertEquals("Wrong games played", 1, archive.getPlayerStats("East1").getGamesPlayed());
+
+    archive.append(createGame(2));
+    assertFalse("Not the last game is removed", archive.removeLastGame(id));
+    assertTrue("Last game is not removed", archive.removeLastGame(id + 1));
+    assertEquals("Wrong count after removal", 1, archive.getGameCount());
+    try {
+      archive.getArchivedGame(1);
+      fail("Removed game is readable");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    archive.close();
+
+    // simulating a crash in the middle of writing a new name
+    final Path namesPath = path.resolveSibling(path.getFileName() + ".names");
+    Files.write(namesPath, new byte[]{0, 10, 'N', 'e', 'w'}, StandardOpenOption.APPEND);
+    archive = new GameArchive(path);
+    assertEquals("Wrong name after reopening", "A very long player name",
+                 archive.getArchivedGame(id).getPlayerName(Place.SOUTH));
+    final GameResultBean newGame = createGame(3);
+    newGame.getPlayerStats().get(Place.EAST).setPlayerName("Newcomer");
+    final int newId = archive.append(newGame);
+    archive.close();
+    archive = new GameArchive(path);
+    assertEquals("Wrong new name", "Newcomer", archive.getArchivedGame(newId).getPlayerName(Place.EAST));
+    assertEquals("Wrong old name", "A very long player name", archive.getArchivedGame(id).getPlayerName(Place.SOUTH));
+    archive.close();
+
+    final Path invalidPath = this.tempDir.resolve("invalid.archive");
+    Files.write(invalidPath, new byte[100]);
+    try {
+      new GameArchive(invalidPath);
+      fail("Invalid archive is opened");
+    } catch (ServiceException e) {
+      // expected
+    }
+  }
+
+  /** Tests the players lifetime statistics (incremental updates, persistence and rebuild). */
+  public void testPlayerStats() throws Exception {
+    final Path path = this.tempDir.resolve("games.archive");
+    GameArchive archive = new GameArchive(path);
+    assertTrue("New archive has player stats", archive.getPlayerStats().isEmpty());
+    long totalScore = 0;
+    long totalWhists = 0;
+    for (int i = 0; i < 10; i++) {
+      final GameResultBean rBean = createGame(i);
+      rBean.getPlayerStats().get(Place.EAST).setPlayerName(i % 2 == 0 ? "Anna  Petrova" : " anna petrova ");
+      archive.append(rBean);
+      totalScore += rBean.getFinalScoreInWhists(Place.EAST);
+      for (Place other : Place.getOtherPlayersWhistPlaces(Place.EAST, 4)) {
+        totalWhists += rBean.getPlayerStats().get(Place.EAST).getWhistsAgainstPlayer(other);
+      }
+    }
+    archive.setPointCost(3, 2d);
+    final double money = archive.getArchivedGame(3).getFinalScoreInWhists(Place.EAST) * 2d;
+
+    PlayerStatsIndex.Entry entry = archive.getPlayerStats("ANNA PETROVA");
+    assertNotNull("Player is not found by the normalized name", entry);
+    assertEquals("Wrong games played", 10, entry.getGamesPlayed());
+    assertEquals("Wrong total whists", totalWhists, entry.getTotalWhists());
+    assertEquals("Wrong average score", totalScore / 10d, entry.getAverageFinalScore(), 1e-9);
+    assertEquals("Wrong money won", money, entry.getMoneyWon(), 1e-9);
+    assertEquals("Wrong number of players", 31, archive.getPlayerStats().size());
+
+    // players are not merged by a common name prefix
+    final GameResultBean rBean = createGame(10);
+    rBean.getPlayerStats().get(Place.EAST).setPlayerName("Alexander Ivanov-Petrov");
+    rBean.getPlayerStats().get(Place.SOUTH).setPlayerName("Alexander Ivanov-Sidorov");
+    archive.append(rBean);
+    assertEquals("Wrong games played by the first player", 1,
+                 archive.getPlayerStats("Alexander Ivanov-Petrov").getGamesPlayed());
+    assertEquals("Wrong games played by the second player", 1,
+                 archive.getPlayerStats("alexander  ivanov-sidorov").getGamesPlayed());
+    assertTrue("Last game is not removed", archive.removeLastGame(10));
+    archive.close();
+
+    // the saved index is used as is
+    archive = new GameArchive(path);
+    entry = archive.getPlayerStats("anna petrova");
+    assertEquals("Wrong saved games played", 10, entry.getGamesPlayed());
+    assertEquals("Wrong saved money won", money, entry.getMoneyWon(), 1e-9);
+    assertTrue("Last game is not removed", archive.removeLastGame(9));
+    assertEquals("Wrong games played after removal", 9, archive.getPlayerStats("anna petrova").getGamesPlayed());
+    assertNull("Removed player is still indexed", archive.getPlayerStats("North9"));
+    archive.close();
+
+    // a missing index is rebuilt from the games
+    Files.delete(path.resolveSibling(path.getFileName() + ".index"));
+    archive = new GameArchive(path);
+    entry = archive.getPlayerStats("anna petrova");
+    assertEquals("Wrong rebuilt games played", 9, entry.getGamesPlayed());
+    assertEquals("Wrong rebuilt money won", money, entry.getMoneyWon(), 1e-9);
+    archive.close();
+  }
+
+  /**
+   * Creates a finished 4 players game.
+   *
+   * @param seed seed of the game values.
+   * @return the game with the final results.
+   */
+  private static GameResultBean createGame(int seed) {
+    GameResultBean rBean = new GameResultBean(PrefType.LENINGRAD, 4);
+    int value = seed;
+    for (Place place : Place.FOUR_PLAYERS) {
+      PlayerStatistics stats = rBean.getPlayerStats().get(place);
+      stats.setPlayerName(place.name().charAt(0) + place.name().substring(1).toLowerCase() + seed);
+      stats.setMountain(value % 40);
+      stats.setPool(value % 20 + 2);
+      for (Place other : Place.getOtherPlayersWhistPlaces(place, 4)) {
+        stats.setWhistsAgainstPlayer(other, value++ % 50);
+      }
+    }
+    rBean.setMountDivisibleByN(Place.WEST);
+    ResultService.generateFinalResults(rBean);
+    return rBean;
+  }
+}
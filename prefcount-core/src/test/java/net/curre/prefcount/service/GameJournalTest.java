@@ -0,0 +1,303 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import junit.framework.TestCase;
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+
+/**
+ * This is a junit test for testing <code>GameJournal</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class GameJournalTest extends TestCase {
+
+  /** Temporary directory for the journal files. */
+  private Path tempDir;
+
+  /** {@inheritDoc} */
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    this.tempDir = Files.createTempDirectory("prefcount-journal");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void tearDown() throws Exception {
+    try (Stream<Path> files = Files.list(this.tempDir)) {
+      files.forEach(path -> path.toFile().delete());
+    }
+    Files.delete(this.tempDir);
+    super.tearDown();
+  }
+
+  /** Tests that a game is restored from the journal records. */
+  public void testRestore() throws Exception {
+    final Path path = this.tempDir.resolve("game.journal");
+    final GameJournal journal = new GameJournal(path);
+    final GameResultBean bean = new GameResultBean(PrefType.SOCHI, 3);
+    assertFalse("Nothing to restore", journal.restore(bean));
+    assertTrue("Journal is not synced", journal.sync(5000));
+
+    bean.updateNumberOfPlayers(createNames("Anna", "Boris", "Vera", "Gleb"));
+    journal.logPlayerNames(bean);
+    fillScores(bean, Place.EAST, 10, 5, 20);
+    journal.logPlayerScores(bean, Place.EAST);
+    fillScores(bean, Place.NORTH, null, 7, 3);
+    journal.logPlayerScores(bean, Place.NORTH);
+    bean.setMountDivisibleByN(Place.SOUTH);
+    journal.logDivisibleByN(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+
+    final GameResultBean restored = new GameResultBean(PrefType.LENINGRAD, 3);
+    assertTrue("Game is not restored", restore(path, restored));
+    assertGamesEqual(bean, restored);
+  }
+
+  /** Tests that a torn record at the end of the journal is discarded. */
+  public void testTornRecord() throws Exception {
+    final Path path = this.tempDir.resolve("game.journal");
+    final GameJournal journal = new GameJournal(path);
+    final GameResultBean bean = new GameResultBean(PrefType.SOCHI, 3);
+    journal.restore(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    bean.updateNumberOfPlayers(createNames("Anna", "Boris", "Vera", null));
+    journal.logPlayerNames(bean);
+    fillScores(bean, Place.WEST, 4, 8, 12);
+    journal.logPlayerScores(bean, Place.WEST);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    final long intactSize = Files.size(path);
+
+    fillScores(bean, Place.EAST, 100, 100, 100);
+    journal.logPlayerScores(bean, Place.EAST);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+    // simulating a power cut in the middle of the last record
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(intactSize + 10);
+    }
+
+    final GameResultBean restored = new GameResultBean(PrefType.SOCHI, 3);
+    assertTrue("Game is not restored", restore(path, restored));
+    assertEquals("Wrong player name", "Vera", restored.getPlayerStats().get(Place.WEST).getPlayerName());
+    assertEquals("Wrong pool", Integer.valueOf(8), restored.getPlayerStats().get(Place.WEST).getPool());
+    assertNull("Torn record is restored", restored.getPlayerStats().get(Place.EAST).getMountain());
+  }
+
+  /** Tests the checkpoints (the journal is compacted) and the group commits. */
+  public void testCheckpoint() throws Exception {
+    final Path path = this.tempDir.resolve("game.journal");
+    final GameJournal journal = new GameJournal(path);
+    final GameResultBean bean = new GameResultBean(PrefType.SOCHI, 3);
+    journal.restore(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    bean.updateNumberOfPlayers(createNames("Anna", "Boris", "Vera", null));
+    for (int i = 0; i < 3 * GameJournal.CHECKPOINT_INTERVAL; i++) {
+      fillScores(bean, Place.SOUTH, i, i + 1, i + 2);
+      journal.logPlayerScores(bean, Place.SOUTH);
+    }
+    assertTrue("Journal is not synced", journal.sync(5000));
+    assertTrue("Records are not committed in groups", journal.getCommitCount() < journal.getRecordCount());
+    journal.close();
+    assertTrue("Journal is not compacted", Files.size(path) < 40 * GameJournal.CHECKPOINT_INTERVAL);
+
+    final GameResultBean restored = new GameResultBean(PrefType.SOCHI, 3);
+    assertTrue("Game is not restored", restore(path, restored));
+    assertGamesEqual(bean, restored);
+  }
+
+  /** Tests that the records and checkpoints that failed to be written are kept and written later. */
+  public void testWriteError() throws Exception {
+    final Path dir = this.tempDir.resolve("journal");
+    final Path path = dir.resolve("game.journal");
+    Files.createDirectory(dir);
+    final GameJournal journal = new GameJournal(path);
+    final GameResultBean bean = new GameResultBean(PrefType.SOCHI, 3);
+    journal.restore(bean);
+    bean.updateNumberOfPlayers(createNames("Anna", "Boris", "Vera", null));
+    journal.logPlayerNames(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+
+    // records can't be written while the directory is missing
+    journal.close();
+    Files.delete(path);
+    Files.delete(dir);
+    fillScores(bean, Place.EAST, 10, 5, 20);
+    journal.logPlayerScores(bean, Place.EAST);
+    assertFalse("Failed record is committed", journal.sync(500));
+    Files.createDirectory(dir);
+    fillScores(bean, Place.SOUTH, 1, 2, 3);
+    journal.logPlayerScores(bean, Place.SOUTH);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+    GameResultBean restored = new GameResultBean(PrefType.LENINGRAD, 3);
+    assertTrue("Game is not restored", restore(path, restored));
+    assertGamesEqual(bean, restored);
+
+    // a failed checkpoint (e.g. a new game) is not lost
+    Files.delete(path);
+    Files.delete(dir);
+    bean.updateNumberOfPlayers(createNames("Dina", "Egor", "Fedor", "Galina"));
+    journal.checkpoint(bean);
+    assertFalse("Failed checkpoint is committed", journal.sync(500));
+    Files.createDirectory(dir);
+    fillScores(bean, Place.NORTH, 7, 8, 9);
+    journal.logPlayerScores(bean, Place.NORTH);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+    restored = new GameResultBean(PrefType.LENINGRAD, 3);
+    assertTrue("Game is not restored", restore(path, restored));
+    assertGamesEqual(bean, restored);
+    Files.delete(path);
+    Files.delete(dir);
+  }
+
+  /** Tests that a finished game is not restored (a new game is started instead). */
+  public void testFinishedGame() throws Exception {
+    final Path path = this.tempDir.resolve("game.journal");
+    final GameJournal journal = new GameJournal(path);
+    final GameResultBean bean = new GameResultBean(PrefType.SOCHI, 3);
+    journal.restore(bean);
+    bean.updateNumberOfPlayers(createNames("Anna", "Boris", "Vera", "Gleb"));
+    journal.logPlayerNames(bean);
+    for (Place place : Place.FOUR_PLAYERS) {
+      fillScores(bean, place, 10, 20, 30);
+      journal.logPlayerScores(bean, place);
+    }
+
+    // going back from the final scores reopens the game
+    ResultService.generateFinalResults(bean);
+    bean.setArchivedGameId(5);
+    journal.logFinished(bean);
+    bean.setFinalScoresReady(false);
+    bean.setArchivedGameId(-1);
+    journal.logFinished(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    GameResultBean restored = new GameResultBean(PrefType.SOCHI, 3);
+    assertTrue("Reopened game is not restored", restore(path, restored));
+    assertGamesEqual(bean, restored);
+    assertEquals("Wrong archived game ID", -1, restored.getArchivedGameId());
+
+    // the finished state is kept by the checkpoints too
+    ResultService.generateFinalResults(bean);
+    bean.setArchivedGameId(5);
+    journal.logFinished(bean);
+    journal.checkpoint(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+    restored = new GameResultBean(PrefType.SOCHI, 3);
+    assertFalse("Finished game is restored", restore(path, restored));
+    assertEquals("Wrong number of players", 4, restored.getNumberOfPlayers());
+    assertFalse("Wrong final scores ready value", restored.isFinalScoresReady());
+    assertEquals("Wrong archived game ID", -1, restored.getArchivedGameId());
+    assertEquals("Finished game name is restored", "", restored.getPlayerStats().get(Place.EAST).getPlayerName());
+    assertNull("Finished game score is restored", restored.getPlayerStats().get(Place.EAST).getPool());
+
+    // the new game is journaled instead of the finished one
+    final GameResultBean newGame = new GameResultBean(PrefType.SOCHI, 3);
+    restore(path, newGame);
+    assertGamesEqual(restored, newGame);
+  }
+
+  /**
+   * Restores a game from a journal and closes the journal.
+   *
+   * @param path path to the journal file.
+   * @param bean game to restore.
+   * @return true if any change was restored.
+   */
+  private static boolean restore(Path path, GameResultBean bean) throws InterruptedException {
+    final GameJournal journal = new GameJournal(path);
+    final boolean restored = journal.restore(bean);
+    assertTrue("Journal is not synced", journal.sync(5000));
+    journal.close();
+    return restored;
+  }
+
+  /**
+   * Creates a player names map.
+   *
+   * @param east  east player name.
+   * @param south south player name.
+   * @param west  west player name.
+   * @param north north player name (or null for 3 players).
+   * @return the names map.
+   */
+  private static Map<Place, String> createNames(String east, String south, String west, String north) {
+    Map<Place, String> names = new EnumMap<>(Place.class);
+    names.put(Place.EAST, east);
+    names.put(Place.SOUTH, south);
+    names.put(Place.WEST, west);
+    if (north != null) {
+      names.put(Place.NORTH, north);
+    }
+    return names;
+  }
+
+  /**
+   * Sets a player's scores (the same whists against all other players).
+   *
+   * @param bean     game.
+   * @param place    player's place.
+   * @param mountain mountain value.
+   * @param pool     pool value.
+   * @param whists   whists value.
+   */
+  private static void fillScores(GameResultBean bean, Place place, Integer mountain, Integer pool, Integer whists) {
+    PlayerStatistics stats = bean.getPlayerStats().get(place);
+    stats.setMountain(mountain);
+    stats.setPool(pool);
+    for (Place other : Place.getOtherPlayersWhistPlaces(place, bean.getNumberOfPlayers())) {
+      stats.setWhistsAgainstPlayer(other, whists);
+    }
+  }
+
+  /**
+   * Asserts that two games have the same data.
+   *
+   * @param expected expected game.
+   * @param actual   actual game.
+   */
+  private static void assertGamesEqual(GameResultBean expected, GameResultBean actual) {
+    assertEquals("Wrong number of players", expected.getNumberOfPlayers(), actual.getNumberOfPlayers());
+    assertEquals("Wrong pref type", expected.isLeningradka(), actual.isLeningradka());
+    assertEquals("Wrong divisible by N player", expected.getDivisibleByNPlayer(), actual.getDivisibleByNPlayer());
+    for (Place place : Place.getPlaces(expected.getNumberOfPlayers())) {
+      PlayerStatistics exp = expected.getPlayerStats().get(place);
+      PlayerStatistics act = actual.getPlayerStats().get(place);
+      assertEquals("Wrong name", exp.getPlayerName(), act.getPlayerName());
+      assertEquals("Wrong mountain", exp.getMountain(), act.getMountain());
+      assertEquals("Wrong pool", exp.getPool(), act.getPool());
+      for (Place other : Place.getOtherPlayersWhistPlaces(place, expected.getNumberOfPlayers())) {
+        assertEquals("Wrong whists", exp.getWhistsAgainstPlayer(other), act.getWhistsAgainstPlayer(other));
+      }
+    }
+  }
+}
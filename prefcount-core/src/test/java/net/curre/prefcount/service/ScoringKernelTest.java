@@ -0,0 +1,197 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import junit.framework.TestCase;
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+import net.curre.prefcount.test.GameFixtures;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.Place.WEST;
+
+/**
+ * This is a junit test for testing the headless scoring
+ * (no application registry or UI is initialized).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoringKernelTest extends TestCase {
+
+  /** Tests scoring of a 3 players game for both pref types. */
+  public void testHeadlessScoring() {
+    GameResultBean rBean = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    assertEquals("Wrong number of players", 3, rBean.getNumberOfPlayers());
+
+    ResultService.generateFinalResults(rBean);
+    assertEquals("Wrong computed average mountain value", 56.00F, rBean.getAverageMountain());
+    assertEquals("Wrong computed minimum mountain value", Integer.valueOf(22), rBean.getMinMountain());
+    assertEquals("Wrong EAST final score", 444, rBean.getFinalScoreInWhists(EAST));
+    assertEquals("Wrong SOUTH final score", -68, rBean.getFinalScoreInWhists(SOUTH));
+    assertEquals("Wrong WEST final score", -376, rBean.getFinalScoreInWhists(WEST));
+
+    rBean.setLeningradka(false);
+    ResultService.generateFinalResults(rBean);
+    assertEquals("Wrong computed average mountain value", 30.00F, rBean.getAverageMountain());
+    assertEquals("Wrong EAST final score", 184, rBean.getFinalScoreInWhists(EAST));
+    assertEquals("Wrong SOUTH final score", 12, rBean.getFinalScoreInWhists(SOUTH));
+    assertEquals("Wrong WEST final score", -196, rBean.getFinalScoreInWhists(WEST));
+  }
+
+  /** Tests the incremental whist update against the full recomputation. */
+  public void testIncrementalWhistUpdate() {
+    GameResultBean rBean = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    rBean.setMountDivisibleByN(EAST);
+    ResultService.generateFinalResults(rBean);
+    assertEquals("Wrong EAST final score", 444, rBean.getFinalScoreInWhists(EAST));
+
+    // setting the same mountain and pool values doesn't invalidate the scores
+    PlayerStatistics south = rBean.getPlayerStats().get(SOUTH);
+    south.setMountain(22);
+    south.setPool(22);
+    ResultService.updateWhist(rBean, SOUTH, WEST, 50);
+    final long misses = rBean.getCacheMisses();
+    final int[] patched = new int[3];
+    for (Place place : Place.getPlaces(3)) {
+      patched[place.index] = rBean.getFinalScoreInWhists(place);
+    }
+    assertEquals("Incremental update recomputed the final scores", misses, rBean.getCacheMisses());
+    assertEquals("Wrong whists value", Integer.valueOf(50), south.getWhistsAgainstPlayer(WEST));
+    assertEquals("Wrong SOUTH saldo against WEST", Integer.valueOf(-6), south.getWhistSaldoAgainstPlayer(WEST));
+
+    ResultService.generateFinalResults(rBean);
+    int sum = 0;
+    for (Place place : Place.getPlaces(3)) {
+      assertEquals("Wrong " + place + " patched final score",
+                   rBean.getFinalScoreInWhists(place), patched[place.index]);
+      sum += patched[place.index];
+    }
+    assertEquals("Final scores don't add up to zero", 0, sum);
+
+    // without computed results only the whist value is set
+    ResultService.clearFinalResults(rBean);
+    ResultService.updateWhist(rBean, WEST, EAST, 10);
+    assertEquals("Wrong whists value", Integer.valueOf(10),
+                 rBean.getPlayerStats().get(WEST).getWhistsAgainstPlayer(EAST));
+    assertNull("Saldo shouldn't be computed", south.getWhistSaldoAgainstPlayer(WEST));
+
+    // the same value doesn't modify the game
+    ResultService.generateFinalResults(rBean);
+    final long modCount = rBean.getScoreMatrix().getModCount();
+    ResultService.updateWhist(rBean, WEST, EAST, 10);
+    assertEquals("Same whist value modified the game", modCount, rBean.getScoreMatrix().getModCount());
+
+    // a changed mountain makes the saldos stale, so they are not patched
+    rBean.getPlayerStats().get(WEST).setMountain(40);
+    ResultService.updateWhist(rBean, WEST, EAST, 20);
+    assertNull("Stale saldo was patched", rBean.getPlayerStats().get(WEST).getWhistSaldoAgainstPlayer(EAST));
+    ResultService.generateFinalResults(rBean);
+    GameResultBean fresh = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    fresh.setMountDivisibleByN(EAST);
+    GameFixtures.setPlayer(fresh, SOUTH, 22, 22, EAST, 100, WEST, 50);
+    GameFixtures.setPlayer(fresh, WEST, 12, 40, EAST, 20, SOUTH, 56);
+    ResultService.generateFinalResults(fresh);
+    assertEquals("Wrong recomputed WEST saldo", fresh.getPlayerStats().get(WEST).getWhistSaldoAgainstPlayer(EAST),
+                 rBean.getPlayerStats().get(WEST).getWhistSaldoAgainstPlayer(EAST));
+    assertEquals("Wrong recomputed WEST final score", fresh.getFinalScoreInWhists(WEST),
+                 rBean.getFinalScoreInWhists(WEST));
+
+    try {
+      ResultService.updateWhist(rBean, WEST, WEST, 10);
+      fail("Whists against self are set");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  /** Tests refreshing of the final results on the final scores card entry. */
+  public void testRefreshFinalResults() {
+    GameResultBean rBean = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    ResultService.refreshFinalResults(rBean);
+    assertEquals("Wrong EAST final score", 444, rBean.getFinalScoreInWhists(EAST));
+
+    // the same values don't modify the game
+    PlayerStatistics east = rBean.getPlayerStats().get(EAST);
+    final long modCount = rBean.getScoreMatrix().getModCount();
+    east.setWhistsAgainstPlayer(SOUTH, 24);
+    east.setMountFix(east.getMountFix());
+    assertEquals("Same values modified the game", modCount, rBean.getScoreMatrix().getModCount());
+
+    // the patched results are not recomputed
+    ResultService.updateWhist(rBean, SOUTH, WEST, 50);
+    final int patched = rBean.getFinalScoreInWhists(SOUTH);
+    rBean.setFinalScoresReady(false);
+    final long misses = rBean.getCacheMisses();
+    ResultService.refreshFinalResults(rBean);
+    assertTrue("Wrong finalScoreReady value", rBean.isFinalScoresReady());
+    assertEquals("Wrong SOUTH final score", patched, rBean.getFinalScoreInWhists(SOUTH));
+    assertEquals("Patched results were recomputed", misses, rBean.getCacheMisses());
+
+    // stale results are recomputed even if the cached scores were refreshed since
+    rBean.getPlayerStats().get(WEST).setMountain(40);
+    rBean.getFinalScoreInWhists(WEST);
+    ResultService.refreshFinalResults(rBean);
+    GameResultBean fresh = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    GameFixtures.setPlayer(fresh, SOUTH, 22, 22, EAST, 100, WEST, 50);
+    GameFixtures.setPlayer(fresh, WEST, 12, 40, EAST, 72, SOUTH, 56);
+    ResultService.generateFinalResults(fresh);
+    for (Place place : Place.getPlaces(3)) {
+      assertEquals("Wrong " + place + " refreshed final score",
+                   fresh.getFinalScoreInWhists(place), rBean.getFinalScoreInWhists(place));
+    }
+  }
+
+  /** Tests publishing of the immutable score snapshots. */
+  public void testScoreSnapshot() throws Exception {
+    GameResultBean rBean = GameFixtures.createSampleGame(PrefType.LENINGRAD, 3);
+    assertNull("No snapshot should be published yet", rBean.getSnapshot());
+    rBean.getPlayerStats().get(EAST).setPlayerName("Alice");
+    ResultService.generateFinalResults(rBean);
+
+    final ScoreSnapshot first = ResultService.publishSnapshot(rBean);
+    assertSame("Up to date snapshot should be reused", first, ResultService.publishSnapshot(rBean));
+    assertTrue("Wrong finalScoreReady value", first.isFinalScoresReady());
+    assertEquals("Wrong number of players", 3, first.getNumberOfPlayers());
+    assertEquals("Wrong player name", "Alice", first.getPlayerName(EAST));
+    assertEquals("Wrong max pool", 56, first.getMaxPool());
+    assertEquals("Wrong EAST final score", 444, first.getFinalScoreInWhists(EAST));
+    assertEquals("Wrong EAST whists", Integer.valueOf(24), first.getWhistsAgainstPlayer(EAST, SOUTH));
+    assertEquals("Wrong EAST whists string", "24.", first.getWhistsStringForPlayer(EAST, SOUTH));
+
+    // edits don't affect the published snapshot, a new version is published instead
+    ResultService.updateWhist(rBean, EAST, SOUTH, 30);
+    assertEquals("Published snapshot has changed", Integer.valueOf(24), first.getWhistsAgainstPlayer(EAST, SOUTH));
+    final ScoreSnapshot second = ResultService.publishSnapshot(rBean);
+    assertTrue("Snapshot version should grow", second.getVersion() > first.getVersion());
+    assertEquals("Wrong EAST final score", 450, second.getFinalScoreInWhists(EAST));
+    assertEquals("Wrong EAST total saldo", rBean.getPlayerStats().get(EAST).getWhistSaldoAgainstPlayer(EAST),
+                 second.getWhistSaldoAgainstPlayer(EAST, EAST));
+
+    // an older snapshot never replaces a newer one
+    assertSame("Older snapshot was published", second, rBean.publishSnapshot(first));
+
+    // readers on other threads see the latest snapshot
+    final ScoreSnapshot[] read = new ScoreSnapshot[1];
+    Thread reader = new Thread(() -> read[0] = rBean.getSnapshot());
+    reader.start();
+    reader.join();
+    assertSame("Wrong snapshot read by another thread", second, read[0]);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.test;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.PrefType;
+import net.curre.prefcount.service.ResultService;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.Place.WEST;
+
+/**
+ * Game fixtures shared by the tests of all modules (the core test classes
+ * are published as a test jar).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class GameFixtures {
+
+  /** Private constructor - static methods only. */
+  private GameFixtures() {
+  }
+
+  /**
+   * Creates the sample game: EAST, SOUTH and WEST players' scores are set
+   * (the final results are not generated). For 3 players Leningradka, the
+   * final scores are 444 (EAST), -68 (SOUTH) and -376 (WEST) whists.
+   *
+   * @param prefType        type of the game.
+   * @param numberOfPlayers number of players (NORTH's scores are not set).
+   * @return the sample game.
+   */
+  public static GameResultBean createSampleGame(PrefType prefType, int numberOfPlayers) {
+    GameResultBean rBean = new GameResultBean(prefType, numberOfPlayers);
+    setPlayer(rBean, EAST, 56, 22, SOUTH, 24, WEST, 32);
+    setPlayer(rBean, SOUTH, 22, 22, EAST, 100, WEST, 32);
+    setPlayer(rBean, WEST, 12, 34, EAST, 72, SOUTH, 56);
+    return rBean;
+  }
+
+  /**
+   * Creates the 3 players Leningradka sample game with the final results generated.
+   *
+   * @return the finished sample game.
+   */
+  public static GameResultBean createFinishedSampleGame() {
+    GameResultBean rBean = createSampleGame(PrefType.LENINGRAD, 3);
+    ResultService.generateFinalResults(rBean);
+    return rBean;
+  }
+
+  /**
+   * Sets a 3 players game player data.
+   *
+   * @param rBean    game result bean.
+   * @param place    player's place.
+   * @param pool     player's pool.
+   * @param mountain player's mountain.
+   * @param other1   first opponent's place.
+   * @param whist1   whists against the first opponent.
+   * @param other2   second opponent's place.
+   * @param whist2   whists against the second opponent.
+   */
+  public static void setPlayer(GameResultBean rBean, Place place, int pool, int mountain,
+                               Place other1, int whist1, Place other2, int whist2) {
+    PlayerStatistics player = rBean.getPlayerStats().get(place);
+    player.setPool(pool);
+    player.setMountain(mountain);
+    player.setWhistsAgainstPlayer(other1, whist1);
+    player.setWhistsAgainstPlayer(other2, whist2);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import junit.framework.TestCase;
+
+/**
+ * This is a junit test for testing <code>Instrumentation</code>
+ * and <code>LatencyHistogram</code> classes.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class InstrumentationTest extends TestCase {
+
+  /** {@inheritDoc} */
+  @Override
+  protected void tearDown() throws Exception {
+    Instrumentation.setEnabled(false);
+    super.tearDown();
+  }
+
+  /** Tests that nothing is recorded when the instrumentation is off. */
+  public void testDisabled() {
+    Instrumentation.setEnabled(false);
+    final long start = Instrumentation.start();
+    assertEquals("Disabled start must be 0", 0L, start);
+    Instrumentation.stop("testDisabled", start);
+    assertEquals("Nothing should be recorded", 0, Instrumentation.getHistogram("testDisabled").getCount());
+  }
+
+  /** Tests recording and the MBean registration. */
+  public void testEnabled() throws Exception {
+    Instrumentation.setEnabled(true);
+    final long start = Instrumentation.start();
+    assertTrue("Enabled start must be set", start != 0L);
+    Instrumentation.stop("testEnabled", start);
+    LatencyHistogram histogram = Instrumentation.getHistogram("testEnabled");
+    assertEquals("Wrong count", 1, histogram.getCount());
+    assertSame("Histogram is not reused", histogram, Instrumentation.getHistogram("testEnabled"));
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = Instrumentation.getObjectName("testEnabled");
+    assertTrue("MBean is not registered", server.isRegistered(name));
+    assertEquals("Wrong MBean count", 1L, server.getAttribute(name, "Count"));
+    server.invoke(name, "reset", null, null);
+    assertEquals("MBean reset failed", 0, histogram.getCount());
+  }
+
+  /** Tests the histogram statistics. */
+  public void testHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram("test");
+    assertEquals("Wrong empty median", 0d, histogram.getMedianMillis());
+    for (int i = 0; i < 90; i++) {
+      histogram.record(1000000L); // 1ms
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(100000000L); // 100ms
+    }
+    assertEquals("Wrong count", 100, histogram.getCount());
+    assertEquals("Wrong max", 100d, histogram.getMaxMillis(), 1e-9);
+    assertEquals("Wrong mean", 10.9d, histogram.getMeanMillis(), 1e-9);
+    assertEquals("Wrong median bucket", 1.024d, histogram.getMedianMillis(), 1e-9);
+    assertEquals("Wrong 90th percentile bucket", 1.024d, histogram.getPercentile90Millis(), 1e-9);
+    assertEquals("Wrong 99th percentile", 100d, histogram.getPercentile99Millis(), 1e-9);
+    assertEquals("Wrong bucket", 90, histogram.getBuckets()[10]);
+
+    histogram.record(-5);
+    assertEquals("Negative time must go to the first bucket", 1, histogram.getBuckets()[0]);
+    histogram.reset();
+    assertEquals("Wrong count after reset", 0, histogram.getCount());
+    assertEquals("Wrong max after reset", 0d, histogram.getMaxMillis());
+  }
+}
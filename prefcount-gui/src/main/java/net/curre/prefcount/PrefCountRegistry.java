@@ -14,10 +14,20 @@
 
 package net.curre.prefcount;
 
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
 import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.Settings;
 import net.curre.prefcount.gui.MainWindow;
+import net.curre.prefcount.gui.type.PrefType;
+import net.curre.prefcount.service.GameArchive;
+import net.curre.prefcount.service.GameJournal;
 import net.curre.prefcount.service.LafThemeService;
 import net.curre.prefcount.service.ServiceException;
 import net.curre.prefcount.service.SettingsService;
@@ -43,6 +53,12 @@ public class PrefCountRegistry {
   /** Default value for the locale ID (case-insensitive language name). */
   public static final String DEFAULT_LOCALE_ID = "ru";
 
+  /** Name of the journal file of the game in progress (in the settings directory). */
+  private static final String GAME_JOURNAL_FILENAME = "prefcount-game.journal";
+
+  /** Name of the archive file of the finished games (in the settings directory). */
+  private static final String GAME_ARCHIVE_FILENAME = "prefcount-games.archive";
+
   /** Array of available locales in the application. */
   public static final LocaleExt[] AVAILABLE_LOCALES = new LocaleExt[]{
       new LocaleExt("ru", "RU", "\u0420\u0443\u0441\u0441\u043A\u0438\u0439"),
@@ -67,6 +83,15 @@ public class PrefCountRegistry {
   /** Reference to the result bean */
   private GameResultBean gameResultBean;
 
+  /** Reference to the journal of the game in progress. */
+  private GameJournal gameJournal;
+
+  /** Reference to the archive of the finished games (null if it can't be opened). */
+  private final GameArchive gameArchive;
+
+  /** Snapshots of the games finished in this session (in the order they were finished). */
+  private final List<ScoreSnapshot> sessionGames = new ArrayList<>();
+
   static {
     instance = new PrefCountRegistry();
   }
@@ -91,9 +116,21 @@ public class PrefCountRegistry {
     // Settings must be initialized (and loaded) first.
     this.settingsService = new SettingsService(null);
     this.lafThemeService = new LafThemeService();
+    this.gameArchive = openGameArchive();
     SwingUtilities.invokeLater(() -> {
       // Game result bean depends on the loaded settings.
-      PrefCountRegistry.this.gameResultBean = new GameResultBean();
+      Settings settings = PrefCountRegistry.this.settingsService.getSettings();
+      PrefCountRegistry.this.gameResultBean = new GameResultBean(settings.getPrefType(),
+                                                                 settings.getNumberOfPlayers());
+
+      // Restoring the game that was in progress when the app was last closed (or crashed).
+      PrefCountRegistry.this.gameJournal = new GameJournal(Paths.get(
+          SettingsService.getVerifiedSettingsDirectoryPath() + File.separatorChar + GAME_JOURNAL_FILENAME));
+      GameResultBean rBean = PrefCountRegistry.this.gameResultBean;
+      if (PrefCountRegistry.this.gameJournal.restore(rBean)) {
+        settings.setNumberOfPlayers(rBean.getNumberOfPlayers());
+        settings.setPrefType(rBean.isLeningradka() ? PrefType.LENINGRAD : PrefType.SOCHI);
+      }
     });
   }
 
@@ -161,6 +198,49 @@ public class PrefCountRegistry {
     return this.gameResultBean;
   }
 
+  /**
+   * Getter for the journal of the game in progress.
+   *
+   * @return reference to the game journal.
+   */
+  public GameJournal getGameJournal() {
+    return this.gameJournal;
+  }
+
+  /**
+   * Getter for the archive of the finished games.
+   *
+   * @return reference to the game archive or null if the archive can't be opened.
+   */
+  public GameArchive getGameArchive() {
+    return this.gameArchive;
+  }
+
+  /**
+   * Adds a finished game to the session games.
+   *
+   * @param snapshot snapshot of the finished game.
+   */
+  public void addSessionGame(ScoreSnapshot snapshot) {
+    this.sessionGames.add(snapshot);
+  }
+
+  /** Removes the last finished game from the session games (when it's being edited again). */
+  public void removeLastSessionGame() {
+    if (!this.sessionGames.isEmpty()) {
+      this.sessionGames.remove(this.sessionGames.size() - 1);
+    }
+  }
+
+  /**
+   * Gets the games finished in this session.
+   *
+   * @return unmodifiable list of the finished games snapshots.
+   */
+  public List<ScoreSnapshot> getSessionGames() {
+    return Collections.unmodifiableList(this.sessionGames);
+  }
+
   /**
    * Getter for the main window reference.
    *
@@ -179,6 +259,21 @@ public class PrefCountRegistry {
     this.mainWindow = mainWindow;
   }
 
+  /**
+   * Opens the archive of the finished games.
+   *
+   * @return the game archive or null if it can't be opened.
+   */
+  private static GameArchive openGameArchive() {
+    try {
+      return new GameArchive(Paths.get(
+          SettingsService.getVerifiedSettingsDirectoryPath() + File.separatorChar + GAME_ARCHIVE_FILENAME));
+    } catch (ServiceException e) {
+      logger.error("Unable to open the game archive, finished games won't be archived", e);
+      return null;
+    }
+  }
+
   /**
    * Gets a <code>LocaleExt</code> object given its
    * corresponding language name (case-insensitive).
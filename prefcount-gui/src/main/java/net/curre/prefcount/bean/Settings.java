@@ -46,13 +46,16 @@ public class Settings implements Serializable {
   public static final PrefType DEFAULT_PREF_TYPE = PrefType.LENINGRAD;
 
   /** Default number of players option. */
-  public static final int DEFAULT_PLAYERS_NUMBER = 3;
+  public static final int DEFAULT_PLAYERS_NUMBER = GameResultBean.DEFAULT_PLAYERS_NUMBER;
 
   /** Default divisible by N option. */
   public static final boolean DEFAULT_DIVISIBLE_BY = true;
 
   /** Default player for the "Divisible by N" mount adjustment. */
-  public static final Place DEFAULT_ADJ_PLAYER = Place.EAST;
+  public static final Place DEFAULT_ADJ_PLAYER = GameResultBean.DEFAULT_ADJ_PLAYER;
+
+  /** Default live resize mode option. */
+  public static final boolean DEFAULT_LIVE_RESIZE = true;
 
   /** The main window frame width. */
   private int mainWindowWidth;
@@ -72,6 +75,12 @@ public class Settings implements Serializable {
   /** Number of players in the game. */
   private int numberOfPlayers;
 
+  /**
+   * Live resize mode option (the score board is drawn scaled while
+   * resizing); null in the settings saved by the older versions.
+   */
+  private Boolean liveResize;
+
   /**
    * Default constructor that initializes
    * all properties to the default values.
@@ -191,6 +200,24 @@ public class Settings implements Serializable {
     this.numberOfPlayers = numberOfPlayers;
   }
 
+  /**
+   * Getter for the live resize mode option.
+   *
+   * @return true if the score board is drawn scaled while being resized.
+   */
+  public boolean isLiveResize() {
+    return this.liveResize == null ? DEFAULT_LIVE_RESIZE : this.liveResize;
+  }
+
+  /**
+   * Setter for the live resize mode option.
+   *
+   * @param liveResize true to draw the score board scaled while being resized.
+   */
+  public void setLiveResize(boolean liveResize) {
+    this.liveResize = liveResize;
+  }
+
   /**
    * Helper method to initialize all settings
    * properties to default values.
@@ -202,5 +229,6 @@ public class Settings implements Serializable {
     this.localeId = PrefCountRegistry.DEFAULT_LOCALE_ID;
     this.prefType = DEFAULT_PREF_TYPE;
     this.numberOfPlayers = DEFAULT_PLAYERS_NUMBER;
+    this.liveResize = DEFAULT_LIVE_RESIZE;
   }
 }
@@ -0,0 +1,274 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.ScoreItem;
+import net.curre.prefcount.util.TextRenderCache;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * This is a map to hold the score item locations (shapes)
+ * for the tooltip logic. The locations are also kept in a
+ * uniform grid (spatial index) that is rebuilt lazily only
+ * after the shape bounds have changed, so that hit-testing a
+ * point checks only the few shapes of one grid cell (the current
+ * shapes are looked up in the map at hit time).
+ * <p/>
+ * Created date: Jun 25, 2008
+ *
+ * @author Yevgeny Nyden
+ */
+public class TooltipLocationsMap extends HashMap<ScoreItem, Map<Place, Shape>> {
+
+  /** Size (in pixels) of a spatial index grid cell. */
+  private static final int CELL_SIZE = 32;
+
+  /** Spatial index grid cells (row major) or null if the index needs rebuilding. */
+  private Cell[] grid;
+
+  /** Spatial index grid X origin. */
+  private int gridX;
+
+  /** Spatial index grid Y origin. */
+  private int gridY;
+
+  /** Number of spatial index grid columns. */
+  private int gridColumns;
+
+  /** Number of spatial index grid rows. */
+  private int gridRows;
+
+  /** Number of times the spatial index was rebuilt. */
+  private long indexBuilds;
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<Place, Shape> get(Object item) {
+    if (!(item instanceof ScoreItem)) {
+      throw new IllegalArgumentException("Key is not an instance of " + ScoreItem.class.getName());
+    }
+
+    Map<Place, Shape> sMap = super.get(item);
+    if (sMap == null) {
+      sMap = new HashMap<>();
+      super.put((ScoreItem) item, sMap);
+    }
+
+    return sMap;
+  }
+
+  /**
+   * Clears a location for the given place and items.
+   *
+   * @param place player's place.
+   * @param items score items.
+   */
+  public void removeLocation(Place place, ScoreItem... items) {
+    for (ScoreItem item : items) {
+      if (this.get(item).remove(place) != null) {
+        this.grid = null;
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    super.clear();
+    this.grid = null;
+  }
+
+  /**
+   * Adds a shape that represents a tooltip area to the map.
+   *
+   * @param item  score board item.
+   * @param place player's place.
+   * @param shape shape to add.
+   */
+  public void addShapeLocation(ScoreItem item, Place place, Shape shape) {
+    Map<Place, Shape> shapesMap = this.get(item);
+    Shape oldShape = shapesMap.put(place, shape);
+    if (oldShape == null || !oldShape.getBounds2D().equals(shape.getBounds2D())) {
+      this.grid = null;
+    }
+  }
+
+  /**
+   * Helper method to compute and add a tooltip location
+   * to the tooltip location map for the given data. Note,
+   * that this method adds rectangular tooltip bounds.
+   *
+   * @param item  score board item.
+   * @param place player's place.
+   * @param g2    graphics context.
+   * @param x     X coordinate where the string is drawn.
+   * @param y     Y coordinate where the string is drawn.
+   * @param str   string for which the tooltip location is recorded.
+   */
+  public void addRectangleLocation(ScoreItem item, Place place, Graphics2D g2,
+                                   double x, double y, String str) {
+    if (StringUtils.isNotBlank(str)) {
+      this.addShapeLocation(item, place, getRectangleBounds(g2, x, y, str));
+    } else {
+      this.removeLocation(place, item);
+    }
+  }
+
+  /**
+   * Finds the score item location that contains the given point.
+   *
+   * @param x point's X coordinate.
+   * @param y point's Y coordinate.
+   * @return the location that contains the point or null if there is none.
+   */
+  public Location findLocation(double x, double y) {
+    if (this.grid == null) {
+      this.buildIndex();
+    }
+    final int col = (int) Math.floor((x - this.gridX) / CELL_SIZE);
+    final int row = (int) Math.floor((y - this.gridY) / CELL_SIZE);
+    if (col < 0 || row < 0 || col >= this.gridColumns || row >= this.gridRows) {
+      return null;
+    }
+    final Cell cell = this.grid[row * this.gridColumns + col];
+    if (cell != null) {
+      for (Location location : cell.locations) {
+        // the shape may have been replaced by one with the same bounds
+        final Shape shape = super.get(location.item).get(location.place);
+        if (shape != null && shape.contains(x, y)) {
+          return location;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the number of times the spatial index was rebuilt.
+   *
+   * @return number of the index builds.
+   */
+  public long getIndexBuilds() {
+    return this.indexBuilds;
+  }
+
+  /** Rebuilds the spatial index grid from the current shapes. */
+  private void buildIndex() {
+    List<Location> locations = new ArrayList<>();
+    Rectangle2D all = null;
+    for (ScoreItem item : ScoreItem.values()) {
+      Map<Place, Shape> shapesMap = super.get(item);
+      if (shapesMap == null) {
+        continue;
+      }
+      for (Map.Entry<Place, Shape> entry : shapesMap.entrySet()) {
+        Location location = new Location(item, entry.getKey(), entry.getValue());
+        locations.add(location);
+        if (all == null) {
+          all = location.bounds.getBounds2D();
+        } else {
+          all.add(location.bounds);
+        }
+      }
+    }
+
+    if (all == null) {
+      this.gridX = this.gridY = this.gridColumns = this.gridRows = 0;
+      this.grid = new Cell[0];
+    } else {
+      this.gridX = (int) Math.floor(all.getMinX());
+      this.gridY = (int) Math.floor(all.getMinY());
+      this.gridColumns = (int) Math.ceil((all.getMaxX() - this.gridX) / CELL_SIZE) + 1;
+      this.gridRows = (int) Math.ceil((all.getMaxY() - this.gridY) / CELL_SIZE) + 1;
+      this.grid = new Cell[this.gridColumns * this.gridRows];
+      for (Location location : locations) {
+        final int col1 = (int) ((location.bounds.getMinX() - this.gridX) / CELL_SIZE);
+        final int col2 = (int) ((location.bounds.getMaxX() - this.gridX) / CELL_SIZE);
+        final int row1 = (int) ((location.bounds.getMinY() - this.gridY) / CELL_SIZE);
+        final int row2 = (int) ((location.bounds.getMaxY() - this.gridY) / CELL_SIZE);
+        for (int row = row1; row <= row2; row++) {
+          for (int col = col1; col <= col2; col++) {
+            final int idx = row * this.gridColumns + col;
+            if (this.grid[idx] == null) {
+              this.grid[idx] = new Cell();
+            }
+            this.grid[idx].locations.add(location);
+          }
+        }
+      }
+    }
+    this.indexBuilds++;
+  }
+
+  /**
+   * Computes the tooltip bounding rectangle for the passed String
+   * using the passed graphics context.
+   *
+   * @param g2    Graphics object to use.
+   * @param x     X coordinate at which the string is drawn.
+   * @param y     Y coordinate at which the string is drawn.
+   * @param str   string to be measured.
+   * @return The rectangle that represents the tooltip bounds of the passed string.
+   */
+  private static Rectangle2D.Double getRectangleBounds(Graphics2D g2, double x, double y, String str) {
+    TextRenderCache.Entry text = TextRenderCache.getInstance().get(g2, str);
+    final double width = text.width;
+    final double height = text.height - 3D;
+    return new Rectangle2D.Double(x, y - height + 3D, width, height);
+  }
+
+  /** Location (shape) of a score item of a player. */
+  public static class Location {
+
+    /** Score board item. */
+    public final ScoreItem item;
+
+    /** Player's place. */
+    public final Place place;
+
+    /** Bounds of the item's shape. */
+    private final Rectangle2D bounds;
+
+    /**
+     * Constructor.
+     *
+     * @param item  score board item.
+     * @param place player's place.
+     * @param shape item's shape.
+     */
+    Location(ScoreItem item, Place place, Shape shape) {
+      this.item = item;
+      this.place = place;
+      this.bounds = shape.getBounds2D();
+    }
+  }
+
+  /** Spatial index grid cell. */
+  private static class Cell {
+
+    /** Locations whose bounds intersect the cell. */
+    private final List<Location> locations = new ArrayList<>(2);
+  }
+}
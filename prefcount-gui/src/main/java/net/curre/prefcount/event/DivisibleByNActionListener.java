@@ -48,6 +48,7 @@ public class DivisibleByNActionListener implements ActionListener {
       dialog.setVisible(true);
     } else {
       resultBean.setMountDivisibleByN(null);
+      registry.getGameJournal().logDivisibleByN(resultBean);
     }
   }
 }
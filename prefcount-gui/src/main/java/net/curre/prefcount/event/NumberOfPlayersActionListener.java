@@ -66,6 +66,7 @@ public class NumberOfPlayersActionListener implements ActionListener {
     int numberOfPlayers = newPlayers3Selected ? 3 : 4;
     settings.setNumberOfPlayers(numberOfPlayers);
     registry.getGameResultBean().resetNumberOfPlayers(numberOfPlayers);
+    registry.getGameJournal().checkpoint(registry.getGameResultBean());
     this.inputDataPanel.updateNumberOfPlayers(numberOfPlayers);
   }
 }
@@ -22,6 +22,7 @@ import javax.swing.JTable;
 import javax.swing.JTextField;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.util.function.DoubleConsumer;
 
 /**
  * Point value text input key listener to update the scores table.
@@ -32,10 +33,12 @@ public class PointValueKeyListener implements KeyListener {
 
   private final JTextField pointCost;
   private final JTable scoreTable;
+  private final DoubleConsumer costListener;
 
-  public PointValueKeyListener(JTextField pointCost, JTable scoreTable) {
+  public PointValueKeyListener(JTextField pointCost, JTable scoreTable, DoubleConsumer costListener) {
     this.pointCost = pointCost;
     this.scoreTable = scoreTable;
+    this.costListener = costListener;
   }
 
   /** Does nothing. */
@@ -49,16 +52,29 @@ public class PointValueKeyListener implements KeyListener {
   /** {@inheritDoc} */
   public void keyReleased(KeyEvent event) {
     try {
-      String costStr = this.pointCost.getText().trim();
-      double cost = 0.0;
-      if (!costStr.isEmpty() &&
-          !costStr.equals("0.") && !costStr.equals("0,")) {
-        cost = Double.parseDouble(costStr);
-      }
+      double cost = parsePointCost(this.pointCost.getText());
       ScoreTableModel tableModel = (ScoreTableModel) scoreTable.getModel();
       tableModel.refreshWinnings(cost);
+      this.costListener.accept(cost);
     } catch (NumberFormatException e) {
       // Ignore the errors
     }
   }
+
+  /**
+   * Parses the point cost entered by the user.
+   *
+   * @param text point cost text.
+   * @return the point cost (0 if nothing is entered yet).
+   * @throws NumberFormatException if the text is not a number.
+   */
+  public static double parsePointCost(String text) {
+    String costStr = text.trim();
+    double cost = 0.0;
+    if (!costStr.isEmpty() &&
+        !costStr.equals("0.") && !costStr.equals("0,")) {
+      cost = Double.parseDouble(costStr);
+    }
+    return cost;
+  }
 }
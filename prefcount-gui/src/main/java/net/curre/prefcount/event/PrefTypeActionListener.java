@@ -51,5 +51,6 @@ public class PrefTypeActionListener implements ActionListener {
 
     settings.setPrefType(newIsLeningradka ? PrefType.LENINGRAD : PrefType.SOCHI);
     registry.getGameResultBean().setLeningradka(newIsLeningradka);
+    registry.getGameJournal().checkpoint(registry.getGameResultBean());
   }
 }
@@ -254,6 +254,7 @@ public class DivisibleByNPlayerPickerDialog extends JDialog {
 		Place playerPlace = this.getSelectedPlayer();
 		logger.info("Storing player {} for mount divisibility", playerPlace);
 		resultBean.setMountDivisibleByN(playerPlace);
+		PrefCountRegistry.getInstance().getGameJournal().logDivisibleByN(resultBean);
 		logger.info("Closing the DivisibleByNPlayerPickerDialog");
 		this.setVisible(false);
 	}
@@ -31,11 +31,14 @@ import java.util.Objects;
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
 import javax.swing.SwingUtilities;
 
 import net.curre.prefcount.App;
 import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
 import net.curre.prefcount.bean.Settings;
 import net.curre.prefcount.event.ClosingWindowListener;
 import net.curre.prefcount.gui.game.DataCardsContainerPanel;
@@ -43,7 +46,9 @@ import net.curre.prefcount.gui.menu.PrefCountMenuBar;
 import net.curre.prefcount.gui.theme.LafTheme;
 import net.curre.prefcount.gui.theme.PrintTheme;
 
+import net.curre.prefcount.service.GameArchive;
 import net.curre.prefcount.service.MainService;
+import net.curre.prefcount.service.ResultService;
 import net.curre.prefcount.service.UiService;
 import net.curre.prefcount.util.LocaleExt;
 
@@ -72,6 +77,18 @@ public class MainWindow extends JFrame implements Printable {
   /** Reference to the menu bar. */
   private final PrefCountMenuBar prefCountMenuBar;
 
+  /** Frame with the dashboard of all games or null if it hasn't been shown yet. */
+  private JFrame dashboardFrame;
+
+  /** Dashboard of all games or null if it hasn't been shown yet. */
+  private ScoreBoardDashboard dashboard;
+
+  /** Frame with the players statistics or null if it hasn't been shown yet. */
+  private JFrame playerStatsFrame;
+
+  /** Model of the players statistics table or null if it hasn't been shown yet. */
+  private PlayerStatsTableModel playerStatsModel;
+
   /**
    * Constructor that sets frame visibility.
    */
@@ -122,6 +139,14 @@ public class MainWindow extends JFrame implements Printable {
     super.repaint();
   }
 
+  /**
+   * Repaints the changed scores on the score board
+   * (call after the game data has been edited).
+   */
+  public void repaintScores() {
+    this.scoreBoardPanel.repaintChanges();
+  }
+
   /**
    * Refreshes locale sensitive components.
    * This method is called on a locale change event.
@@ -141,6 +166,69 @@ public class MainWindow extends JFrame implements Printable {
                                   icon);
   }
 
+  /**
+   * Displays the dashboard with the score boards of all games of the session
+   * and of the current game (which is updated as the game is edited).
+   */
+  public void showDashboard() {
+    final PrefCountRegistry registry = PrefCountRegistry.getInstance();
+    if (this.dashboardFrame == null) {
+      this.dashboard = new ScoreBoardDashboard();
+      this.dashboardFrame = new JFrame(LocaleExt.getString("pref.dashboard.title"));
+      this.dashboardFrame.setIconImage(super.getIconImage());
+      this.dashboardFrame.setDefaultCloseOperation(JFrame.HIDE_ON_CLOSE);
+      this.dashboardFrame.getContentPane().add(this.dashboard, BorderLayout.CENTER);
+      registry.getLafThemeService().registerUITreeForUpdates(this.dashboardFrame);
+    }
+
+    this.dashboard.removeAllBoards();
+    int gameNumber = 1;
+    for (ScoreSnapshot snapshot : registry.getSessionGames()) {
+      this.dashboard.addBoard(LocaleExt.getString("pref.dashboard.game", String.valueOf(gameNumber++)),
+                              () -> snapshot);
+    }
+    this.dashboard.addBoard(LocaleExt.getString("pref.dashboard.current"), () -> {
+      final GameResultBean rBean = registry.getGameResultBean();
+      return rBean == null ? null : ResultService.publishSnapshot(rBean);
+    });
+    this.dashboardFrame.pack();
+    if (!this.dashboardFrame.isVisible()) {
+      this.dashboardFrame.setLocationRelativeTo(this);
+    }
+    this.dashboardFrame.setVisible(true);
+    this.dashboardFrame.toFront();
+  }
+
+  /**
+   * Displays the lifetime statistics of the players of all archived games
+   * (read from the archive's player stats index, no games are scanned).
+   */
+  public void showPlayerStats() {
+    final PrefCountRegistry registry = PrefCountRegistry.getInstance();
+    final GameArchive archive = registry.getGameArchive();
+    if (archive == null) {
+      return;
+    }
+    if (this.playerStatsFrame == null) {
+      this.playerStatsModel = new PlayerStatsTableModel();
+      JTable table = new JTable(this.playerStatsModel);
+      table.setAutoCreateRowSorter(true);
+      this.playerStatsFrame = new JFrame(LocaleExt.getString("pref.playerStats.title"));
+      this.playerStatsFrame.setIconImage(super.getIconImage());
+      this.playerStatsFrame.setDefaultCloseOperation(JFrame.HIDE_ON_CLOSE);
+      this.playerStatsFrame.getContentPane().add(new JScrollPane(table), BorderLayout.CENTER);
+      registry.getLafThemeService().registerUITreeForUpdates(this.playerStatsFrame);
+    }
+
+    this.playerStatsModel.setEntries(archive.getPlayerStats());
+    this.playerStatsFrame.pack();
+    if (!this.playerStatsFrame.isVisible()) {
+      this.playerStatsFrame.setLocationRelativeTo(this);
+    }
+    this.playerStatsFrame.setVisible(true);
+    this.playerStatsFrame.toFront();
+  }
+
   /**
    * Enables the print scores menu button.
    *
@@ -176,21 +264,17 @@ public class MainWindow extends JFrame implements Printable {
       // drawing the score table only if the final scores are ready
       int nextY = y + g2.getFontMetrics().getHeight() + 5;
       g2.translate(0, nextY);
-      GameResultBean resultBean = PrefCountRegistry.getInstance().getGameResultBean();
-      if (resultBean.isFinalScoresReady()) {
-        // TODO = fix this, read the final data from the new place
-/*
-        JPanel table = this.playerDialogFrame.lastInputPanel.tablePanel;
-        int tableX = UiService.computeCenterX(width, table.getWidth());
-        g2.translate(tableX, 0);
-        table.paintComponents(g2);
-        g2.translate(-tableX, table.getHeight() + 15);
-*/
+      ScoreSnapshot snapshot = ResultService.publishSnapshot(registry.getGameResultBean());
+      final LafTheme printTheme = new PrintTheme();
+      if (snapshot.isFinalScoresReady()) {
+        final int tableWidth = width / 2;
+        final int tableHeight = ScoreSheetPrinter.drawScoreTable(g2, snapshot, UiService.computeCenterX(width, tableWidth),
+                                                                 0, tableWidth, printTheme);
+        g2.translate(0, tableHeight + 15);
       }
 
       // drawing the score board
       final int minSize = Math.min(height, width) - 50;
-      final LafTheme printTheme = new PrintTheme();
       this.scoreBoardPanel.drawScoreBoard(g2, minSize, minSize, UiService.computeCenterX(width, minSize),
                                           0, null, printTheme);
       g2.translate(0, minSize + 15);
@@ -0,0 +1,111 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.table.AbstractTableModel;
+
+import net.curre.prefcount.service.PlayerStatsIndex;
+import net.curre.prefcount.util.LocaleExt;
+
+/**
+ * Represents the model for the players lifetime statistics table.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class PlayerStatsTableModel extends AbstractTableModel {
+
+  /** Array of column resource keys. */
+  private static final String[] COLUMN_NAMES = {
+      "pref.playerStats.name",
+      "pref.playerStats.games",
+      "pref.playerStats.whists",
+      "pref.playerStats.averageScore",
+      "pref.playerStats.money"
+  };
+
+  /** Array of column classes. */
+  private static final Class<?>[] COLUMN_CLASSES = {
+      String.class, Integer.class, Long.class, Double.class, Double.class
+  };
+
+  /** Players statistics (rows). */
+  private List<PlayerStatsIndex.Entry> entries = new ArrayList<>();
+
+  /**
+   * Sets the players statistics to display.
+   *
+   * @param entries players statistics.
+   */
+  public void setEntries(List<PlayerStatsIndex.Entry> entries) {
+    this.entries = entries;
+    super.fireTableDataChanged();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getColumnCount() {
+    return COLUMN_NAMES.length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getRowCount() {
+    return this.entries.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getColumnName(int col) {
+    return LocaleExt.getString(COLUMN_NAMES[col]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Class<?> getColumnClass(int col) {
+    return COLUMN_CLASSES[col];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object getValueAt(int row, int col) {
+    PlayerStatsIndex.Entry entry = this.entries.get(row);
+    switch (col) {
+      case 0:
+        return entry.getName();
+      case 1:
+        return entry.getGamesPlayed();
+      case 2:
+        return entry.getTotalWhists();
+      case 3:
+        return Math.round(entry.getAverageFinalScore() * 10d) / 10d;
+      default:
+        return Math.round(entry.getMoneyWon() * 100d) / 100d;
+    }
+  }
+
+  /**
+   * This method always returns false.
+   * <p/>
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isCellEditable(int row, int col) {
+    return false;
+  }
+}
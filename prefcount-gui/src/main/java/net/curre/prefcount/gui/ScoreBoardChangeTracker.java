@@ -0,0 +1,184 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.Objects;
+
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.TooltipLocationsMap;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.ScoreItem;
+import static net.curre.prefcount.gui.type.ScoreItem.*;
+
+/**
+ * Determines which regions of the score board have to be repainted
+ * after a change of the game data. Changed values are mapped to the
+ * score items that display them and the bounds of those items are
+ * taken from the tooltip locations recorded by the last paint.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+class ScoreBoardChangeTracker {
+
+  /** Extra space to the left of and above/below an item (for the shapes around the values). */
+  private static final int PADDING = 8;
+
+  /** Extra space to the right of an item (the values are left aligned and may grow). */
+  private static final int PADDING_RIGHT = 64;
+
+  /** Locations of the items as recorded by the last paint. */
+  private final TooltipLocationsMap locations;
+
+  /** Snapshot to compare against. */
+  private final ScoreSnapshot prev;
+
+  /** Snapshot with the new data. */
+  private final ScoreSnapshot next;
+
+  /** Accumulated dirty region or null if nothing is dirty yet. */
+  private Rectangle dirty;
+
+  /** Indicates that the whole board has to be repainted. */
+  private boolean full;
+
+  /**
+   * Constructor.
+   *
+   * @param locations item locations recorded by the last paint.
+   * @param prev      snapshot that was painted last (or null).
+   * @param next      snapshot to paint.
+   */
+  private ScoreBoardChangeTracker(TooltipLocationsMap locations, ScoreSnapshot prev, ScoreSnapshot next) {
+    this.locations = locations;
+    this.prev = prev;
+    this.next = next;
+  }
+
+  /**
+   * Computes the region of the board that displays values changed between two snapshots.
+   *
+   * @param locations item locations recorded by the last paint.
+   * @param prev      snapshot that was painted last (or null).
+   * @param next      snapshot to paint.
+   * @return the dirty region (empty when nothing changed) or null
+   *         if the layout changed and the whole board must be repainted.
+   */
+  static Rectangle computeDirtyRegion(TooltipLocationsMap locations, ScoreSnapshot prev, ScoreSnapshot next) {
+    if (prev == next) {
+      return new Rectangle();
+    }
+    if (prev == null || prev.getNumberOfPlayers() != next.getNumberOfPlayers() ||
+        prev.isFinalScoresReady() != next.isFinalScoresReady()) {
+      return null;
+    }
+    ScoreBoardChangeTracker tracker = new ScoreBoardChangeTracker(locations, prev, next);
+    for (Place place : Place.getPlaces(next.getNumberOfPlayers())) {
+      tracker.comparePlayer(place);
+      if (tracker.full) {
+        return null;
+      }
+    }
+    return tracker.dirty == null ? new Rectangle() : tracker.dirty;
+  }
+
+  /**
+   * Marks the items of the given player whose values have changed.
+   *
+   * @param place player's place.
+   */
+  private void comparePlayer(Place place) {
+    final boolean ready = this.next.isFinalScoresReady();
+    final boolean mountChanged = !Objects.equals(this.prev.getMountain(place), this.next.getMountain(place));
+    if (mountChanged) {
+      mark(PLAYER_MOUNT, place);
+    }
+    final boolean poolChanged = !Objects.equals(this.prev.getPool(place), this.next.getPool(place));
+    if (poolChanged) {
+      mark(PLAYER_POOL, place);
+    }
+
+    if (ready) {
+      // the computed mountain values are drawn next to the mountain
+      if (mountChanged || this.prev.getNewMountain(place) != this.next.getNewMountain(place) ||
+          this.prev.getMinMountain() != this.next.getMinMountain() ||
+          !Objects.equals(this.prev.getMountFix(place), this.next.getMountFix(place))) {
+        mark(PLAYER_NEW_MOUNT, place);
+        mark(PLAYER_AMNIST_MOUNT, place);
+        if (this.prev.getMountFix(place) != null || this.next.getMountFix(place) != null) {
+          mark(PLAYER_FIXED_MOUNT, place);
+        }
+      }
+      if (poolChanged || this.prev.getMaxPool() != this.next.getMaxPool()) {
+        mark(PLAYER_POOL_CLOSED, place);
+      }
+      if (this.prev.getFinalMountainInWhists(place) != this.next.getFinalMountainInWhists(place)) {
+        mark(FINAL_MOUNT, place);
+      }
+      if (this.prev.getFinalScoreInWhists(place) != this.next.getFinalScoreInWhists(place)) {
+        mark(FINAL_SCORE, place);
+      }
+      if (!Objects.equals(this.prev.getWhistSaldoAgainstPlayer(place, place),
+                          this.next.getWhistSaldoAgainstPlayer(place, place))) {
+        mark(WHIST_SALDO_TOTAL, place);
+      }
+    }
+
+    for (Place other : Place.getOtherPlayersWhistPlaces(place, this.next.getNumberOfPlayers())) {
+      final boolean whistChanged = !Objects.equals(this.prev.getWhistsAgainstPlayer(place, other),
+                                                   this.next.getWhistsAgainstPlayer(place, other));
+      if (whistChanged) {
+        mark(ScoreItem.getWhistForPlace(other), place);
+      }
+      if (ready) {
+        final Integer prevFix = this.prev.getWhistFixAgainstPlayer(place, other);
+        final Integer nextFix = this.next.getWhistFixAgainstPlayer(place, other);
+        if ((prevFix != null || nextFix != null) && (whistChanged || !Objects.equals(prevFix, nextFix))) {
+          mark(ScoreItem.getWhistFixForWhist(other), place);
+        }
+        if (!Objects.equals(this.prev.getWhistSaldoAgainstPlayer(place, other),
+                            this.next.getWhistSaldoAgainstPlayer(place, other))) {
+          mark(ScoreItem.getWhistSaldoForPlace(other), place);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the bounds of an item to the dirty region; the whole board
+   * becomes dirty if the item location isn't known.
+   *
+   * @param item  score item to repaint.
+   * @param place player's place.
+   */
+  private void mark(ScoreItem item, Place place) {
+    final Shape shape = this.locations.get(item).get(place);
+    if (shape == null) {
+      this.full = true;
+      return;
+    }
+    final Rectangle bounds = shape.getBounds();
+    bounds.setBounds(bounds.x - PADDING, bounds.y - PADDING, bounds.width + PADDING + PADDING_RIGHT,
+                     bounds.height + 2 * PADDING);
+    if (this.dirty == null) {
+      this.dirty = bounds;
+    } else {
+      this.dirty.add(bounds);
+    }
+  }
+}
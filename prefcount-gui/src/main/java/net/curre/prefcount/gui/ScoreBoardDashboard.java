@@ -0,0 +1,315 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+import net.curre.prefcount.PrefCountRegistry;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.theme.RenderState;
+import net.curre.prefcount.util.TextRenderCache;
+
+/**
+ * Dashboard that displays the score boards of many games (e.g. all tables
+ * of a tournament) as thumbnails in a grid. Every board is drawn at a fixed
+ * logical size and scaled down to its grid cell, so all thumbnails share the
+ * same static board layer (one layer cache per number of players), the text
+ * render cache and the compiled render state of the current theme. The games
+ * are polled once per frame and only the regions of the boards that display
+ * changed values are repainted.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardDashboard extends JPanel {
+
+  /** Logical size the boards are drawn at (before they are scaled to their cells). */
+  static final int BOARD_SIZE = 600;
+
+  /** Delay between the game polls in milliseconds (~60 frames per second). */
+  static final int FRAME_DELAY = 16;
+
+  /** Font of the board titles. */
+  private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 12);
+
+  /** Height of the board titles. */
+  private static final int TITLE_HEIGHT = 18;
+
+  /** Space between the grid cells. */
+  private static final int GAP = 8;
+
+  /** Preferred size of a grid cell. */
+  private static final int PREFERRED_CELL_SIZE = 260;
+
+  /** Boards on the dashboard in the grid order. */
+  private final List<Board> boards;
+
+  /** Layer caches shared by all boards (indexed by the number of players - 3). */
+  private final ScoreBoardLayerCache[] layerCaches;
+
+  /** Timer that polls the games for changes. */
+  private final Timer timer;
+
+  /** Constructs a new <code>ScoreBoardDashboard</code> object. */
+  public ScoreBoardDashboard() {
+    this.boards = new ArrayList<>();
+    this.layerCaches = new ScoreBoardLayerCache[] {new ScoreBoardLayerCache(), new ScoreBoardLayerCache()};
+    this.timer = new Timer(FRAME_DELAY, e -> repaintChanges());
+    this.timer.setCoalesce(true);
+
+    // polling the games only while the dashboard is on screen
+    super.addHierarchyListener(e -> {
+      if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+        if (isShowing()) {
+          this.timer.start();
+        } else {
+          this.timer.stop();
+        }
+      }
+    });
+    // the cached layers are device specific (moving the window to another monitor)
+    super.addPropertyChangeListener("graphicsConfiguration", e -> {
+      for (ScoreBoardLayerCache cache : this.layerCaches) {
+        cache.invalidate();
+      }
+      repaint();
+    });
+  }
+
+  /**
+   * Adds a board to the dashboard.
+   *
+   * @param title  board title (e.g. the table name).
+   * @param source supplies the latest snapshot of the game (or null if there
+   *               is no game); it's called on the event dispatch thread once
+   *               per frame, so it should return the same snapshot until
+   *               the game changes (as <code>ResultService.publishSnapshot</code> does).
+   */
+  public void addBoard(String title, Supplier<ScoreSnapshot> source) {
+    this.boards.add(new Board(title, source));
+    revalidate();
+    repaint();
+  }
+
+  /** Removes all boards from the dashboard. */
+  public void removeAllBoards() {
+    this.boards.clear();
+    revalidate();
+    repaint();
+  }
+
+  /**
+   * Gets the number of boards on the dashboard.
+   *
+   * @return number of boards.
+   */
+  public int getBoardCount() {
+    return this.boards.size();
+  }
+
+  /**
+   * Gets the layer cache shared by the boards with the given number of players.
+   *
+   * @param numberOfPlayers number of players.
+   * @return the layer cache.
+   */
+  ScoreBoardLayerCache getLayerCache(int numberOfPlayers) {
+    return this.layerCaches[numberOfPlayers - 3];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Dimension getPreferredSize() {
+    if (isPreferredSizeSet()) {
+      return super.getPreferredSize();
+    }
+    final int columns = getColumns(this.boards.size());
+    final int rows = getRows(this.boards.size());
+    return new Dimension(columns * PREFERRED_CELL_SIZE, rows * (PREFERRED_CELL_SIZE + TITLE_HEIGHT));
+  }
+
+  /**
+   * Polls all games and repaints the boards (or their parts) that changed since
+   * they were last displayed; called by the timer once per frame.
+   */
+  void repaintChanges() {
+    for (int i = 0; i < this.boards.size(); i++) {
+      final Board board = this.boards.get(i);
+      final ScoreSnapshot snapshot = board.source.get();
+      if (snapshot == board.shown) {
+        continue;
+      }
+      final Rectangle bounds = getBoardBounds(i);
+      Rectangle region = null;
+      if (board.shown != null && snapshot != null && board.painted == board.shown) {
+        region = ScoreBoardChangeTracker.computeDirtyRegion(
+            board.renderer.getTooltipLocationsMap(), board.shown, snapshot);
+      }
+      board.shown = snapshot;
+      if (region == null) {
+        repaint(bounds.x, bounds.y - TITLE_HEIGHT, bounds.width, bounds.height + TITLE_HEIGHT);
+      } else if (!region.isEmpty()) {
+        final double scale = getBoardScale(bounds);
+        final int x = (int) Math.floor(bounds.x + region.x * scale);
+        final int y = (int) Math.floor(bounds.y + region.y * scale);
+        final Rectangle dirty = bounds.intersection(new Rectangle(
+            x, y, (int) Math.ceil(region.width * scale) + 1, (int) Math.ceil(region.height * scale) + 1));
+        if (!dirty.isEmpty()) {
+          repaint(dirty);
+        }
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void paintComponent(Graphics g) {
+    super.paintComponent(g);
+
+    final RenderState state = PrefCountRegistry.getInstance().getLafThemeService().getCurrentRenderState();
+    final Graphics2D g2 = (Graphics2D) g;
+    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    g2.setColor(state.mainBackgroundColor);
+    g2.fillRect(0, 0, getWidth(), getHeight());
+
+    final Rectangle clip = g2.getClipBounds();
+    for (int i = 0; i < this.boards.size(); i++) {
+      final Board board = this.boards.get(i);
+      final Rectangle bounds = getBoardBounds(i);
+      if (bounds.width <= 0 || (clip != null && !clip.intersects(
+          bounds.x, bounds.y - TITLE_HEIGHT, bounds.width, bounds.height + TITLE_HEIGHT))) {
+        continue;
+      }
+      if (board.shown == null) {
+        board.shown = board.source.get();
+      }
+
+      // drawing the title
+      g2.setColor(state.playerNameColor);
+      g2.setFont(TITLE_FONT);
+      TextRenderCache.getInstance().drawString(g2, board.title, bounds.x, bounds.y - GAP / 2);
+
+      // drawing the board (scaled from its logical size)
+      final ScoreSnapshot snapshot = board.shown;
+      if (snapshot != null) {
+        Graphics2D bg = (Graphics2D) g2.create();
+        try {
+          final double scale = getBoardScale(bounds);
+          bg.translate(bounds.x, bounds.y);
+          bg.scale(scale, scale);
+          board.renderer.draw(bg, snapshot, BOARD_SIZE, BOARD_SIZE, 0, 0, null, state,
+                              getLayerCache(snapshot.getNumberOfPlayers()));
+        } finally {
+          bg.dispose();
+        }
+      }
+      board.painted = snapshot;
+    }
+  }
+
+  /**
+   * Computes the bounds of a board in the grid (excluding its title).
+   *
+   * @param index board index.
+   * @return the board bounds.
+   */
+  Rectangle getBoardBounds(int index) {
+    final int count = this.boards.size();
+    final int columns = getColumns(count);
+    final int rows = getRows(count);
+    final int cellWidth = getWidth() / columns;
+    final int cellHeight = getHeight() / rows;
+    final int size = Math.max(0, Math.min(cellWidth - GAP, cellHeight - TITLE_HEIGHT - GAP));
+    final int col = index % columns;
+    final int row = index / columns;
+    return new Rectangle(col * cellWidth + (cellWidth - size) / 2,
+                         row * cellHeight + TITLE_HEIGHT + GAP / 2, size, size);
+  }
+
+  /**
+   * Computes the scale of a board from its logical size to its bounds.
+   *
+   * @param bounds board bounds.
+   * @return the scale.
+   */
+  private static double getBoardScale(Rectangle bounds) {
+    return (double) bounds.width / BOARD_SIZE;
+  }
+
+  /**
+   * Computes the number of grid columns (the grid is as square as possible).
+   *
+   * @param count number of boards.
+   * @return number of columns.
+   */
+  private static int getColumns(int count) {
+    return Math.max(1, (int) Math.ceil(Math.sqrt(count)));
+  }
+
+  /**
+   * Computes the number of grid rows.
+   *
+   * @param count number of boards.
+   * @return number of rows.
+   */
+  private static int getRows(int count) {
+    final int columns = getColumns(count);
+    return Math.max(1, (count + columns - 1) / columns);
+  }
+
+  /** Board on the dashboard. */
+  private static class Board {
+
+    /** Board title. */
+    private final String title;
+
+    /** Supplier of the game snapshots. */
+    private final Supplier<ScoreSnapshot> source;
+
+    /** Renderer of the board (keeps the item locations of the last paint). */
+    private final ScoreBoardRenderer renderer;
+
+    /** Snapshot the board displays (the repaints are requested for its changes). */
+    private ScoreSnapshot shown;
+
+    /** Snapshot that was painted last (the renderer locations describe its items). */
+    private ScoreSnapshot painted;
+
+    /**
+     * Constructor.
+     *
+     * @param title  board title.
+     * @param source supplier of the game snapshots.
+     */
+    Board(String title, Supplier<ScoreSnapshot> source) {
+      this.title = title;
+      this.source = source;
+      this.renderer = new ScoreBoardRenderer();
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import net.curre.prefcount.gui.theme.LafThemeId;
+
+/**
+ * Cache of the static score board layer (borders, background, section
+ * and divider lines) rendered into compatible images, so that only the
+ * scores need to be drawn on every repaint. The layer is rendered at the
+ * device resolution and a separate image is kept for each device scale
+ * (e.g. 1.0, 1.5 and 2.0 when the window is moved between monitors with
+ * different scaling), so the cached layer is drawn pixel for pixel. A
+ * layer is rendered again only when the board size, the number of players
+ * or the LAF theme changes; all layers are dropped when the board is
+ * moved to another graphics device.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+class ScoreBoardLayerCache {
+
+  /** Max number of device scales to keep the layers for. */
+  static final int MAX_SCALES = 3;
+
+  /** Cached layers (null elements are free slots). */
+  private final Layer[] layers;
+
+  /** Graphics device the layers were rendered for. */
+  private GraphicsDevice device;
+
+  /** Number of the draw calls (used to find the least recently used layer). */
+  private long drawCount;
+
+  /** Number of times the layer was rendered. */
+  private long renderCount;
+
+  /** Number of times the cached layer was reused. */
+  private long hitCount;
+
+  /** Constructor. */
+  ScoreBoardLayerCache() {
+    this.layers = new Layer[MAX_SCALES];
+  }
+
+  /**
+   * Draws the static board layer at the origin of the given graphics,
+   * rendering (and caching) it first if the cached layer for the current
+   * device scale doesn't match.
+   *
+   * @param g2              graphics to draw on.
+   * @param width           board width.
+   * @param height          board height.
+   * @param numberOfPlayers number of players.
+   * @param lafThemeId      current LAF theme id.
+   * @param painter         paints the layer on the given graphics (in board coordinates).
+   */
+  void draw(Graphics2D g2, int width, int height, int numberOfPlayers,
+            LafThemeId lafThemeId, Consumer<Graphics2D> painter) {
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    this.drawCount++;
+    final GraphicsConfiguration config = g2.getDeviceConfiguration();
+    final GraphicsDevice newDevice = config == null ? null : config.getDevice();
+    if (newDevice != this.device) {
+      invalidate();
+      this.device = newDevice;
+    }
+
+    final AffineTransform transform = g2.getTransform();
+    final double scale = transform.getScaleX();
+    Layer layer = findLayer(scale);
+    if (layer.image == null || layer.width != width || layer.height != height ||
+        layer.numberOfPlayers != numberOfPlayers || layer.lafThemeId != lafThemeId) {
+      layer.render(config, width, height, scale, painter);
+      layer.numberOfPlayers = numberOfPlayers;
+      layer.lafThemeId = lafThemeId;
+      this.renderCount++;
+    } else {
+      this.hitCount++;
+    }
+    layer.lastUse = this.drawCount;
+
+    if ((transform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE)) == 0) {
+      // drawing the layer pixel for pixel (at a device pixel boundary)
+      g2.setTransform(AffineTransform.getTranslateInstance(Math.round(transform.getTranslateX()),
+                                                           Math.round(transform.getTranslateY())));
+      g2.drawImage(layer.image, 0, 0, null);
+      g2.setTransform(transform);
+    } else {
+      g2.drawImage(layer.image, 0, 0, width, height, null);
+    }
+  }
+
+  /** Drops all cached layers (they will be rendered on the next draw). */
+  void invalidate() {
+    for (int i = 0; i < this.layers.length; i++) {
+      if (this.layers[i] != null) {
+        this.layers[i].flush();
+        this.layers[i] = null;
+      }
+    }
+  }
+
+  /**
+   * Gets the number of device scales the layers are cached for.
+   *
+   * @return number of cached layers.
+   */
+  int size() {
+    int size = 0;
+    for (Layer layer : this.layers) {
+      size += layer == null ? 0 : 1;
+    }
+    return size;
+  }
+
+  /**
+   * Gets the number of times the layer was rendered.
+   *
+   * @return number of layer renders.
+   */
+  long getRenderCount() {
+    return this.renderCount;
+  }
+
+  /**
+   * Gets the number of times the cached layer was reused.
+   *
+   * @return number of cache hits.
+   */
+  long getHitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * Finds the layer for a device scale; if there is none, returns a free
+   * slot or the least recently used layer (after dropping its image).
+   *
+   * @param scale device scale.
+   * @return the layer to use.
+   */
+  private Layer findLayer(double scale) {
+    int lru = 0;
+    for (int i = 0; i < this.layers.length; i++) {
+      final Layer layer = this.layers[i];
+      if (layer == null) {
+        this.layers[i] = new Layer(scale);
+        return this.layers[i];
+      }
+      if (layer.scale == scale) {
+        return layer;
+      }
+      if (layer.lastUse < this.layers[lru].lastUse) {
+        lru = i;
+      }
+    }
+    this.layers[lru].flush();
+    this.layers[lru] = new Layer(scale);
+    return this.layers[lru];
+  }
+
+  /** Layer rendered for one device scale. */
+  private static class Layer {
+
+    /** Device scale. */
+    private final double scale;
+
+    /** Layer image or null if it has to be rendered. */
+    private BufferedImage image;
+
+    /** Board width the layer was rendered for. */
+    private int width;
+
+    /** Board height the layer was rendered for. */
+    private int height;
+
+    /** Number of players the layer was rendered for. */
+    private int numberOfPlayers;
+
+    /** LAF theme the layer was rendered with. */
+    private LafThemeId lafThemeId;
+
+    /** Draw count of the last use. */
+    private long lastUse;
+
+    /**
+     * Constructor.
+     *
+     * @param scale device scale.
+     */
+    Layer(double scale) {
+      this.scale = scale;
+    }
+
+    /**
+     * Renders the layer into a new image.
+     *
+     * @param config  device configuration to create a compatible image for or null.
+     * @param width   board width.
+     * @param height  board height.
+     * @param scale   device scale.
+     * @param painter layer painter.
+     */
+    void render(GraphicsConfiguration config, int width, int height,
+                double scale, Consumer<Graphics2D> painter) {
+      flush();
+      final int imgWidth = (int) Math.ceil(width * scale);
+      final int imgHeight = (int) Math.ceil(height * scale);
+      this.image = config == null ?
+                   new BufferedImage(imgWidth, imgHeight, BufferedImage.TYPE_INT_ARGB_PRE) :
+                   config.createCompatibleImage(imgWidth, imgHeight, Transparency.TRANSLUCENT);
+      Graphics2D ig = this.image.createGraphics();
+      try {
+        ig.scale(scale, scale);
+        painter.accept(ig);
+      } finally {
+        ig.dispose();
+      }
+      this.width = width;
+      this.height = height;
+    }
+
+    /** Drops the layer image. */
+    void flush() {
+      if (this.image != null) {
+        this.image.flush();
+        this.image = null;
+      }
+    }
+  }
+}
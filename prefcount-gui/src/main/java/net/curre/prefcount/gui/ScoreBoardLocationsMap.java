@@ -0,0 +1,622 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import net.curre.prefcount.gui.type.Place;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.NORTH;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.Place.WEST;
+import net.curre.prefcount.gui.type.ScoreItem;
+import static net.curre.prefcount.gui.type.ScoreItem.FINAL_MOUNT;
+import static net.curre.prefcount.gui.type.ScoreItem.FINAL_SCORE;
+import static net.curre.prefcount.gui.type.ScoreItem.PLAYER_MOUNT;
+import static net.curre.prefcount.gui.type.ScoreItem.PLAYER_NAME;
+import static net.curre.prefcount.gui.type.ScoreItem.PLAYER_POOL;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_EAST;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_EAST_SALDO;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_NORTH;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_NORTH_SALDO;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_SALDO_TOTAL;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_SOUTH;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_SOUTH_SALDO;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_WEST;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_WEST_SALDO;
+
+/**
+ * This class is a utility to determine locations of
+ * all items on the score board given the current dimensions
+ * of the table/board. The layouts for 3 and 4 players are
+ * static tables that define every item location relative to
+ * one of the board anchors (center, dividers, margins); the
+ * locations are kept in flat arrays indexed by the score item
+ * ordinal and the place index, which are recomputed in place,
+ * so resizing the board doesn't allocate.
+ * <p/>
+ * Created date: Jun 16, 2007
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardLocationsMap {
+
+  /** Number of pixels to leave near the borders. */
+  public static final int MARGIN = 7;
+
+  /** Layout anchor - left edge of the board. */
+  private static final int A_LEFT_X = 0;
+
+  /** Layout anchor - board center X. */
+  private static final int A_CENTER_X = 1;
+
+  /** Layout anchor - 2/5 of the half width. */
+  private static final int A_TWO_FIFTH_X = 2;
+
+  /** Layout anchor - 3/5 of the half width. */
+  private static final int A_THREE_FIFTH_X = 3;
+
+  /** Layout anchor - whist-pool divider X. */
+  private static final int A_WHIST_POOL_X = 4;
+
+  /** Layout anchor - pool-mount divider X. */
+  private static final int A_POOL_MOUNT_X = 5;
+
+  /** Layout anchor - first whist division line X. */
+  private static final int A_WHIST_DIV_X1 = 6;
+
+  /** Layout anchor - second whist division line X. */
+  private static final int A_WHIST_DIV_X2 = 7;
+
+  /** Layout anchor - half width plus 2/5 of the half width. */
+  private static final int A_HALF_WIDTH_X = 8;
+
+  /** Layout anchor - board center Y. */
+  private static final int A_CENTER_Y = 9;
+
+  /** Layout anchor - top text line. */
+  private static final int A_TOP_Y = 10;
+
+  /** Layout anchor - bottom text line. */
+  private static final int A_BOTTOM_Y = 11;
+
+  /** Layout anchor - 2/5 of the half height. */
+  private static final int A_TWO_FIFTH_Y = 12;
+
+  /** Layout anchor - 3/5 of the half height. */
+  private static final int A_THREE_FIFTH_Y = 13;
+
+  /** Layout anchor - whist-pool divider Y. */
+  private static final int A_WHIST_POOL_Y = 14;
+
+  /** Layout anchor - pool-mount divider Y. */
+  private static final int A_POOL_MOUNT_Y = 15;
+
+  /** Layout anchor - first whist division line Y. */
+  private static final int A_WHIST_DIV_Y1 = 16;
+
+  /** Layout anchor - second whist division line Y. */
+  private static final int A_WHIST_DIV_Y2 = 17;
+
+  /** Layout anchor - half of the half height. */
+  private static final int A_QUARTER_Y = 18;
+
+  /** Layout anchor - half height plus 1/5 of the half height. */
+  private static final int A_HALF_HEIGHT_Y = 19;
+
+  /** Layout anchor - center Y plus 1/5 of the half height. */
+  private static final int A_CENTER_TENTH_Y = 20;
+
+  /** Total number of layout anchors. */
+  private static final int ANCHORS_NUMBER = 21;
+
+  /** Number of score items. */
+  private static final int ITEMS_NUMBER = ScoreItem.values().length;
+
+  /** Number of cells (place, score item) in the layout tables. */
+  private static final int CELLS_NUMBER = Place.values().length * ITEMS_NUMBER;
+
+  /** Number of ints per cell in the layout tables (X anchor, X delta, Y anchor, Y delta). */
+  private static final int CELL_SIZE = 4;
+
+  /** Layout table for 3 players. */
+  private static final int[] LAYOUT_3 = createLayout3();
+
+  /** Layout table for 4 players. */
+  private static final int[] LAYOUT_4 = createLayout4();
+
+  /** Current board width. */
+  public int width;
+
+  /** Current board height. */
+  public int height;
+
+  /** Current canvas X offset. */
+  private int offsetX;
+
+  /** Current canvas Y offset. */
+  private int offsetY;
+
+  /** Center's current X coordinate. */
+  public int centerX;
+
+  /** Center's current X coordinate. */
+  public int centerY;
+
+  /** Computed 2/5 of half width value. */
+  public int twoFifthX;
+
+  /** Computed 3/5 of the half width value. */
+  public int threeFifthX;
+
+  /** Computed 1/5 of the half height value. */
+  public int oneFifthY;
+
+  /** Computed 2/5 of the half height value. */
+  public int twoFifthY;
+
+  /** Computed 3/5 of the half height value. */
+  public int threeFifthY;
+
+  /** Computed whist-pool divider X coordinate. */
+  public int whistPoolDividerX;
+
+  /** Computed whist-pool divider Y coordinate. */
+  public int whistPoolDividerY;
+
+  /** Computed pool-mount divider X coordinate. */
+  public int poolMountDividerX;
+
+  /** Computed pool-mount divider Y coordinate. */
+  public int poolMountDividerY;
+
+  /** Computed value for whist division lines. */
+  public int whistDividerX1;
+
+  /** Computed value for whist division lines. */
+  public int whistDividerX2;
+
+  /** Computed value for whist division lines. */
+  public int whistDividerY1;
+
+  /** Computed value for whist division lines. */
+  public int whistDividerY2;
+
+  /**
+   * Total number of players in the game
+   * (supported values are 3 and 4)
+   */
+  private int numberOfPlayers;
+
+  /** Layout table for the current number of players. */
+  private int[] layout;
+
+  /** Current values of the layout anchors. */
+  private final double[] anchors = new double[ANCHORS_NUMBER];
+
+  /** X coordinates of the items (indexed by the layout cell). */
+  private final double[] locationsX = new double[CELLS_NUMBER];
+
+  /** Y coordinates of the items (indexed by the layout cell). */
+  private final double[] locationsY = new double[CELLS_NUMBER];
+
+  /**
+   * Other player's whist score items for each player
+   * currently in the game (indexed by the place index).
+   */
+  private final ScoreItem[][] othersWhists = new ScoreItem[Place.values().length][];
+
+  /**
+   * Other player's whist saldo score items for each player
+   * currently in the game (indexed by the place index).
+   */
+  private final ScoreItem[][] othersWhistSaldos = new ScoreItem[Place.values().length][];
+
+  /**
+   * Constructor. After the number of players in the
+   * game is known (scoreBoard.results.getPlayerStats() is created),
+   * the initialize() method must be called.
+   */
+  public ScoreBoardLocationsMap() {
+  }
+
+  /**
+   * Method that initializes properties; the locations are
+   * computed by the next computeLocations call. This method must
+   * be called as soon as the number of players is set
+   * (scoreBoard.results.getPlayerStats() is created).
+   *
+   * @param numberOfPlayers Number of players in the game.
+   * @throws IllegalArgumentException If number of players is not supported.
+   */
+  public void initialize(int numberOfPlayers) {
+    if (numberOfPlayers != 3 && numberOfPlayers != 4) {
+      throw new IllegalArgumentException(numberOfPlayers + " number of players is NOT supported!");
+    }
+
+    this.numberOfPlayers = numberOfPlayers;
+    this.layout = numberOfPlayers == 3 ? LAYOUT_3 : LAYOUT_4;
+    this.width = -1;
+    this.height = -1;
+
+    for (Place place : Place.values()) {
+      final boolean inGame = numberOfPlayers == 4 || place != NORTH;
+      this.othersWhists[place.index] = inGame ? getOtherWhistItemsHelper(place) : null;
+      this.othersWhistSaldos[place.index] = inGame ? getOtherWhistSaldoItemsHelper(place) : null;
+    }
+  }
+
+  /**
+   * Gets the number of players the locations are initialized for.
+   *
+   * @return number of players or 0 if not initialized.
+   */
+  public int getNumberOfPlayers() {
+    return this.numberOfPlayers;
+  }
+
+  /**
+   * Gets the X coordinate of a score item of the given player.
+   *
+   * @param item  score board item.
+   * @param place player's place.
+   * @return the item's X coordinate or NaN if the item isn't on the board.
+   */
+  public double getX(ScoreItem item, Place place) {
+    return this.locationsX[place.index * ITEMS_NUMBER + item.ordinal()];
+  }
+
+  /**
+   * Gets the Y coordinate of a score item of the given player.
+   *
+   * @param item  score board item.
+   * @param place player's place.
+   * @return the item's Y coordinate or NaN if the item isn't on the board.
+   */
+  public double getY(ScoreItem item, Place place) {
+    return this.locationsY[place.index * ITEMS_NUMBER + item.ordinal()];
+  }
+
+  /**
+   * Computes or recomputes if necessary locations of
+   * all items on the score board and stores the values
+   * in the locations tables.
+   *
+   * @param newWidth  new width of the score board.
+   * @param newHeight new height of the score board.
+   * @param offsetX   canvas X coordinate.
+   * @param offsetY   canvas Y coordinate.
+   * @param force     true will ensure that all locations will get recomputed;
+   *                  when false, the method does nothing if the scoreboard width.
+   */
+  public void computeLocations(int newWidth, int newHeight, int offsetX, int offsetY, boolean force) {
+
+    // if the frame size and offsets didn't change from last time,
+    // returning - we can use the already computed values
+    if (!force && this.width == newWidth && this.height == newHeight &&
+        this.offsetX == offsetX && this.offsetY == offsetY) {
+      return;
+    }
+
+    this.width = newWidth;
+    this.height = newHeight;
+    this.offsetX = offsetX;
+    this.offsetY = offsetY;
+    final int halfWidth = newWidth / 2;
+    final int halfHeight = newHeight / 2;
+
+    this.centerX = newWidth / 2 + offsetX;
+    this.centerY = newHeight / 2 + offsetY;
+    this.twoFifthX = 2 * halfWidth / 5 + offsetX;
+    this.oneFifthY = halfHeight / 5 + offsetY;
+    this.twoFifthY = 2 * halfHeight / 5 + 2 + offsetY;
+    this.threeFifthX = 3 * halfWidth / 5 + 2 + offsetX;
+    this.threeFifthY = 3 * halfHeight / 5 + 2 + offsetY;
+    this.whistPoolDividerX = newWidth - (2 * halfWidth / 5) - 1 + offsetX;
+    this.whistPoolDividerY = newHeight - (2 * halfHeight / 5) - 2 + offsetY;
+    this.poolMountDividerX = newWidth - (3 * halfWidth / 5) - 2 + offsetX;
+    this.poolMountDividerY = newHeight - (3 * halfHeight / 5) - 2 + offsetY;
+
+    final int whistThirdX = 2 * halfWidth / 5;
+    this.whistDividerX1 = this.twoFifthX + whistThirdX - (whistThirdX / 5);
+    this.whistDividerX2 = this.whistPoolDividerX - whistThirdX + (whistThirdX / 5);
+    final int whistThirdY = 2 * halfHeight / 5;
+    this.whistDividerY1 = this.twoFifthY + whistThirdY - (whistThirdY / 5);
+    this.whistDividerY2 = this.whistPoolDividerY - whistThirdY + (whistThirdY / 5);
+
+    final int topY = MARGIN + 17 + offsetY;
+    final int bottomY = newHeight - MARGIN - 5 + offsetY;
+
+    // generating score board anchors and items locations
+    final double[] a = this.anchors;
+    a[A_LEFT_X] = offsetX;
+    a[A_CENTER_X] = this.centerX;
+    a[A_TWO_FIFTH_X] = this.twoFifthX;
+    a[A_THREE_FIFTH_X] = this.threeFifthX;
+    a[A_WHIST_POOL_X] = this.whistPoolDividerX;
+    a[A_POOL_MOUNT_X] = this.poolMountDividerX;
+    a[A_WHIST_DIV_X1] = this.whistDividerX1;
+    a[A_WHIST_DIV_X2] = this.whistDividerX2;
+    a[A_HALF_WIDTH_X] = ((double) newWidth / 2) + this.twoFifthX;
+    a[A_CENTER_Y] = this.centerY;
+    a[A_TOP_Y] = topY;
+    a[A_BOTTOM_Y] = bottomY;
+    a[A_TWO_FIFTH_Y] = this.twoFifthY;
+    a[A_THREE_FIFTH_Y] = this.threeFifthY;
+    a[A_WHIST_POOL_Y] = this.whistPoolDividerY;
+    a[A_POOL_MOUNT_Y] = this.poolMountDividerY;
+    a[A_WHIST_DIV_Y1] = this.whistDividerY1;
+    a[A_WHIST_DIV_Y2] = this.whistDividerY2;
+    a[A_QUARTER_Y] = ((double) halfHeight / 2) + offsetY;
+    a[A_HALF_HEIGHT_Y] = ((double) newHeight / 2) + this.oneFifthY;
+    a[A_CENTER_TENTH_Y] = this.centerY + ((double) halfHeight / 5);
+
+    final int[] l = this.layout;
+    for (int cell = 0, i = 0; cell < CELLS_NUMBER; cell++, i += CELL_SIZE) {
+      if (l[i] < 0) {
+        this.locationsX[cell] = Double.NaN;
+        this.locationsY[cell] = Double.NaN;
+      } else {
+        this.locationsX[cell] = a[l[i]] + l[i + 1];
+        this.locationsY[cell] = a[l[i + 2]] + l[i + 3];
+      }
+    }
+  }
+
+  /**
+   * Gets whist score items for all other players
+   * relative to the given player.
+   *
+   * @param place player's place.
+   * @return whist score items for all opponents of the given player.
+   */
+  public ScoreItem[] getOtherWhistItems(Place place) {
+    return this.othersWhists[place.index];
+  }
+
+  /**
+   * Gets whist saldo score items for all other players
+   * relative to the given player.
+   *
+   * @param place player's place.
+   * @return whist saldo score items for all opponents of the given player.
+   */
+  public ScoreItem[] getOtherWhistSaldoItems(Place place) {
+    return this.othersWhistSaldos[place.index];
+  }
+
+  /**
+   * Creates the layout table for 3 players.
+   *
+   * @return the layout table.
+   */
+  private static int[] createLayout3() {
+    final int[] layout = createEmptyLayout();
+    // computing the EAST player items locations
+    put(layout, EAST, PLAYER_NAME, A_CENTER_X, 11, A_CENTER_Y, 0);
+    put(layout, EAST, PLAYER_MOUNT, A_CENTER_X, 14, A_TOP_Y, 0);
+    put(layout, EAST, PLAYER_POOL, A_HALF_WIDTH_X, 10, A_TOP_Y, 0);
+    put(layout, EAST, WHIST_SOUTH, A_WHIST_POOL_X, 20, A_POOL_MOUNT_Y, 0);
+    put(layout, EAST, WHIST_WEST, A_WHIST_POOL_X, 20, A_TOP_Y, 23);
+    put(layout, EAST, WHIST_SOUTH_SALDO, A_WHIST_POOL_X, 30, A_POOL_MOUNT_Y, 40);
+    put(layout, EAST, WHIST_WEST_SALDO, A_WHIST_POOL_X, 30, A_TOP_Y, 53);
+    put(layout, EAST, WHIST_SALDO_TOTAL, A_WHIST_POOL_X, 20, A_CENTER_Y, 0);
+    put(layout, EAST, FINAL_MOUNT, A_CENTER_X, 40, A_QUARTER_Y, 0);
+    put(layout, EAST, FINAL_SCORE, A_POOL_MOUNT_X, 10, A_CENTER_Y, -30);
+
+    // computing the SOUTH player items locations
+    put(layout, SOUTH, PLAYER_NAME, A_CENTER_X, -7, A_CENTER_Y, 24);
+    put(layout, SOUTH, PLAYER_MOUNT, A_THREE_FIFTH_X, 50, A_POOL_MOUNT_Y, -8);
+    put(layout, SOUTH, PLAYER_POOL, A_TWO_FIFTH_X, 50, A_WHIST_POOL_Y, -10);
+    put(layout, SOUTH, WHIST_EAST, A_CENTER_X, 20, A_BOTTOM_Y, 0);
+    put(layout, SOUTH, WHIST_WEST, A_LEFT_X, MARGIN + 50, A_BOTTOM_Y, 0);
+    put(layout, SOUTH, WHIST_EAST_SALDO, A_WHIST_POOL_X, -20, A_BOTTOM_Y, -26);
+    put(layout, SOUTH, WHIST_WEST_SALDO, A_TWO_FIFTH_X, -5, A_BOTTOM_Y, -26);
+    put(layout, SOUTH, WHIST_SALDO_TOTAL, A_CENTER_X, 20, A_BOTTOM_Y, -30);
+    put(layout, SOUTH, FINAL_MOUNT, A_CENTER_X, 0, A_HALF_HEIGHT_Y, 10);
+    put(layout, SOUTH, FINAL_SCORE, A_CENTER_X, 0, A_WHIST_POOL_Y, -10);
+
+    // computing the WEST player items locations
+    put(layout, WEST, PLAYER_NAME, A_CENTER_X, -20, A_CENTER_Y, 0);
+    put(layout, WEST, PLAYER_MOUNT, A_THREE_FIFTH_X, 12, A_TOP_Y, 0);
+    put(layout, WEST, PLAYER_POOL, A_TWO_FIFTH_X, 10, A_TOP_Y, 0);
+    put(layout, WEST, WHIST_EAST, A_LEFT_X, MARGIN + 20, A_TOP_Y, 23);
+    put(layout, WEST, WHIST_SOUTH, A_LEFT_X, MARGIN + 20, A_POOL_MOUNT_Y, 0);
+    put(layout, WEST, WHIST_EAST_SALDO, A_LEFT_X, MARGIN + 40, A_TOP_Y, 53);
+    put(layout, WEST, WHIST_SOUTH_SALDO, A_LEFT_X, MARGIN + 40, A_POOL_MOUNT_Y, 40);
+    put(layout, WEST, WHIST_SALDO_TOTAL, A_LEFT_X, MARGIN + 44, A_CENTER_Y, 0);
+    put(layout, WEST, FINAL_MOUNT, A_THREE_FIFTH_X, 20, A_QUARTER_Y, 0);
+    put(layout, WEST, FINAL_SCORE, A_TWO_FIFTH_X, 10, A_CENTER_Y, -30);
+    return layout;
+  }
+
+  /**
+   * Creates the layout table for 4 players.
+   *
+   * @return the layout table.
+   */
+  private static int[] createLayout4() {
+    final int[] layout = createEmptyLayout();
+    // computing the NORTH player items locations
+    put(layout, NORTH, PLAYER_NAME, A_CENTER_X, -5, A_CENTER_Y, -10);
+    put(layout, NORTH, PLAYER_MOUNT, A_THREE_FIFTH_X, 40, A_THREE_FIFTH_Y, 22);
+    put(layout, NORTH, PLAYER_POOL, A_TWO_FIFTH_X, 50, A_TWO_FIFTH_Y, 22);
+    put(layout, NORTH, WHIST_EAST, A_WHIST_DIV_X2, 20, A_TOP_Y, 0);
+    put(layout, NORTH, WHIST_SOUTH, A_WHIST_DIV_X1, 20, A_TOP_Y, 0);
+    put(layout, NORTH, WHIST_WEST, A_LEFT_X, MARGIN + 40, A_TOP_Y, 0);
+    put(layout, NORTH, WHIST_EAST_SALDO, A_WHIST_DIV_X2, 60, A_TOP_Y, 20);
+    put(layout, NORTH, WHIST_SOUTH_SALDO, A_WHIST_DIV_X1, 60, A_TOP_Y, 20);
+    put(layout, NORTH, WHIST_WEST_SALDO, A_LEFT_X, MARGIN + 80, A_TOP_Y, 20);
+    put(layout, NORTH, WHIST_SALDO_TOTAL, A_CENTER_X, 0, A_TOP_Y, 44);
+    put(layout, NORTH, FINAL_MOUNT, A_CENTER_X, 0, A_THREE_FIFTH_Y, 46);
+    put(layout, NORTH, FINAL_SCORE, A_CENTER_X, 0, A_TWO_FIFTH_Y, 30);
+
+    // computing the EAST player items locations
+    put(layout, EAST, PLAYER_NAME, A_CENTER_X, 14, A_CENTER_Y, 6);
+    put(layout, EAST, PLAYER_MOUNT, A_POOL_MOUNT_X, -44, A_THREE_FIFTH_Y, 56);
+    put(layout, EAST, PLAYER_POOL, A_WHIST_POOL_X, -32, A_TWO_FIFTH_Y, 56);
+    put(layout, EAST, WHIST_NORTH, A_WHIST_POOL_X, 20, A_TWO_FIFTH_Y, 10);
+    put(layout, EAST, WHIST_SOUTH, A_WHIST_POOL_X, 20, A_WHIST_DIV_Y2, 30);
+    put(layout, EAST, WHIST_WEST, A_WHIST_POOL_X, 20, A_WHIST_DIV_Y1, 30);
+    put(layout, EAST, WHIST_NORTH_SALDO, A_WHIST_POOL_X, 30, A_TWO_FIFTH_Y, 36);
+    put(layout, EAST, WHIST_SOUTH_SALDO, A_WHIST_POOL_X, 30, A_WHIST_DIV_Y2, 56);
+    put(layout, EAST, WHIST_WEST_SALDO, A_WHIST_POOL_X, 30, A_WHIST_DIV_Y1, 56);
+    put(layout, EAST, WHIST_SALDO_TOTAL, A_WHIST_POOL_X, 20, A_CENTER_Y, 20);
+    put(layout, EAST, FINAL_MOUNT, A_CENTER_X, 70, A_CENTER_Y, 34);
+    put(layout, EAST, FINAL_SCORE, A_POOL_MOUNT_X, 10, A_CENTER_Y, -10);
+
+    // computing the SOUTH player items locations
+    put(layout, SOUTH, PLAYER_NAME, A_CENTER_X, -7, A_CENTER_Y, 24);
+    put(layout, SOUTH, PLAYER_MOUNT, A_THREE_FIFTH_X, 40, A_POOL_MOUNT_Y, -8);
+    put(layout, SOUTH, PLAYER_POOL, A_TWO_FIFTH_X, 50, A_WHIST_POOL_Y, -10);
+    put(layout, SOUTH, WHIST_EAST, A_WHIST_DIV_X2, 20, A_BOTTOM_Y, 0);
+    put(layout, SOUTH, WHIST_NORTH, A_WHIST_DIV_X1, 20, A_BOTTOM_Y, 0);
+    put(layout, SOUTH, WHIST_WEST, A_LEFT_X, MARGIN + 40, A_BOTTOM_Y, 0);
+    put(layout, SOUTH, WHIST_EAST_SALDO, A_WHIST_DIV_X2, 60, A_BOTTOM_Y, -20);
+    put(layout, SOUTH, WHIST_NORTH_SALDO, A_WHIST_DIV_X1, 60, A_BOTTOM_Y, -20);
+    put(layout, SOUTH, WHIST_WEST_SALDO, A_LEFT_X, MARGIN + 80, A_BOTTOM_Y, -20);
+    put(layout, SOUTH, WHIST_SALDO_TOTAL, A_CENTER_X, 0, A_BOTTOM_Y, -44);
+    put(layout, SOUTH, FINAL_MOUNT, A_CENTER_X, 0, A_CENTER_TENTH_Y, 16);
+    put(layout, SOUTH, FINAL_SCORE, A_CENTER_X, 0, A_WHIST_POOL_Y, -10);
+
+    // computing the WEST player items locations
+    put(layout, WEST, PLAYER_NAME, A_CENTER_X, -22, A_CENTER_Y, 6);
+    put(layout, WEST, PLAYER_MOUNT, A_THREE_FIFTH_X, 10, A_THREE_FIFTH_Y, 56);
+    put(layout, WEST, PLAYER_POOL, A_TWO_FIFTH_X, 10, A_TWO_FIFTH_Y, 56);
+    put(layout, WEST, WHIST_NORTH, A_LEFT_X, MARGIN + 20, A_TWO_FIFTH_Y, 10);
+    put(layout, WEST, WHIST_SOUTH, A_LEFT_X, MARGIN + 20, A_WHIST_DIV_Y2, 30);
+    put(layout, WEST, WHIST_EAST, A_LEFT_X, MARGIN + 20, A_WHIST_DIV_Y1, 30);
+    put(layout, WEST, WHIST_NORTH_SALDO, A_LEFT_X, MARGIN + 40, A_TWO_FIFTH_Y, 36);
+    put(layout, WEST, WHIST_SOUTH_SALDO, A_LEFT_X, MARGIN + 40, A_WHIST_DIV_Y2, 56);
+    put(layout, WEST, WHIST_EAST_SALDO, A_LEFT_X, MARGIN + 40, A_WHIST_DIV_Y1, 56);
+    put(layout, WEST, WHIST_SALDO_TOTAL, A_LEFT_X, MARGIN + 32, A_CENTER_Y, 20);
+    put(layout, WEST, FINAL_MOUNT, A_THREE_FIFTH_X, 20, A_CENTER_Y, 34);
+    put(layout, WEST, FINAL_SCORE, A_TWO_FIFTH_X, 10, A_CENTER_Y, -10);
+    return layout;
+  }
+
+  /**
+   * Creates a layout table with no items on the board.
+   *
+   * @return the layout table.
+   */
+  private static int[] createEmptyLayout() {
+    final int[] layout = new int[CELLS_NUMBER * CELL_SIZE];
+    for (int i = 0; i < layout.length; i += CELL_SIZE) {
+      layout[i] = -1;
+    }
+    return layout;
+  }
+
+  /**
+   * Sets an item location in a layout table.
+   *
+   * @param layout  layout table.
+   * @param place   player's place.
+   * @param item    score board item.
+   * @param anchorX X anchor.
+   * @param deltaX  X offset from the anchor.
+   * @param anchorY Y anchor.
+   * @param deltaY  Y offset from the anchor.
+   */
+  private static void put(int[] layout, Place place, ScoreItem item,
+                          int anchorX, int deltaX, int anchorY, int deltaY) {
+    final int i = (place.index * ITEMS_NUMBER + item.ordinal()) * CELL_SIZE;
+    layout[i] = anchorX;
+    layout[i + 1] = deltaX;
+    layout[i + 2] = anchorY;
+    layout[i + 3] = deltaY;
+  }
+
+  /**
+   * Gets whist score items for all other players
+   * relative to the given player.
+   *
+   * @param place player's place.
+   * @return whist score items for all opponents of the given player.
+   */
+  private ScoreItem[] getOtherWhistItemsHelper(Place place) {
+    ScoreItem[] items = new ScoreItem[this.numberOfPlayers - 1];
+    switch (place) {
+      case EAST:
+        items[0] = WHIST_SOUTH;
+        items[1] = WHIST_WEST;
+        break;
+
+      case SOUTH:
+        items[0] = WHIST_EAST;
+        items[1] = WHIST_WEST;
+        break;
+
+      case WEST:
+        items[0] = WHIST_EAST;
+        items[1] = WHIST_SOUTH;
+        break;
+
+      case NORTH:
+        items[0] = WHIST_EAST;
+        items[1] = WHIST_SOUTH;
+        items[2] = WHIST_WEST;
+        break;
+
+      default:
+        throw new IllegalArgumentException("Illegal place " + place + "!");
+    }
+    if (this.numberOfPlayers == 4 && place != NORTH) {
+      items[2] = WHIST_NORTH;
+    }
+
+    return items;
+  }
+
+  /**
+   * Gets whist saldo score items for all other players
+   * relative to the given player.
+   *
+   * @param place player's place.
+   * @return whist saldo score items for all opponents of the given player.
+   */
+  private ScoreItem[] getOtherWhistSaldoItemsHelper(Place place) {
+    ScoreItem[] items = new ScoreItem[this.numberOfPlayers - 1];
+    switch (place) {
+      case EAST:
+        items[0] = WHIST_SOUTH_SALDO;
+        items[1] = WHIST_WEST_SALDO;
+        break;
+
+      case SOUTH:
+        items[0] = WHIST_EAST_SALDO;
+        items[1] = WHIST_WEST_SALDO;
+        break;
+
+      case WEST:
+        items[0] = WHIST_EAST_SALDO;
+        items[1] = WHIST_SOUTH_SALDO;
+        break;
+
+      case NORTH:
+        items[0] = WHIST_EAST_SALDO;
+        items[1] = WHIST_SOUTH_SALDO;
+        items[2] = WHIST_WEST_SALDO;
+        break;
+
+      default:
+        throw new IllegalArgumentException("Illegal place " + place + "!");
+    }
+    if (this.numberOfPlayers == 4 && place != NORTH) {
+      items[2] = WHIST_NORTH_SALDO;
+    }
+
+    return items;
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.swing.JPanel;
+
+import net.curre.prefcount.PrefCountRegistry;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.TooltipLocationsMap;
+import net.curre.prefcount.gui.theme.LafTheme;
+import net.curre.prefcount.gui.theme.RenderState;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.gui.type.ScoreItem;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.util.Instrumentation;
+import net.curre.prefcount.util.LocaleExt;
+import org.apache.commons.lang3.StringUtils;
+import static net.curre.prefcount.gui.type.ScoreItem.*;
+
+/**
+ * The score board panel where all players scores and totals are drawn.
+ * <p/>
+ * Created date: Apr 8, 2007
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardPanel extends JPanel {
+
+  /**
+   * Renderer that draws the board on screen; it stores/computes locations
+   * for all items on the score board and locations (shapes) for the tooltips.
+   */
+  private final ScoreBoardRenderer renderer;
+
+  /** Cache of the static board layer per device scale (used when painting on screen). */
+  private final ScoreBoardLayerCache layerCache;
+
+  /** Live resize mode (draws the last frame scaled while resizing). */
+  private final ScoreBoardResizeMode resizeMode;
+
+  /**
+   * Snapshot that was painted on screen last (the tooltip locations
+   * describe its items) or null if the next repaint should be a full one.
+   */
+  private ScoreSnapshot paintedSnapshot;
+
+  /** Cached tooltip HTML strings (indexed by score item ordinal and place index). */
+  private final String[][] tooltipCache;
+
+  /** Player names the cached tooltips were created with. */
+  private final String[][] tooltipNames;
+
+  /** Locale of the cached tooltips. */
+  private LocaleExt tooltipLocale;
+
+  /** Constructs a new <code>ScoreBoardPanel</code> object. */
+  public ScoreBoardPanel() {
+    this.renderer = new ScoreBoardRenderer();
+    this.layerCache = new ScoreBoardLayerCache();
+    this.resizeMode = new ScoreBoardResizeMode(this, ScoreBoardPanel::isLiveResizeEnabled);
+    super.addComponentListener(this.resizeMode);
+    // the cached rasters are device specific (moving the window to another monitor)
+    super.addPropertyChangeListener("graphicsConfiguration", e -> {
+      this.layerCache.invalidate();
+      this.resizeMode.invalidateFrame();
+      repaint();
+    });
+    this.tooltipCache = new String[ScoreItem.values().length][Place.values().length];
+    this.tooltipNames = new String[ScoreItem.values().length][Place.values().length];
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UnsupportedOperationException If number of player is not supported.
+   */
+  @Override
+  public void paintComponent(Graphics g) {
+
+    final long start = Instrumentation.start();
+    try {
+      super.paintComponent(g);
+
+      final int newWidth = getWidth();
+      final int newHeight = getHeight();
+
+      final RenderState state = PrefCountRegistry.getInstance().getLafThemeService().getCurrentRenderState();
+      final Graphics2D g2 = (Graphics2D) g;
+      final int frameWidth = this.renderer.getLocationsMap().width;
+      final int frameHeight = this.renderer.getLocationsMap().height;
+      if (this.resizeMode.drawScaledFrame(g2, newWidth, newHeight, frameWidth, frameHeight,
+                                          frameG2 -> drawScoreBoard(frameG2, frameWidth, frameHeight, state))) {
+        // the tooltip locations don't match the scaled frame
+        this.paintedSnapshot = null;
+        return;
+      }
+      drawScoreBoard(g2, newWidth, newHeight, state);
+    } finally {
+      Instrumentation.stop(Instrumentation.PAINT_BOARD, start);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getToolTipText(MouseEvent event) {
+    final Point point = event.getPoint();
+    final TooltipLocationsMap.Location location = this.renderer.getTooltipLocationsMap().findLocation(
+        point.getX(), point.getY());
+    if (location == null) {
+      return null;
+    }
+
+    // tooltips are cached per item, place and locale (and recreated when the player's name changes)
+    final LocaleExt locale = PrefCountRegistry.getCurrentLocale();
+    if (locale != this.tooltipLocale) {
+      for (String[] row : this.tooltipCache) {
+        Arrays.fill(row, null);
+      }
+      this.tooltipLocale = locale;
+    }
+    final ScoreItem item = location.item;
+    final Place place = item.isOtherPlace ? item.place : location.place;
+    final String name = currentSnapshot().getPlayerName(place);
+    final int idx = location.place.index;
+    String html = this.tooltipCache[item.ordinal()][idx];
+    if (html == null || !Objects.equals(name, this.tooltipNames[item.ordinal()][idx])) {
+      html = createToolTipHtml(item, place, name);
+      this.tooltipCache[item.ordinal()][idx] = html;
+      this.tooltipNames[item.ordinal()][idx] = name;
+    }
+    return html;
+  }
+
+  /**
+   * Creates tooltip HTML for a score item in the current locale.
+   *
+   * @param item  score item.
+   * @param place place of the player the tooltip refers to.
+   * @param name  name of the player the tooltip refers to.
+   * @return tooltip HTML string.
+   */
+  private static String createToolTipHtml(ScoreItem item, Place place, String name) {
+    if (item == PLAYER_NAME) {
+      String pName = StringUtils.isBlank(name) ? "" : ": " + name;
+      return "<HTML>&nbsp;" + LocaleExt.getString(item.key, LocaleExt.getString(place.longKey, "") + pName) + "&nbsp;";
+
+    } else {
+      String placeStr = LocaleExt.getString(place.longKey, "");
+      String pName = StringUtils.isBlank(name) ? placeStr : name + " (" + placeStr + ")";
+      return "<HTML>&nbsp;" + LocaleExt.getString(item.key, pName) + "&nbsp;";
+    }
+  }
+
+  /**
+   * Repaints the parts of the score board that display values changed since
+   * the last paint; the whole board is repainted when the layout changes.
+   */
+  public void repaintChanges() {
+    this.resizeMode.invalidateFrame();
+    final ScoreSnapshot snapshot = currentSnapshot();
+    final Rectangle region = ScoreBoardChangeTracker.computeDirtyRegion(
+        this.renderer.getTooltipLocationsMap(), this.paintedSnapshot, snapshot);
+    if (region == null) {
+      repaint();
+    } else if (!region.isEmpty()) {
+      repaint(region);
+    }
+  }
+
+  /**
+   * Paints the score board (used for printing); the board is drawn by a
+   * separate renderer, so the on screen locations and tooltips are kept.
+   *
+   * @param g2            graphics context object to use.
+   * @param newWidth      current width.
+   * @param newHeight     current height.
+   * @param offsetX       offset X coordinate.
+   * @param offsetY       offset Y coordinate.
+   * @param playersNumber when this value is not null, only the score board
+   *                      template will be printed (for the specified number
+   * @param lafTheme          pref skin to use.
+   */
+  protected void drawScoreBoard(Graphics2D g2, int newWidth, int newHeight,
+                                int offsetX, int offsetY, Integer playersNumber, LafTheme lafTheme) {
+    new ScoreBoardRenderer().draw(g2, currentSnapshot(), newWidth, newHeight,
+                                  offsetX, offsetY, playersNumber, lafTheme);
+  }
+
+  /**
+   * Paints the score board on screen (the static board layer is drawn from the layer cache).
+   *
+   * @param g2        graphics context object to use.
+   * @param newWidth  current width.
+   * @param newHeight current height.
+   * @param state     compiled render state of the current theme.
+   */
+  private void drawScoreBoard(Graphics2D g2, int newWidth, int newHeight, RenderState state) {
+    final ScoreSnapshot snapshot = currentSnapshot();
+    this.renderer.draw(g2, snapshot, newWidth, newHeight, 0, 0, null, state, this.layerCache);
+    this.paintedSnapshot = snapshot;
+  }
+
+  /**
+   * Initializes number of players for the player dialog frame.
+   *
+   * @param numberOfPlayers number of players.
+   */
+  public void initializeNumberOfPlayers(int numberOfPlayers) {
+    this.renderer.initialize(numberOfPlayers);
+    this.paintedSnapshot = null;
+  }
+
+  /**
+   * Gets the location map object.
+   *
+   * @return the location map.
+   */
+  public ScoreBoardLocationsMap getLocationsMap() {
+    return this.renderer.getLocationsMap();
+  }
+
+  /**
+   * Returns the latest snapshot of the current game (publishing a new one
+   * if the game has changed since); called on the event dispatch thread.
+   *
+   * @return the current game snapshot.
+   */
+  private static ScoreSnapshot currentSnapshot() {
+    return ResultService.publishSnapshot(PrefCountRegistry.getInstance().getGameResultBean());
+  }
+
+  /**
+   * Tells if the live resize mode is enabled in the settings.
+   *
+   * @return true if the live resize mode is enabled.
+   */
+  private static boolean isLiveResizeEnabled() {
+    return PrefCountRegistry.getInstance().getSettingsService().getSettings().isLiveResize();
+  }
+}
@@ -0,0 +1,736 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.TooltipLocationsMap;
+import net.curre.prefcount.gui.theme.LafTheme;
+import net.curre.prefcount.gui.theme.RenderState;
+import net.curre.prefcount.gui.type.Place;
+import static net.curre.prefcount.gui.type.Place.*;
+import net.curre.prefcount.gui.type.ScoreItem;
+import static net.curre.prefcount.gui.type.ScoreItem.*;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.util.Instrumentation;
+import net.curre.prefcount.util.LocaleExt;
+import net.curre.prefcount.util.PdfDocument;
+import net.curre.prefcount.util.SvgDocument;
+import net.curre.prefcount.util.TextRenderCache;
+
+import javax.validation.constraints.Null;
+
+/**
+ * Renderer of the score board. It draws a game snapshot with a given
+ * LAF theme on any graphics (screen, printer, image) and keeps its own
+ * item locations and tooltip locations, so it doesn't depend on the main
+ * window or on the registry. A renderer is not thread-safe, but separate
+ * renderers can be used in parallel (the text cache is shared); see
+ * <code>renderImage</code> for the headless image rendering and
+ * <code>writePdf</code>/<code>writeSvg</code> for the vector export.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardRenderer {
+
+  /** Margin (in points) around the boards exported to PDF. */
+  private static final int EXPORT_MARGIN = 36;
+
+  /** Locations of all items on the score board. */
+  private final ScoreBoardLocationsMap locationsMap;
+
+  /** Locations (shapes) of the items drawn last (for the tooltips). */
+  private final TooltipLocationsMap ttLocationsMap;
+
+  /** Cache of the measured and laid out score strings. */
+  private final TextRenderCache textCache;
+
+  /** Constructs a new <code>ScoreBoardRenderer</code> object. */
+  public ScoreBoardRenderer() {
+    this.locationsMap = new ScoreBoardLocationsMap();
+    this.ttLocationsMap = new TooltipLocationsMap();
+    this.textCache = TextRenderCache.getInstance();
+  }
+
+  /**
+   * Renders the score board of a game into a new image. Every call uses
+   * its own renderer, so games can be rendered by several threads in
+   * parallel (also with <code>java.awt.headless=true</code>), as long as
+   * the same game isn't modified or rendered by another thread concurrently.
+   *
+   * @param rBean    game to render.
+   * @param lafTheme LAF theme to use (e.g. the print theme).
+   * @param width    image width.
+   * @param height   image height.
+   * @return the rendered image.
+   */
+  public static BufferedImage renderImage(GameResultBean rBean, LafTheme lafTheme, int width, int height) {
+    return renderImage(ResultService.publishSnapshot(rBean), lafTheme, width, height);
+  }
+
+  /**
+   * Renders the score board of a game snapshot into a new image; snapshots
+   * are immutable, so they can be rendered by any number of threads.
+   *
+   * @param snapshot game snapshot to render.
+   * @param lafTheme LAF theme to use (e.g. the print theme).
+   * @param width    image width.
+   * @param height   image height.
+   * @return the rendered image.
+   */
+  public static BufferedImage renderImage(ScoreSnapshot snapshot, LafTheme lafTheme, int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2 = image.createGraphics();
+    try {
+      g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      g2.setColor(lafTheme.getMainBackgroundColor());
+      g2.fillRect(0, 0, width, height);
+      new ScoreBoardRenderer().draw(g2, snapshot, width, height, 0, 0, null, lafTheme);
+    } finally {
+      g2.dispose();
+    }
+    return image;
+  }
+
+  /**
+   * Writes the score boards of game snapshots to a multi-page PDF document,
+   * one board per A4 page. The pages are written to the stream as they are
+   * drawn, so any number of boards can be exported in constant memory.
+   *
+   * @param snapshots game snapshots to export.
+   * @param lafTheme  LAF theme to use (e.g. the print theme).
+   * @param out       output stream to write to (closed when done).
+   * @throws IOException on a write error.
+   */
+  public static void writePdf(Iterable<ScoreSnapshot> snapshots, LafTheme lafTheme,
+                              OutputStream out) throws IOException {
+    final int size = (int) (PdfDocument.PageSize.A4_WIDTH - 2 * EXPORT_MARGIN);
+    final int offsetX = EXPORT_MARGIN;
+    final int offsetY = (int) (PdfDocument.PageSize.A4_HEIGHT - size) / 2;
+    final ScoreBoardRenderer renderer = new ScoreBoardRenderer();
+    try (PdfDocument document = new PdfDocument(out)) {
+      for (ScoreSnapshot snapshot : snapshots) {
+        Graphics2D g2 = document.beginPage(PdfDocument.PageSize.A4_WIDTH, PdfDocument.PageSize.A4_HEIGHT);
+        renderer.draw(g2, snapshot, size, size, offsetX, offsetY, null, lafTheme);
+        document.endPage();
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Writes the score board of a game snapshot to an SVG image.
+   *
+   * @param snapshot game snapshot to export.
+   * @param lafTheme LAF theme to use (e.g. the print theme).
+   * @param width    image width.
+   * @param height   image height.
+   * @param out      output stream to write to (closed when done).
+   * @throws IOException on a write error.
+   */
+  public static void writeSvg(ScoreSnapshot snapshot, LafTheme lafTheme, int width, int height,
+                              OutputStream out) throws IOException {
+    try (SvgDocument document = new SvgDocument(out)) {
+      Graphics2D g2 = document.beginPage(width, height);
+      g2.setColor(lafTheme.getMainBackgroundColor());
+      g2.fillRect(0, 0, width, height);
+      new ScoreBoardRenderer().draw(g2, snapshot, width, height, 0, 0, null, lafTheme);
+      document.endPage();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Gets the locations of the items on the score board.
+   *
+   * @return the location map.
+   */
+  public ScoreBoardLocationsMap getLocationsMap() {
+    return this.locationsMap;
+  }
+
+  /**
+   * Gets the locations (shapes) of the items drawn last.
+   *
+   * @return the tooltip locations map.
+   */
+  public TooltipLocationsMap getTooltipLocationsMap() {
+    return this.ttLocationsMap;
+  }
+
+  /**
+   * Initializes the renderer for the given number of players.
+   *
+   * @param numberOfPlayers number of players.
+   * @throws IllegalArgumentException If number of players is not supported.
+   */
+  public void initialize(int numberOfPlayers) {
+    this.locationsMap.initialize(numberOfPlayers);
+    this.ttLocationsMap.clear();
+  }
+
+  /**
+   * Paints the score board.
+   *
+   * @param g2            graphics context object to use.
+   * @param snapshot      game snapshot to draw.
+   * @param width         board width.
+   * @param height        board height.
+   * @param offsetX       offset X coordinate.
+   * @param offsetY       offset Y coordinate.
+   * @param playersNumber when this value is not null, only the score board
+   *                      template will be drawn (for the specified number of players).
+   * @param lafTheme      pref skin to use.
+   * @throws UnsupportedOperationException If number of player is not supported.
+   */
+  public void draw(Graphics2D g2, ScoreSnapshot snapshot, int width, int height, int offsetX, int offsetY,
+                   @Null Integer playersNumber, LafTheme lafTheme) {
+    draw(g2, snapshot, width, height, offsetX, offsetY, playersNumber, lafTheme.getRenderState(), null);
+  }
+
+  /**
+   * Paints the score board.
+   *
+   * @param g2            graphics context object to use.
+   * @param snapshot      game snapshot to draw.
+   * @param width         board width.
+   * @param height        board height.
+   * @param offsetX       offset X coordinate.
+   * @param offsetY       offset Y coordinate.
+   * @param playersNumber when this value is not null, only the score board
+   *                      template will be drawn (for the specified number of players).
+   * @param state         render state to use.
+   * @param layerCache    cache to draw the static board layer from (with zero
+   *                      offsets only) or null to draw the layer directly.
+   * @throws UnsupportedOperationException If number of player is not supported.
+   */
+  void draw(Graphics2D g2, ScoreSnapshot snapshot, int width, int height, int offsetX, int offsetY,
+            @Null Integer playersNumber, RenderState state, @Null ScoreBoardLayerCache layerCache) {
+    final int numPlayers = playersNumber == null ? snapshot.getNumberOfPlayers() : playersNumber;
+    if (numPlayers != 3 && numPlayers != 4) {
+      throw new UnsupportedOperationException(numPlayers + " number of players is NOT supported!");
+    }
+    if (this.locationsMap.getNumberOfPlayers() != numPlayers) {
+      initialize(numPlayers);
+    }
+    this.locationsMap.computeLocations(width, height, offsetX, offsetY, false);
+
+    if (layerCache != null && offsetX == 0 && offsetY == 0) {
+      layerCache.draw(g2, width, height, numPlayers, state.lafThemeId,
+                      layerG2 -> drawBoardLayer(layerG2, 0, 0, numPlayers, state));
+      prepareBoardLinePen(g2, state);
+    } else {
+      drawBoardLayer(g2, offsetX, offsetY, numPlayers, state);
+    }
+
+    // drawing the players information
+    if (playersNumber == null) {
+      final long start = Instrumentation.start();
+      for (Place place : Place.getPlaces(numPlayers)) {
+        drawPlayerScores(snapshot, place, g2, state);
+      }
+      Instrumentation.stop(Instrumentation.DRAW_SCORES, start);
+    }
+  }
+
+  /**
+   * Paints the static layer of the score board (borders, background,
+   * section and divider lines) that doesn't depend on the scores.
+   *
+   * @param g2         graphics context object to use.
+   * @param offsetX    offset X coordinate.
+   * @param offsetY    offset Y coordinate.
+   * @param numPlayers number of players (3 or 4).
+   * @param state      render state to use.
+   */
+  private void drawBoardLayer(Graphics2D g2, int offsetX, int offsetY, int numPlayers, RenderState state) {
+    final int margin = ScoreBoardLocationsMap.MARGIN;
+    final int width = this.locationsMap.width;
+    final int height = this.locationsMap.height;
+    final int centerX = this.locationsMap.centerX;
+    final int centerY = this.locationsMap.centerY;
+    final int twoFifthX = this.locationsMap.twoFifthX;
+    final int threeFifthX = this.locationsMap.threeFifthX;
+    final int twoFifthY = this.locationsMap.twoFifthY;
+    final int threeFifthY = this.locationsMap.threeFifthY;
+    final int whistPoolX = this.locationsMap.whistPoolDividerX;
+    final int whistPoolY = this.locationsMap.whistPoolDividerY;
+    final int poolMountX = this.locationsMap.poolMountDividerX;
+    final int poolMountY = this.locationsMap.poolMountDividerY;
+
+    // drawing nice borders
+    g2.setColor(state.outerBorderColor);
+    g2.drawRect(4 + offsetX, 4 + offsetY, width - 8, height - 8);
+    g2.setColor(state.innerBorderColor);
+    g2.drawRect(5 + offsetX, 5 + offsetY, width - 10, height - 10);
+
+    // painting score board background
+    g2.setPaint(state.boardBackgroundPaint);
+    g2.fillRect(6 + offsetX, 6 + offsetY, width - 11, height - 11);
+
+    // player sections lines
+    prepareBoardLinePen(g2, state);
+    Ellipse2D e = new Ellipse2D.Double();
+    e.setFrameFromCenter(centerX + 1d, centerY, centerX + 32d, centerY + 30d);
+    g2.draw(e);
+
+    switch (numPlayers) {
+      case 3:
+        // drawing players main sections lines
+        g2.setPaint(state.mainSectionLinesPaint);
+        g2.drawLine(margin + offsetX, height - margin + offsetY, centerX, centerY);         // /
+        g2.drawLine(centerX, centerY, width - margin + offsetX, height - margin + offsetY); // \
+        g2.drawLine(centerX, centerY, centerX, margin + offsetY);                           // |
+        g2.setColor(state.boardLineColor);
+
+        // drawing field division lines (to separate mount from pool, etc.)
+        g2.drawLine(twoFifthX, whistPoolY, whistPoolX, whistPoolY);             // - (south-bottom)
+        g2.drawLine(twoFifthX, whistPoolY, twoFifthX, margin + offsetY);        // | (west-left)
+        g2.drawLine(whistPoolX, margin + offsetY, whistPoolX, whistPoolY);      // | (east-right)
+        g2.drawLine(threeFifthX, poolMountY, poolMountX, poolMountY);           // - (south-up)
+        g2.drawLine(threeFifthX, poolMountY, threeFifthX, margin + offsetY);    // | (west-right)
+        g2.drawLine(poolMountX, poolMountY, poolMountX, margin + offsetY);      // | (east-left)
+
+        // drawing whist fields division lines
+        final int upWhistDivY = (height - (twoFifthY / 2)) / 2 + offsetY;
+        g2.drawLine(centerX, height - margin + offsetY, centerX, whistPoolY);         // | (south)
+        g2.drawLine(margin + offsetX, upWhistDivY, twoFifthX, upWhistDivY);           // - (west)
+        g2.drawLine(whistPoolX, upWhistDivY, width - margin + offsetX, upWhistDivY);  // - (east)
+
+        break;
+
+      case 4:
+        // drawing players main sections lines
+        g2.setPaint(state.mainSectionLinesPaint);
+        g2.drawLine(margin + offsetX, margin + offsetY, width - margin + offsetX, height - margin + offsetY); // \
+        g2.drawLine(margin + offsetX, height - margin + offsetY, width - margin + offsetX, margin + offsetY); // /
+        g2.setColor(state.boardLineColor);
+
+        // drawing field division lines (to separate mount from pool, etc.)
+        g2.drawLine(twoFifthX, whistPoolY, whistPoolX, whistPoolY);       // - (bottom whist-pool)
+        g2.drawLine(twoFifthX, whistPoolY, twoFifthX, twoFifthY);         // | (left whist-pool)
+        g2.drawLine(whistPoolX, whistPoolY, whistPoolX, twoFifthY);       // | (right whist-pool)
+        g2.drawLine(twoFifthX, twoFifthY, whistPoolX, twoFifthY);         // - (top whist-pool)
+        g2.drawLine(threeFifthX, poolMountY, poolMountX, poolMountY);     // - (bottom pool-mount)
+        g2.drawLine(threeFifthX, poolMountY, threeFifthX, threeFifthY);   // | (west pool-mount)
+        g2.drawLine(poolMountX, poolMountY, poolMountX, threeFifthY);     // | (right pool-mount)
+        g2.drawLine(threeFifthX, threeFifthY, poolMountX, threeFifthY);   // - (south pool-mount)
+
+        // drawing whist fields division lines
+        g2.drawLine(margin + offsetX, this.locationsMap.whistDividerY1,
+                    twoFifthX, this.locationsMap.whistDividerY1);                 // - (west-top)
+        g2.drawLine(margin + offsetX, this.locationsMap.whistDividerY2,
+                    twoFifthX, this.locationsMap.whistDividerY2);                 // - (west-bottom)
+        g2.drawLine(whistPoolX, this.locationsMap.whistDividerY1,
+                    width - margin + offsetX, this.locationsMap.whistDividerY1);  // - (east-top)
+        g2.drawLine(whistPoolX, this.locationsMap.whistDividerY2,
+                    width - margin + offsetX, this.locationsMap.whistDividerY2);  // - (east-bottom)
+
+        g2.drawLine(this.locationsMap.whistDividerX1, twoFifthY,
+                    this.locationsMap.whistDividerX1, margin + offsetY);          // | (north-left)
+        g2.drawLine(this.locationsMap.whistDividerX2, twoFifthY,
+                    this.locationsMap.whistDividerX2, margin + offsetY);          // | (north-right)
+        g2.drawLine(this.locationsMap.whistDividerX1, height - margin + offsetY,
+                    this.locationsMap.whistDividerX1, whistPoolY);                // | (south-left)
+        g2.drawLine(this.locationsMap.whistDividerX2, height - margin + offsetY,
+                    this.locationsMap.whistDividerX2, whistPoolY);                // | (south-right)
+        break;
+
+      default:
+        throw new UnsupportedOperationException(numPlayers + " number of players is NOT supported!");
+    }
+  }
+
+  /**
+   * Method to draw all player scores.
+   *
+   * @param snapshot game snapshot to draw.
+   * @param place Current player place.
+   * @param g2    Graphics object to use.
+   * @param state     render state to use.
+   */
+  private void drawPlayerScores(ScoreSnapshot snapshot, Place place, Graphics2D g2, RenderState state) {
+
+    final ScoreBoardLocationsMap locations = this.locationsMap;
+
+    // drawing player's place letter (South, East...)
+    preparePlayerNamePen(g2, state);
+    drawItemString(g2, PLAYER_NAME, place, LocaleExt.getString(place.shortKey));
+
+    // drawing player's mount value
+    preparePlayerScorePen(g2, state);
+    drawItemString(g2, PLAYER_MOUNT, place, getStringFromInt(snapshot.getMountain(place)));
+
+    // drawing player's pool value
+    drawItemString(g2, PLAYER_POOL, place, getStringFromInt(snapshot.getPool(place)));
+
+    // drawing player's whist values
+    drawWhistAndWhistFixes(g2, place, snapshot);
+
+    // drawing players computed score values if the final scores are ready
+    if (snapshot.isFinalScoresReady()) {
+      // whist saldo
+      for (ScoreItem other : locations.getOtherWhistSaldoItems(place)) {
+        final int wSaldo = snapshot.getWhistSaldoAgainstPlayer(place, other.place);
+        drawWhistSaldo(g2, wSaldo, locations.getX(other, place), locations.getY(other, place),
+                       false, place, other);
+      }
+
+      // total whist saldo
+      final int wSaldo = snapshot.getWhistSaldoAgainstPlayer(place, place);
+      drawWhistSaldo(g2, wSaldo, locations.getX(WHIST_SALDO_TOTAL, place),
+                     locations.getY(WHIST_SALDO_TOTAL, place), true, place, WHIST_SALDO_TOTAL);
+
+      // new mountain and new (closed) pool
+      final boolean isVertical = (place == EAST || place == WEST);
+      drawNewMountain(g2, snapshot, (float) locations.getX(PLAYER_MOUNT, place),
+                      (float) locations.getY(PLAYER_MOUNT, place), isVertical, place, state);
+      drawClosedPool(g2, snapshot, (float) locations.getX(PLAYER_POOL, place),
+                     (float) locations.getY(PLAYER_POOL, place), isVertical, place, state);
+
+      // final mountain and final scores 
+      preparePlayerTotalsPen(g2, state);
+      drawFinalMountain(g2, snapshot, (float) locations.getX(FINAL_MOUNT, place),
+                        (float) locations.getY(FINAL_MOUNT, place), place);
+      drawFinalScore(g2, snapshot, (float) locations.getX(FINAL_SCORE, place),
+                     (float) locations.getY(FINAL_SCORE, place), state, place);
+
+    } else {
+      this.ttLocationsMap.removeLocation(place, WHIST_SALDO_TOTAL, WHIST_EAST_SALDO, WHIST_SOUTH_SALDO,
+                                         WHIST_WEST_SALDO, WHIST_NORTH_SALDO, PLAYER_NEW_MOUNT,
+                                         PLAYER_AMNIST_MOUNT, PLAYER_FIXED_MOUNT, PLAYER_POOL_CLOSED,
+                                         FINAL_MOUNT, FINAL_SCORE);
+    }
+  }
+
+  /**
+   * Draws a number with an oval or a rectangle around it at the
+   * given position (x, y) - used for displaying players whist saldo.
+   *
+   * @param g2         Graphics2D to use.
+   * @param saldo      Number to draw.
+   * @param x          X coordinate.
+   * @param y          Y coordinate.
+   * @param totalSaldo True indicates that this is a total saldo,
+   *                   therefore, a rectangle is drawn around the number;
+   *                   false draws an oval instead.
+   * @param place      player's place.
+   * @param item       score board item.
+   */
+  private void drawWhistSaldo(Graphics2D g2, final int saldo, final double x, final double y,
+                              boolean totalSaldo, Place place, ScoreItem item) {
+    final String str = String.valueOf(saldo);
+    final int width = 16 + str.length() * 14;
+    final int shapeX = (int) x - (10 + (saldo < 0 ? 4 : 0));
+    final int shapeY = (int) y - 16;
+    this.textCache.drawString(g2, str, (int) x, (int) y);
+    Shape shape;
+    if (totalSaldo) {
+      shape = new Rectangle2D.Double(shapeX, shapeY, width, 20);
+      g2.draw(shape);
+
+    } else {
+      shape = new Ellipse2D.Double(shapeX, shapeY, width, 20);
+      g2.drawOval(shapeX, shapeY, width, 20);
+    }
+
+    // adding the tooltip location
+    this.ttLocationsMap.addShapeLocation(item, place, shape);
+  }
+
+  /**
+   * Draws new pool value (the closed pool value).
+   *
+   * @param g2       Graphics2D to use.
+   * @param snapshot Game snapshot.
+   * @param x        X coordinate of the original pool string.
+   * @param y        Y coordinate of the original pool string.
+   * @param vertical If true, indicates vertical positioning
+   * @param place    player's place.
+   * @param state    render state to use.
+   */
+  private void drawClosedPool(Graphics2D g2, ScoreSnapshot snapshot, final float x, final float y,
+                              final boolean vertical, Place place, RenderState state) {
+    final String str = getStringFromInt(snapshot.getMaxPool());
+    final float width = this.textCache.stringWidth(g2, String.valueOf(snapshot.getPool(place)));
+    Stroke tempStroke = g2.getStroke();
+    g2.setStroke(state.closedValueStroke);
+    g2.draw(new Line2D.Float(x, y - 2f, x + width + 2f, y - 8f));
+    g2.setStroke(tempStroke);
+
+    if (vertical) {
+      drawItemString(g2, PLAYER_POOL_CLOSED, place, str, x, y + 20f);
+    } else {
+      drawItemString(g2, PLAYER_POOL_CLOSED, place, str, x + 7f + width, y);
+    }
+  }
+
+  /**
+   * Draws new mountain values (mount after closed pool,
+   * amnisted mountain, and the mount fix if any).
+   *
+   * @param g2       Graphics2D to use.
+   * @param snapshot Game snapshot.
+   * @param x        X coordinate of the original mountain string.
+   * @param y        Y coordinate of the original mountain string.
+   * @param vertical If true, indicates vertical positioning
+   * @param place    player's place.
+   * @param state    render state to use.
+   */
+  private void drawNewMountain(Graphics2D g2, ScoreSnapshot snapshot, final float x, final float y,
+                               final boolean vertical, Place place, RenderState state) {
+    int newMount = snapshot.getNewMountain(place);
+    final String newMountStr = getStringFromInt(newMount);
+    final float width1 = this.textCache.stringWidth(g2, String.valueOf(snapshot.getMountain(place)));
+    final int amnistMount = newMount - snapshot.getMinMountain();
+    final String amnistMountStr = amnistMount + ".";
+    final Integer mountFix = snapshot.getMountFix(place);
+    final String mountFixStr = mountFix == null ? null : (amnistMount + mountFix) + ".";
+    Stroke tempStroke = g2.getStroke();
+    g2.setStroke(state.closedValueStroke);
+    g2.draw(new Line2D.Float(x, y - 2f, x + width1 + 2f, y - 8f));
+    g2.setStroke(tempStroke);
+
+    if (vertical) {
+      drawItemString(g2, PLAYER_NEW_MOUNT, place, newMountStr, x, y + 20f);
+      drawItemString(g2, PLAYER_AMNIST_MOUNT, place, amnistMountStr, x, y + 40f);
+      if (mountFixStr != null) {
+        drawItemString(g2, PLAYER_FIXED_MOUNT, place, mountFixStr, x, y + 60f);
+      }
+    } else {
+      final float mountX = x + width1 + 7f;
+      final float width2 = this.textCache.stringWidth(g2, newMountStr);
+      drawItemString(g2, PLAYER_NEW_MOUNT, place, newMountStr, mountX, y);
+      drawItemString(g2, PLAYER_AMNIST_MOUNT, place, amnistMountStr, mountX + width2 + 2f, y);
+      if (mountFixStr != null) {
+        final float width3 = this.textCache.stringWidth(g2, mountFixStr);
+        drawItemString(g2, PLAYER_FIXED_MOUNT, place, mountFixStr, mountX + width2 + width3 + 4f, y);
+      }
+    }
+    if (mountFixStr == null) {
+      this.ttLocationsMap.removeLocation(place, PLAYER_FIXED_MOUNT);
+    }
+  }
+
+  /**
+   * Draws new mountain value.
+   *
+   * @param g2    Graphics2D to use.
+   * @param snapshot Game snapshot.
+   * @param x     X coordinate.
+   * @param y     Y coordinate.
+   * @param place player's place.
+   */
+  private void drawFinalMountain(Graphics2D g2, ScoreSnapshot snapshot,
+                                 final float x, final float y, Place place) {
+    int mount = snapshot.getFinalMountainInWhists(place);
+    final String str = String.valueOf(mount);
+    final int width = 16 + str.length() * 14;
+    final int adjustX = 10 + (mount < 0 ? 4 : 0);
+    this.textCache.drawString(g2, str, x, y);
+    Shape shape = new Rectangle2D.Double(x - adjustX, y - 16d, width, 20d);
+    g2.draw(shape);
+
+    // adding the tooltip location
+    this.ttLocationsMap.addShapeLocation(FINAL_MOUNT, place, shape);
+  }
+
+  /**
+   * Draws final score and a thrombus around it
+   * at the given location.
+   *
+   * @param g2    Graphics2D to use.
+   * @param snapshot Game snapshot.
+   * @param x     X coordinate.
+   * @param y     Y coordinate.
+   * @param state     render state to use.
+   * @param place player's place.
+   */
+  private void drawFinalScore(Graphics2D g2, ScoreSnapshot snapshot,
+                              final float x, final float y, RenderState state, Place place) {
+    final String score = String.valueOf(snapshot.getFinalScoreInWhists(place));
+    this.textCache.drawString(g2, score, x, y);
+
+    final TextRenderCache.Entry corrSize = this.textCache.get(g2, score);
+    final float halfWidth = corrSize.width / 2f;
+    final float halfHeight = corrSize.height / 2f;
+    final float realCenterX = x + halfWidth;
+    final float realCenterY = y - halfHeight + 5f;
+    final float leftX = realCenterX - halfWidth - 15f;
+    final float rightX = realCenterX + halfWidth + 15f;
+    final float upY = realCenterY - halfHeight - 15f;
+    final float downY = realCenterY + halfHeight + 15f;
+
+    GeneralPath polygon = new GeneralPath(GeneralPath.WIND_EVEN_ODD, 4);
+    polygon.moveTo(realCenterX, upY);
+    polygon.lineTo(rightX, realCenterY);
+    polygon.lineTo(realCenterX, downY);
+    polygon.lineTo(leftX, realCenterY);
+    polygon.closePath();
+    g2.draw(polygon);
+    g2.setPaint(state.finalScoreBackgroundPaint);
+    g2.fill(polygon);
+
+    // adding the tooltip location
+    this.ttLocationsMap.addShapeLocation(FINAL_SCORE, place, polygon);
+  }
+
+  /**
+   * Draws a string of a score item at the item's location
+   * on the board and records its tooltip location.
+   *
+   * @param g2    Graphics2D to use.
+   * @param item  score board item.
+   * @param place player's place.
+   * @param str   string to draw.
+   */
+  private void drawItemString(Graphics2D g2, ScoreItem item, Place place, String str) {
+    final ScoreBoardLocationsMap locations = this.locationsMap;
+    drawItemString(g2, item, place, str,
+                   (float) locations.getX(item, place), (float) locations.getY(item, place));
+  }
+
+  /**
+   * Draws a string of a score item at the given
+   * location and records its tooltip location.
+   *
+   * @param g2    Graphics2D to use.
+   * @param item  score board item.
+   * @param place player's place.
+   * @param str   string to draw.
+   * @param x     X coordinate of the string's baseline start.
+   * @param y     Y coordinate of the string's baseline.
+   */
+  private void drawItemString(Graphics2D g2, ScoreItem item, Place place, String str, float x, float y) {
+    this.textCache.drawString(g2, str, x, y);
+    this.ttLocationsMap.addRectangleLocation(item, place, g2, x, y, str);
+  }
+
+  /**
+   * Converts passed Integer to a String appending a '.'
+   * ant the end; if the passed value is null an empty string
+   * is returned.
+   *
+   * @param value Integer value to convert.
+   * @return String representation of the passed integer
+   *         with a period at the end or an empty string
+   *         if the passed integer is null.
+   */
+  private static String getStringFromInt(final Integer value) {
+    return value == null ? "" : value + ".";
+  }
+
+  /**
+   * Sets the color and stroke on the graphics object
+   * for the score board lines painting.
+   *
+   * @param g2    Graphics object.
+   * @param state render state to use.
+   */
+  private static void prepareBoardLinePen(Graphics2D g2, RenderState state) {
+    g2.setStroke(state.boardLineStroke);
+    g2.setColor(state.boardLineColor);
+  }
+
+  /**
+   * Sets the color, stroke and font on the graphics
+   * object for the player name painting.
+   *
+   * @param g2    Graphics object.
+   * @param state render state to use.
+   */
+  private static void preparePlayerNamePen(Graphics2D g2, RenderState state) {
+    g2.setColor(state.playerNameColor);
+    g2.setFont(state.playerNameFont);
+    g2.setStroke(state.playerNameStroke);
+  }
+
+  /**
+   * Sets the color, stroke and font on the graphics
+   * object for the player score painting.
+   *
+   * @param g2    Graphics object.
+   * @param state render state to use.
+   */
+  private static void preparePlayerScorePen(Graphics2D g2, RenderState state) {
+    g2.setColor(state.playerScoreColor);
+    g2.setFont(state.playerScoreFont);
+    g2.setStroke(state.playerScoreStroke);
+  }
+
+  /**
+   * Sets the color, stroke and font on the graphics
+   * object for the player (score) totals painting.
+   *
+   * @param g2    Graphics object.
+   * @param state render state to use.
+   */
+  private static void preparePlayerTotalsPen(Graphics2D g2, RenderState state) {
+    g2.setColor(state.playerTotalsColor);
+    g2.setFont(state.playerTotalsFont);
+    g2.setStroke(state.playerTotalsStroke);
+  }
+
+  /**
+   * Draws player's whists and whist fixes.
+   *
+   * @param g2        graphics object.
+   * @param place     players place.
+   * @param snapshot  game snapshot.
+   */
+  private void drawWhistAndWhistFixes(Graphics2D g2, Place place, ScoreSnapshot snapshot) {
+    final ScoreBoardLocationsMap locations = this.locationsMap;
+    for (ScoreItem other : locations.getOtherWhistItems(place)) {
+      final float x = (float) locations.getX(other, place);
+      final float y = (float) locations.getY(other, place);
+      String whistStr = snapshot.getWhistsStringForPlayer(place, other.place);
+      drawItemString(g2, other, place, whistStr, x, y);
+
+      // drawing the whist fixes if any and if the final score is ready
+      final ScoreItem otherFix = ScoreItem.getWhistFixForWhist(other.place);
+      if (snapshot.isFinalScoresReady()) {
+        Integer fix = snapshot.getWhistFixAgainstPlayer(place, other.place);
+        if (fix != null) {
+          String fixStr = (snapshot.getWhistsAgainstPlayer(place, other.place) + fix) + ".";
+          drawItemString(g2, otherFix, place, fixStr, x + 2 + this.textCache.stringWidth(g2, whistStr), y);
+
+        } else {
+          this.ttLocationsMap.removeLocation(place, otherFix);
+        }
+
+      } else {
+        this.ttLocationsMap.removeLocation(place, otherFix);
+      }
+    }
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.DisplayMode;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferedImage;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+/**
+ * Live resize mode of the score board. While the board is being resized
+ * (e.g. the main window corner is dragged), the last full quality frame
+ * is drawn scaled to the current size instead of laying out and painting
+ * the whole board for every intermediate size; the repaints are coalesced
+ * to the display refresh rate. A single full quality repaint is done after
+ * the size has been stable for <code>SETTLE_DELAY</code> milliseconds.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+class ScoreBoardResizeMode extends ComponentAdapter {
+
+  /** Time (in ms) the size has to be stable before the full quality repaint. */
+  static final int SETTLE_DELAY = 200;
+
+  /** Refresh rate to use when the display's refresh rate is unknown. */
+  private static final int DEFAULT_REFRESH_RATE = 60;
+
+  /** Score board component. */
+  private final JComponent board;
+
+  /** Tells if the live resize mode is enabled. */
+  private final BooleanSupplier enabled;
+
+  /** Timer that triggers the full quality repaint. */
+  private final Timer settleTimer;
+
+  /** Timer that coalesces the repaints during resizing. */
+  private final Timer frameTimer;
+
+  /** Indicates that the board is being resized. */
+  private boolean resizing;
+
+  /** Last full quality frame or null if it has to be rendered. */
+  private BufferedImage frame;
+
+  /** Number of times the last frame was rendered. */
+  private long frameRenderCount;
+
+  /**
+   * Constructor.
+   *
+   * @param board   score board component.
+   * @param enabled tells if the live resize mode is enabled (checked on every resize).
+   */
+  ScoreBoardResizeMode(JComponent board, BooleanSupplier enabled) {
+    this.board = board;
+    this.enabled = enabled;
+    this.settleTimer = new Timer(SETTLE_DELAY, e -> settle());
+    this.settleTimer.setRepeats(false);
+    this.frameTimer = new Timer(1000 / DEFAULT_REFRESH_RATE, e -> board.repaint());
+    this.frameTimer.setRepeats(false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void componentResized(ComponentEvent event) {
+    if (!this.enabled.getAsBoolean()) {
+      return;
+    }
+    this.resizing = true;
+    this.settleTimer.restart();
+    if (!this.frameTimer.isRunning()) {
+      this.frameTimer.setInitialDelay(getFrameInterval());
+      this.frameTimer.start();
+    }
+  }
+
+  /**
+   * Tells if the board is being resized.
+   *
+   * @return true if the board is being resized; false otherwise.
+   */
+  boolean isResizing() {
+    return this.resizing;
+  }
+
+  /**
+   * Draws the last full quality frame scaled to the current board size
+   * if the board is being resized; renders the frame first if needed.
+   *
+   * @param g2          graphics to draw on.
+   * @param width       current board width.
+   * @param height      current board height.
+   * @param frameWidth  board width of the last full quality frame.
+   * @param frameHeight board height of the last full quality frame.
+   * @param painter     paints the board in full quality (at the frame size).
+   * @return true if the scaled frame was drawn; false if the board has
+   *         to be painted normally.
+   */
+  boolean drawScaledFrame(Graphics2D g2, int width, int height, int frameWidth,
+                          int frameHeight, Consumer<Graphics2D> painter) {
+    if (!this.resizing) {
+      return false;
+    }
+    if (this.frame == null) {
+      if (frameWidth <= 0 || frameHeight <= 0) {
+        return false;
+      }
+      renderFrame(g2.getDeviceConfiguration(), frameWidth, frameHeight,
+                  g2.getTransform().getScaleX(), painter);
+    }
+    final Object interpolation = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+    g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g2.drawImage(this.frame, 0, 0, width, height, null);
+    if (interpolation != null) {
+      g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+    }
+    return true;
+  }
+
+  /** Drops the last frame (e.g. after the board data has changed). */
+  void invalidateFrame() {
+    if (this.frame != null) {
+      this.frame.flush();
+      this.frame = null;
+    }
+  }
+
+  /** Ends the resizing and requests the full quality repaint. */
+  void settle() {
+    this.settleTimer.stop();
+    this.frameTimer.stop();
+    this.resizing = false;
+    invalidateFrame();
+    this.board.repaint();
+  }
+
+  /**
+   * Gets the number of times the last frame was rendered.
+   *
+   * @return number of frame renders.
+   */
+  long getFrameRenderCount() {
+    return this.frameRenderCount;
+  }
+
+  /**
+   * Renders the full quality frame into a new image.
+   *
+   * @param config  device configuration to create a compatible image for or null.
+   * @param width   board width.
+   * @param height  board height.
+   * @param scale   device scale.
+   * @param painter board painter.
+   */
+  private void renderFrame(GraphicsConfiguration config, int width, int height,
+                           double scale, Consumer<Graphics2D> painter) {
+    final int imgWidth = (int) Math.ceil(width * scale);
+    final int imgHeight = (int) Math.ceil(height * scale);
+    this.frame = config == null ?
+                 new BufferedImage(imgWidth, imgHeight, BufferedImage.TYPE_INT_ARGB_PRE) :
+                 config.createCompatibleImage(imgWidth, imgHeight, Transparency.TRANSLUCENT);
+    Graphics2D fg = this.frame.createGraphics();
+    try {
+      fg.scale(scale, scale);
+      painter.accept(fg);
+    } finally {
+      fg.dispose();
+    }
+    this.frameRenderCount++;
+  }
+
+  /**
+   * Computes the repaint interval from the refresh rate of the board's display.
+   *
+   * @return repaint interval in milliseconds.
+   */
+  private int getFrameInterval() {
+    int rate = DisplayMode.REFRESH_RATE_UNKNOWN;
+    final GraphicsConfiguration config = this.board.getGraphicsConfiguration();
+    if (config != null) {
+      rate = config.getDevice().getDisplayMode().getRefreshRate();
+    }
+    return 1000 / (rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate);
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.BasicStroke;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.Line2D;
+import java.awt.print.PageFormat;
+import java.awt.print.Pageable;
+import java.awt.print.Printable;
+import java.awt.print.PrinterException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.theme.LafTheme;
+import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.util.LocaleExt;
+import net.curre.prefcount.util.TextRenderCache;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Prints score boards of several games (e.g. all games of the session)
+ * as one print job, laying out a grid of boards with their score tables
+ * on every sheet. The sheet layout is computed once per page format and
+ * reused, as the print system calls <code>print</code> several times
+ * per page.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreSheetPrinter implements Pageable, Printable {
+
+  /** Font of the score tables. */
+  private static final Font TABLE_FONT = new Font("Arial", Font.PLAIN, 9);
+
+  /** Font of the sheet header. */
+  private static final Font HEADER_FONT = new Font("Arial", Font.BOLD, 12);
+
+  /** Height of a score table row. */
+  private static final int TABLE_ROW_HEIGHT = 14;
+
+  /** Space between the grid cells and between a board and its table. */
+  private static final int GAP = 10;
+
+  /** Games to print. */
+  private final List<ScoreSnapshot> games;
+
+  /** Page format of all sheets. */
+  private final PageFormat pageFormat;
+
+  /** LAF theme to print with. */
+  private final LafTheme lafTheme;
+
+  /** Number of boards in a sheet row. */
+  private final int columns;
+
+  /** Number of board rows on a sheet. */
+  private final int rows;
+
+  /** Renderer of the boards. */
+  private final ScoreBoardRenderer renderer;
+
+  /** Sheet layout or null if it hasn't been computed yet. */
+  private SheetLayout layout;
+
+  /**
+   * Constructor.
+   *
+   * @param games      games to print.
+   * @param pageFormat page format of all sheets.
+   * @param lafTheme   LAF theme to print with.
+   * @param columns    number of boards in a sheet row.
+   * @param rows       number of board rows on a sheet.
+   */
+  public ScoreSheetPrinter(List<ScoreSnapshot> games, PageFormat pageFormat, LafTheme lafTheme,
+                           int columns, int rows) {
+    if (columns < 1 || rows < 1) {
+      throw new IllegalArgumentException("Sheet must have at least one board!");
+    }
+    this.games = new ArrayList<>(games);
+    this.pageFormat = pageFormat;
+    this.lafTheme = lafTheme;
+    this.columns = columns;
+    this.rows = rows;
+    this.renderer = new ScoreBoardRenderer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getNumberOfPages() {
+    final int perSheet = this.columns * this.rows;
+    return Math.max(1, (this.games.size() + perSheet - 1) / perSheet);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PageFormat getPageFormat(int pageIndex) {
+    checkPageIndex(pageIndex);
+    return this.pageFormat;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Printable getPrintable(int pageIndex) {
+    checkPageIndex(pageIndex);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int print(Graphics g, PageFormat format, int pageIndex) throws PrinterException {
+    if (pageIndex < 0 || pageIndex >= getNumberOfPages()) {
+      return NO_SUCH_PAGE;
+    }
+    final SheetLayout sheet = getLayout(format);
+    Graphics2D g2 = (Graphics2D) g.create();
+    try {
+      g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      g2.translate(format.getImageableX(), format.getImageableY());
+
+      // drawing the header
+      g2.setColor(this.lafTheme.getPlayerNameColor());
+      g2.setFont(HEADER_FONT);
+      final String header = LocaleExt.getString("pref.print.header") +
+                            " (" + (pageIndex + 1) + "/" + getNumberOfPages() + ")";
+      TextRenderCache.getInstance().drawString(g2, header, 0, sheet.headerBaseline);
+
+      // drawing the boards with their score tables
+      final int first = pageIndex * sheet.boards.length;
+      for (int i = 0; i < sheet.boards.length && first + i < this.games.size(); i++) {
+        final ScoreSnapshot snapshot = this.games.get(first + i);
+        final Rectangle board = sheet.boards[i];
+        this.renderer.draw(g2, snapshot, board.width, board.height, board.x, board.y, null, this.lafTheme);
+        drawScoreTable(g2, snapshot, board.x, board.y + board.height + GAP, board.width, this.lafTheme);
+      }
+    } finally {
+      g2.dispose();
+    }
+    return PAGE_EXISTS;
+  }
+
+  /**
+   * Draws the score table (players and their final scores) of a game.
+   *
+   * @param g2       graphics to draw on.
+   * @param snapshot game snapshot.
+   * @param x        X coordinate of the table.
+   * @param y        Y coordinate of the table.
+   * @param width    table width.
+   * @param lafTheme LAF theme to use.
+   * @return the table height.
+   */
+  static int drawScoreTable(Graphics2D g2, ScoreSnapshot snapshot, int x, int y, int width, LafTheme lafTheme) {
+    final TextRenderCache textCache = TextRenderCache.getInstance();
+    final int placeWidth = width / 6;
+    final int scoreX = x + width * 2 / 3;
+    final int numPlayers = snapshot.getNumberOfPlayers();
+    final int height = getScoreTableHeight(numPlayers);
+
+    g2.setFont(TABLE_FONT);
+    g2.setColor(lafTheme.getPlayerScoreColor());
+    final int baseline = (TABLE_ROW_HEIGHT + TABLE_FONT.getSize()) / 2 - 1;
+    textCache.drawString(g2, LocaleExt.getString("pref.dialog.table.player"), x + placeWidth + 3, y + baseline);
+    textCache.drawString(g2, LocaleExt.getString("pref.dialog.table.score"), scoreX + 3, y + baseline);
+    for (int i = 0; i < numPlayers; i++) {
+      final Place place = Place.getPlaceForIndex(i);
+      final int rowY = y + (i + 1) * TABLE_ROW_HEIGHT + baseline;
+      textCache.drawString(g2, LocaleExt.getString(place.shortKey), x + 3, rowY);
+      textCache.drawString(g2, StringUtils.defaultString(snapshot.getPlayerName(place)), x + placeWidth + 3, rowY);
+      if (snapshot.isFinalScoresReady()) {
+        textCache.drawString(g2, String.valueOf(snapshot.getFinalScoreInWhists(place)), scoreX + 3, rowY);
+      }
+    }
+
+    g2.setColor(lafTheme.getBoardLineColor());
+    g2.setStroke(new BasicStroke(0.5f));
+    for (int i = 0; i <= numPlayers + 1; i++) {
+      g2.draw(new Line2D.Float(x, y + i * TABLE_ROW_HEIGHT, x + width, y + i * TABLE_ROW_HEIGHT));
+    }
+    g2.draw(new Line2D.Float(x, y, x, y + height));
+    g2.draw(new Line2D.Float(x + placeWidth, y, x + placeWidth, y + height));
+    g2.draw(new Line2D.Float(scoreX, y, scoreX, y + height));
+    g2.draw(new Line2D.Float(x + width, y, x + width, y + height));
+    return height;
+  }
+
+  /**
+   * Computes the height of a score table.
+   *
+   * @param numPlayers number of players.
+   * @return the table height.
+   */
+  static int getScoreTableHeight(int numPlayers) {
+    return (numPlayers + 1) * TABLE_ROW_HEIGHT;
+  }
+
+  /**
+   * Gets the sheet layout for the given page format (computes it if needed).
+   *
+   * @param format page format.
+   * @return the sheet layout.
+   */
+  SheetLayout getLayout(PageFormat format) {
+    final int width = (int) format.getImageableWidth();
+    final int height = (int) format.getImageableHeight();
+    if (this.layout == null || this.layout.width != width || this.layout.height != height) {
+      this.layout = new SheetLayout(width, height, this.columns, this.rows);
+    }
+    return this.layout;
+  }
+
+  /**
+   * Checks the page index.
+   *
+   * @param pageIndex page index.
+   * @throws IndexOutOfBoundsException if there is no such page.
+   */
+  private void checkPageIndex(int pageIndex) {
+    if (pageIndex < 0 || pageIndex >= getNumberOfPages()) {
+      throw new IndexOutOfBoundsException("No page " + pageIndex);
+    }
+  }
+
+  /** Locations of the boards on a sheet (the tables go under the boards). */
+  static class SheetLayout {
+
+    /** Imageable width of the sheet. */
+    final int width;
+
+    /** Imageable height of the sheet. */
+    final int height;
+
+    /** Baseline of the header. */
+    final int headerBaseline;
+
+    /** Board bounds (in the imageable area coordinates) in the print order. */
+    final Rectangle[] boards;
+
+    /**
+     * Computes the layout.
+     *
+     * @param width   imageable width of the sheet.
+     * @param height  imageable height of the sheet.
+     * @param columns number of boards in a row.
+     * @param rows    number of board rows.
+     */
+    SheetLayout(int width, int height, int columns, int rows) {
+      this.width = width;
+      this.height = height;
+      this.headerBaseline = HEADER_FONT.getSize();
+      final int top = this.headerBaseline + GAP;
+      final int cellWidth = width / columns;
+      final int cellHeight = (height - top) / rows;
+      final int tableHeight = getScoreTableHeight(4);
+      final int size = Math.max(0, Math.min(cellWidth - GAP, cellHeight - tableHeight - 2 * GAP));
+      this.boards = new Rectangle[columns * rows];
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < columns; col++) {
+          final int x = col * cellWidth + (cellWidth - size) / 2;
+          final int y = top + row * cellHeight;
+          this.boards[row * columns + col] = new Rectangle(x, y, size, size);
+        }
+      }
+    }
+  }
+}
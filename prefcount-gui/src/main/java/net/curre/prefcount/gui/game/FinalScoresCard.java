@@ -21,8 +21,12 @@ import info.clearthought.layout.TableLayoutConstraints;
 import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
 import net.curre.prefcount.event.PointValueKeyListener;
+import net.curre.prefcount.service.GameArchive;
 import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.service.ServiceException;
 import net.curre.prefcount.util.LocaleExt;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -41,6 +45,9 @@ import java.awt.BorderLayout;
  */
 public class FinalScoresCard extends DataCard {
 
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(FinalScoresCard.class.getName());
+
   /** Reference to the point cost text field. */
   private final JTextField pointCost;
 
@@ -105,17 +112,32 @@ public class FinalScoresCard extends DataCard {
     return null;
   }
 
-  /** Does nothing. */
+  /**
+   * Computes the final results, adds the finished game to the session
+   * games and the archive and journals it as finished.
+   */
   @Override
   public void doOnEntry() {
     PrefCountRegistry registry = PrefCountRegistry.getInstance();
     GameResultBean resultBean = registry.getGameResultBean();
-    ResultService.generateFinalResults(resultBean);
-    registry.getMainWindow().repaint();
+    ResultService.refreshFinalResults(resultBean);
+    registry.addSessionGame(ResultService.publishSnapshot(resultBean));
+    GameArchive archive = registry.getGameArchive();
+    if (archive != null) {
+      try {
+        int archivedGameId = archive.append(resultBean);
+        // the cost may be already entered (e.g. the user went back and forward)
+        archive.setPointCost(archivedGameId, PointValueKeyListener.parsePointCost(this.pointCost.getText()));
+      } catch (ServiceException e) {
+        logger.error("Unable to archive the finished game", e);
+      } catch (NumberFormatException e) {
+        // invalid cost is ignored (as it is by the scores table)
+      }
+    }
+    registry.getGameJournal().logFinished(resultBean);
+    registry.getMainWindow().repaintScores();
     registry.getMainWindow().enablePrintingScores(true);
     refreshTable();
-
-
   }
 
   /** @inheritDoc */
@@ -129,7 +151,14 @@ public class FinalScoresCard extends DataCard {
     PrefCountRegistry registry = PrefCountRegistry.getInstance();
     GameResultBean resultBean = registry.getGameResultBean();
     resultBean.setFinalScoresReady(false);
-    registry.getMainWindow().repaint();
+    ResultService.publishSnapshot(resultBean);
+    registry.removeLastSessionGame();
+    GameArchive archive = registry.getGameArchive();
+    if (archive != null && archive.removeLastGame(resultBean.getArchivedGameId())) {
+      resultBean.setArchivedGameId(-1);
+    }
+    registry.getGameJournal().logFinished(resultBean);
+    registry.getMainWindow().repaintScores();
     registry.getMainWindow().enablePrintingScores(false);
   }
 
@@ -180,7 +209,14 @@ public class FinalScoresCard extends DataCard {
     this.pointCost.setOpaque(false);
     costPanel.add(this.pointCost);
 
-    this.pointCost.addKeyListener(new PointValueKeyListener(this.pointCost, this.scoreTable));
+    this.pointCost.addKeyListener(new PointValueKeyListener(this.pointCost, this.scoreTable, cost -> {
+      // the money won goes to the players lifetime statistics
+      PrefCountRegistry registry = PrefCountRegistry.getInstance();
+      int archivedGameId = registry.getGameResultBean().getArchivedGameId();
+      if (registry.getGameArchive() != null && archivedGameId >= 0) {
+        registry.getGameArchive().setPointCost(archivedGameId, cost);
+      }
+    }));
     return costPanel;
   }
 }
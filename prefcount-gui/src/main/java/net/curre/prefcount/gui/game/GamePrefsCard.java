@@ -185,10 +185,11 @@ public class GamePrefsCard extends DataCard {
    */
   private JPanel createDivisibilityPanel() {
     ButtonGroup group = new ButtonGroup();
+    boolean divisibleByN = PrefCountRegistry.getInstance().getGameResultBean().isMountDivisibleByN();
     JRadioButton divisibleIgnoreButton = createRadioButton("pref.scoreboard.divisible.ignore",
-        "pref.scoreboard.divisible.ignore.tooltip", group, true);
+        "pref.scoreboard.divisible.ignore.tooltip", group, !divisibleByN);
     JRadioButton divisibleByNButton = createRadioButton("pref.scoreboard.divisible.byN",
-        "pref.scoreboard.divisible.byN.tooltip", group, false);
+        "pref.scoreboard.divisible.byN.tooltip", group, divisibleByN);
     ActionListener divisibilityListener = new DivisibleByNActionListener(divisibleByNButton);
     divisibleIgnoreButton.addActionListener(divisibilityListener);
     divisibleByNButton.addActionListener(divisibilityListener);
@@ -19,6 +19,7 @@ import info.clearthought.layout.TableLayoutConstraints;
 import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
 import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.service.ResultService;
 import net.curre.prefcount.util.LocaleExt;
 import org.apache.commons.lang3.StringUtils;
 
@@ -56,6 +57,14 @@ public class PlayerNamesCard extends DataCard {
     this.playersFields = new HashMap<>();
     this.playerNamesMap = new HashMap<>();
 
+    // Pre-filling the names of a restored game.
+    GameResultBean resultBean = PrefCountRegistry.getInstance().getGameResultBean();
+    resultBean.getPlayerStats().forEach((place, stats) -> {
+      if (stats.getPlayerName() != null) {
+        this.playerNamesMap.put(place, stats.getPlayerName());
+      }
+    });
+
     this.initializePanel();
   }
 
@@ -111,6 +120,8 @@ public class PlayerNamesCard extends DataCard {
     // Refreshing the players stats in the result bean.
     GameResultBean resultBean = PrefCountRegistry.getInstance().getGameResultBean();
     resultBean.updateNumberOfPlayers(this.playerNamesMap);
+    PrefCountRegistry.getInstance().getGameJournal().logPlayerNames(resultBean);
+    ResultService.publishSnapshot(resultBean);
   }
 
   /** @inheritDoc */
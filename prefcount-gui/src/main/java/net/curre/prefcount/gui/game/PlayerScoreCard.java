@@ -20,6 +20,7 @@ import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
 import net.curre.prefcount.bean.PlayerStatistics;
 import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.service.ResultService;
 import net.curre.prefcount.service.UiService;
 import net.curre.prefcount.util.LocaleExt;
 import org.apache.commons.lang3.StringUtils;
@@ -94,6 +95,14 @@ public class PlayerScoreCard extends DataCard {
     // Whists on players text input fields.
     this.add(this.initializeWhistsUi(), new TableLayoutConstraints(
         1, 5, 1, 5, TableLayout.CENTER, TableLayout.CENTER));
+
+    // Pre-filling the scores of a restored game.
+    PlayerStatistics stats = PrefCountRegistry.getInstance().getGameResultBean().getPlayerStats().get(playerPlace);
+    if (stats != null) {
+      setFieldValue(this.mountField, stats.getMountain());
+      setFieldValue(this.poolField, stats.getPool());
+      this.whistFields.forEach((place, field) -> setFieldValue(field, stats.getWhistsAgainstPlayer(place)));
+    }
   }
 
   /**
@@ -157,12 +166,20 @@ public class PlayerScoreCard extends DataCard {
   public void doOnForwardLeave() {
     GameResultBean resultBean = PrefCountRegistry.getInstance().getGameResultBean();
     PlayerStatistics stats = resultBean.getPlayerStats().get(this.playerPlace);
-    stats.setMountainFromField(this.mountField);
-    stats.setPoolFromField(this.poolField);
+    stats.setMountain(UiService.parseIntFromTextField(this.mountField));
+    stats.setPool(UiService.parseIntFromTextField(this.poolField));
     for (Map.Entry<Place, JTextField> entry : this.whistFields.entrySet()) {
-      stats.setWhistsForPlayerFromField(entry.getKey(), entry.getValue());
+      Integer whists = UiService.parseIntFromTextField(entry.getValue());
+      if (whists == null) {
+        stats.setWhistsAgainstPlayer(entry.getKey(), null);
+      } else {
+        // patches the computed saldos when only the whists changed
+        ResultService.updateWhist(resultBean, this.playerPlace, entry.getKey(), whists);
+      }
     }
-    PrefCountRegistry.getInstance().getMainWindow().repaint();
+    PrefCountRegistry.getInstance().getGameJournal().logPlayerScores(resultBean, this.playerPlace);
+    ResultService.publishSnapshot(resultBean);
+    PrefCountRegistry.getInstance().getMainWindow().repaintScores();
   }
 
   /** @inheritDoc */
@@ -191,6 +208,18 @@ public class PlayerScoreCard extends DataCard {
     return false;
   }
 
+  /**
+   * Sets the text of an input field to a value (unless the value is null).
+   *
+   * @param field field to set the text of.
+   * @param value value to set or null.
+   */
+  private static void setFieldValue(JTextField field, @Null Integer value) {
+    if (value != null) {
+      field.setText(String.valueOf(value));
+    }
+  }
+
   /**
    * Initializes the players scores UI (mount and pool).
    */
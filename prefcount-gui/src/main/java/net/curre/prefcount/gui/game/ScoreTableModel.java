@@ -16,12 +16,13 @@ package net.curre.prefcount.gui.game;
 
 import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
-import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.bean.ScoreSnapshot;
 import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.util.Instrumentation;
 import net.curre.prefcount.util.LocaleExt;
 
 import javax.swing.table.AbstractTableModel;
-import java.util.Map;
 
 /**
  * Represents the model for the players' score table.
@@ -43,8 +44,13 @@ public class ScoreTableModel extends AbstractTableModel {
 
   /** Refreshes table data and structure. */
   public void refreshTable() {
-    super.fireTableDataChanged();
-    super.fireTableStructureChanged();
+    final long start = Instrumentation.start();
+    try {
+      super.fireTableDataChanged();
+      super.fireTableStructureChanged();
+    } finally {
+      Instrumentation.stop(Instrumentation.REFRESH_TABLE, start);
+    }
   }
 
   /**
@@ -95,20 +101,19 @@ public class ScoreTableModel extends AbstractTableModel {
    */
   public Object getValueAt(int row, int col) {
     GameResultBean resultBean = PrefCountRegistry.getInstance().getGameResultBean();
-    if (resultBean != null && resultBean.isFinalScoresReady()) {
-      Map<Place, PlayerStatistics> stats = resultBean.getPlayerStats();
+    ScoreSnapshot snapshot = resultBean == null ? null : ResultService.publishSnapshot(resultBean);
+    if (snapshot != null && snapshot.isFinalScoresReady()) {
       Place place = Place.getPlaceForIndex(row);
-      PlayerStatistics player = stats.get(place);
       switch (col) {
         case 0:
           return LocaleExt.getString(place.shortKey);
         case 1:
-          return player.getPlayerName();
+          return snapshot.getPlayerName(place);
         case 2:
-          return player.getFinalScoreInWhists();
+          return snapshot.getFinalScoreInWhists(place);
         case 3:
           if (this.costOfOnePoint > 0.0) {
-            return ((double) player.getFinalScoreInWhists()) * this.costOfOnePoint;
+            return ((double) snapshot.getFinalScoreInWhists(place)) * this.costOfOnePoint;
           }
       }
     }
@@ -7,6 +7,7 @@
 package net.curre.prefcount.gui.menu;
 
 import javax.swing.ButtonGroup;
+import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
@@ -40,6 +41,9 @@ public class PrefCountMenuBar extends JMenuBar {
   /** Reference to the print scores menu item. */
   private JMenuItem printScoresItem;
 
+  /** Reference to the export scores menu item. */
+  private JMenuItem exportScoresItem;
+
   /**
    * Constructor that initializes necessary
    * data structures, and creates the menus.
@@ -49,12 +53,13 @@ public class PrefCountMenuBar extends JMenuBar {
   }
 
   /**
-   * Enables the print scores menu button.
+   * Enables the print and export scores menu buttons.
    *
    * @param enable true to enable the button; false if otherwise.
    */
   public void enablePrintingScores(boolean enable) {
     this.printScoresItem.setEnabled(enable);
+    this.exportScoresItem.setEnabled(enable);
   }
 
   /** Creates all necessary menus and menu items. */
@@ -93,6 +98,23 @@ public class PrefCountMenuBar extends JMenuBar {
     }
     mainMenu.add(lafMenu);
 
+    JCheckBoxMenuItem liveResizeItem = new JCheckBoxMenuItem(LocaleExt.getString("pref.mainMenu.liveResize"));
+    liveResizeItem.setSelected(settings.isLiveResize());
+    liveResizeItem.addActionListener(e -> {
+      settings.setLiveResize(liveResizeItem.isSelected());
+      registry.getSettingsService().persistSettings();
+    });
+    mainMenu.add(liveResizeItem);
+
+    JMenuItem dashboardItem = new JMenuItem(LocaleExt.getString("pref.mainMenu.dashboard"));
+    dashboardItem.addActionListener(e -> registry.getMainWindow().showDashboard());
+    mainMenu.add(dashboardItem);
+
+    JMenuItem playerStatsItem = new JMenuItem(LocaleExt.getString("pref.mainMenu.playerStats"));
+    playerStatsItem.addActionListener(e -> registry.getMainWindow().showPlayerStats());
+    playerStatsItem.setEnabled(registry.getGameArchive() != null);
+    mainMenu.add(playerStatsItem);
+
     // Create other menu items on the main menu
     mainMenu.add(createPrintMenu());
 
@@ -121,6 +143,11 @@ public class PrefCountMenuBar extends JMenuBar {
     this.printScoresItem.setEnabled(false);
     printMenu.add(this.printScoresItem);
 
+    this.exportScoresItem = new JMenuItem(LocaleExt.getString("pref.mainMenu.print.export"));
+    this.exportScoresItem.addActionListener(e -> MainService.doExport());
+    this.exportScoresItem.setEnabled(false);
+    printMenu.add(this.exportScoresItem);
+
     JMenuItem print3item = new JMenuItem(LocaleExt.getString("pref.mainMenu.print.template3"));
     print3item.addActionListener(e -> MainService.doPrintTemplate(3));
     printMenu.add(print3item);
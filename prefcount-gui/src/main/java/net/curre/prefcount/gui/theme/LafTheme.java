@@ -77,6 +77,9 @@ public abstract class LafTheme implements LafThemeInterface {
   /** Paint for the main player section division lines. */
   private static final Paint PAINT_MAIN_SECTION_LINES = new Color(120, 120, 120);
 
+  /** Compiled render state or null if it hasn't been compiled yet. */
+  private volatile RenderState renderState;
+
   /** {@inheritDoc} */
   @Override
   public boolean equals(Object other) {
@@ -182,6 +185,29 @@ public abstract class LafTheme implements LafThemeInterface {
     return PAINT_MAIN_SECTION_LINES;
   }
 
+  /**
+   * Gets the compiled render state of this theme (compiles it if needed).
+   *
+   * @return the render state.
+   */
+  public RenderState getRenderState() {
+    RenderState state = this.renderState;
+    if (state == null) {
+      state = compileRenderState();
+    }
+    return state;
+  }
+
+  /**
+   * Compiles the render state of this theme (e.g. after the theme is activated).
+   *
+   * @return the new render state.
+   */
+  public RenderState compileRenderState() {
+    this.renderState = new RenderState(this);
+    return this.renderState;
+  }
+
   /**
    * Initializes internal style values.
    * @param defaults UI defaults
@@ -0,0 +1,124 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui.theme;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Paint;
+import java.awt.Stroke;
+
+import net.curre.prefcount.service.UiService;
+
+/**
+ * Compiled render state of a LAF theme: all colors, paints, strokes and
+ * fonts used to draw the score board, including the derived ones (e.g.
+ * the board border colors). It's compiled once per theme activation, so
+ * painting the board does no theme lookups or allocations. Render
+ * states are immutable and can be shared between threads.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class RenderState {
+
+  /** Stroke of the lines crossing closed values (pool, mountain). */
+  private static final Stroke CLOSED_VALUE_STROKE = new BasicStroke(2);
+
+  /** ID of the theme this state was compiled from. */
+  public final LafThemeId lafThemeId;
+
+  /** Main background color. */
+  public final Color mainBackgroundColor;
+
+  /** Color of the board outer border. */
+  public final Color outerBorderColor;
+
+  /** Color of the board inner border. */
+  public final Color innerBorderColor;
+
+  /** Board background paint. */
+  public final Paint boardBackgroundPaint;
+
+  /** Paint of the main player sections lines. */
+  public final Paint mainSectionLinesPaint;
+
+  /** Color of the board lines. */
+  public final Color boardLineColor;
+
+  /** Stroke of the board lines. */
+  public final Stroke boardLineStroke;
+
+  /** Paint of the final score polygon background. */
+  public final Paint finalScoreBackgroundPaint;
+
+  /** Stroke of the lines crossing closed values. */
+  public final Stroke closedValueStroke;
+
+  /** Color of the players names. */
+  public final Color playerNameColor;
+
+  /** Font of the players names. */
+  public final Font playerNameFont;
+
+  /** Stroke of the players names. */
+  public final Stroke playerNameStroke;
+
+  /** Color of the players scores. */
+  public final Color playerScoreColor;
+
+  /** Font of the players scores. */
+  public final Font playerScoreFont;
+
+  /** Stroke of the players scores. */
+  public final Stroke playerScoreStroke;
+
+  /** Color of the players totals. */
+  public final Color playerTotalsColor;
+
+  /** Font of the players totals. */
+  public final Font playerTotalsFont;
+
+  /** Stroke of the players totals. */
+  public final Stroke playerTotalsStroke;
+
+  /**
+   * Compiles the render state of a theme.
+   *
+   * @param theme LAF theme.
+   */
+  RenderState(LafTheme theme) {
+    this.lafThemeId = theme.getId();
+    this.mainBackgroundColor = theme.getMainBackgroundColor();
+    this.outerBorderColor = UiService.createDarkerColor(this.mainBackgroundColor, 20);
+    this.innerBorderColor = UiService.createDarkerColor(this.outerBorderColor, 20);
+    this.boardBackgroundPaint = theme.getBoardBackgroundPaint();
+    this.mainSectionLinesPaint = theme.getMainSectionLinesPain();
+    this.boardLineColor = theme.getBoardLineColor();
+    this.boardLineStroke = theme.getBoardLineStroke();
+    this.finalScoreBackgroundPaint = theme.getFinalScoreBackgroundPaint();
+    this.closedValueStroke = CLOSED_VALUE_STROKE;
+    this.playerNameColor = theme.getPlayerNameColor();
+    this.playerNameFont = theme.getPlayerNameFont();
+    this.playerNameStroke = theme.getPlayerNameStroke();
+    this.playerScoreColor = theme.getPlayerScoreColor();
+    this.playerScoreFont = theme.getPlayerScoreFont();
+    this.playerScoreStroke = theme.getPlayerScoreStroke();
+    this.playerTotalsColor = theme.getPlayerTotalsColor();
+    this.playerTotalsFont = theme.getPlayerTotalsFont();
+    this.playerTotalsStroke = theme.getPlayerTotalsStroke();
+  }
+}
@@ -150,4 +150,56 @@ public enum ScoreItem {
         throw new IllegalArgumentException("Unable to determine whist fix item for place: " + whist + "!");
     }
   }
+
+  /**
+   * Determines the whist score item for the given place.
+   *
+   * @param whist whist place.
+   * @return whist score item that corresponds to the given place.
+   * @throws IllegalArgumentException when the passed argument is not supported.
+   */
+  public static ScoreItem getWhistForPlace(Place whist) {
+    switch (whist) {
+      case EAST:
+        return WHIST_EAST;
+
+      case SOUTH:
+        return WHIST_SOUTH;
+
+      case WEST:
+        return WHIST_WEST;
+
+      case NORTH:
+        return WHIST_NORTH;
+
+      default:
+        throw new IllegalArgumentException("Unable to determine whist item for place: " + whist + "!");
+    }
+  }
+
+  /**
+   * Determines the whist saldo score item for the given place.
+   *
+   * @param whist whist place.
+   * @return whist saldo score item that corresponds to the given place.
+   * @throws IllegalArgumentException when the passed argument is not supported.
+   */
+  public static ScoreItem getWhistSaldoForPlace(Place whist) {
+    switch (whist) {
+      case EAST:
+        return WHIST_EAST_SALDO;
+
+      case SOUTH:
+        return WHIST_SOUTH_SALDO;
+
+      case WEST:
+        return WHIST_WEST_SALDO;
+
+      case NORTH:
+        return WHIST_NORTH_SALDO;
+
+      default:
+        throw new IllegalArgumentException("Unable to determine whist saldo item for place: " + whist + "!");
+    }
+  }
 }
@@ -30,6 +30,8 @@ import net.curre.prefcount.gui.theme.FlatMacDarkTheme;
 import net.curre.prefcount.gui.theme.LafTheme;
 import net.curre.prefcount.gui.theme.LafThemeId;
 import net.curre.prefcount.gui.theme.NimbusTheme;
+import net.curre.prefcount.gui.theme.RenderState;
+import net.curre.prefcount.util.Instrumentation;
 import net.curre.prefcount.util.PlatformType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -62,6 +64,12 @@ public class LafThemeService {
   /** Current theme ID. */
   private LafThemeId currentLafThemeId;
 
+  /** Current theme or null if it hasn't been looked up yet. */
+  private volatile LafTheme currentLafTheme;
+
+  /** Render state of the current theme or null if it hasn't been compiled yet. */
+  private volatile RenderState currentRenderState;
+
   /** Private constructor. */
   public LafThemeService() {
     this.currentLafThemeId = DEFAULT_LAF_THEME_ID;
@@ -114,14 +122,31 @@ public class LafThemeService {
    * @return current LAF theme
    */
   public LafTheme getCurrentLafTheme() {
-    try {
-      return findLafThemeById(this.currentLafThemeId);
-    } catch (ServiceException e) {
-      // This should never occur, only at development time.
-      logger.fatal("Unable to set LAF theme: {}", this.currentLafThemeId, e);
-      System.exit(1);
+    LafTheme theme = this.currentLafTheme;
+    if (theme == null) {
+      try {
+        theme = findLafThemeById(this.currentLafThemeId);
+        this.currentLafTheme = theme;
+      } catch (ServiceException e) {
+        // This should never occur, only at development time.
+        logger.fatal("Unable to set LAF theme: {}", this.currentLafThemeId, e);
+        System.exit(1);
+      }
+    }
+    return theme;
+  }
+
+  /**
+   * Gets the compiled render state of the current LAF theme.
+   * @return current render state
+   */
+  public RenderState getCurrentRenderState() {
+    RenderState state = this.currentRenderState;
+    if (state == null) {
+      state = getCurrentLafTheme().getRenderState();
+      this.currentRenderState = state;
     }
-    return null;
+    return state;
   }
 
   /**
@@ -138,11 +163,15 @@ public class LafThemeService {
    * @param lafThemeId Theme ID to set the LaF to.
    */
   public void activateLafTheme(final LafThemeId lafThemeId) {
+    final long start = Instrumentation.start();
     JFrame.setDefaultLookAndFeelDecorated(true);
     try {
       logger.info("Activating LAF theme {}", lafThemeId);
-      if (findLafThemeById(lafThemeId).activateTheme()) {
+      LafTheme theme = findLafThemeById(lafThemeId);
+      if (theme.activateTheme()) {
         this.currentLafThemeId = lafThemeId;
+        this.currentLafTheme = theme;
+        this.currentRenderState = theme.compileRenderState();
 
         // Updating the UI of registered components (fyi, Frame.getFrames doesn't have them all).
         for (Window component : this.componentsRegistry) {
@@ -154,6 +183,8 @@ public class LafThemeService {
       }
     } catch (Exception e) {
       logger.warn("Unable to set LAF theme: {}", lafThemeId, e);
+    } finally {
+      Instrumentation.stop(Instrumentation.ACTIVATE_THEME, start);
     }
   }
 
@@ -0,0 +1,201 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.awt.print.PrinterException;
+import java.awt.print.PrinterJob;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.SwingWorker;
+import javax.swing.filechooser.FileNameExtensionFilter;
+
+import net.curre.prefcount.PrefCountRegistry;
+import net.curre.prefcount.bean.Settings;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.MainWindow;
+import net.curre.prefcount.gui.ScoreBoardRenderer;
+import net.curre.prefcount.gui.ScoreSheetPrinter;
+import net.curre.prefcount.gui.Template;
+import net.curre.prefcount.gui.theme.PrintTheme;
+import net.curre.prefcount.util.LocaleExt;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This service bean is responsible for
+ * handling various general tasks such as quitting, printing, etc.
+ * <p/>
+ * Created date: Jun 15, 2008
+ *
+ * @author Yevgeny Nyden
+ */
+public class MainService {
+
+  /** Number of games in a row of a printed sheet. */
+  private static final int SHEET_COLUMNS = 2;
+
+  /** Number of game rows on a printed sheet. */
+  private static final int SHEET_ROWS = 2;
+
+  /** Size of the exported SVG images. */
+  private static final int EXPORT_SVG_SIZE = 600;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(MainService.class.getName());
+
+  /** Private constructor to prevent instantiation. */
+  private MainService() {
+  }
+
+  /**
+   * Sends the game results to the OS printing system; when several games
+   * were finished in this session, all of them are printed as one job
+   * (<code>SHEET_COLUMNS</code> x <code>SHEET_ROWS</code> games per sheet).
+   */
+  public static void doPrint() {
+    PrefCountRegistry registry = PrefCountRegistry.getInstance();
+    MainWindow window = registry.getMainWindow();
+    PrinterJob printJob = PrinterJob.getPrinterJob();
+    List<ScoreSnapshot> games = registry.getSessionGames();
+    if (games.size() > 1) {
+      printJob.setPageable(new ScoreSheetPrinter(games, printJob.defaultPage(), new PrintTheme(),
+                                                 SHEET_COLUMNS, SHEET_ROWS));
+    } else {
+      printJob.setPrintable(window);
+    }
+    if (printJob.printDialog()) {
+      try {
+        printJob.print();
+      } catch (PrinterException e) {
+        logger.error("Error while printing", e);
+      }
+    }
+  }
+
+  /**
+   * Sends the score board template to the OS printing system.
+   *
+   * @param numberOfPlayers number of players for the template.
+   */
+  public static void doPrintTemplate(int numberOfPlayers) {
+    Template template = new Template(numberOfPlayers);
+    PrinterJob printJob = PrinterJob.getPrinterJob();
+    printJob.setPrintable(template);
+    if (printJob.printDialog()) {
+      try {
+        printJob.print();
+      } catch (PrinterException e) {
+        logger.error("Error while printing template", e);
+      }
+    }
+  }
+
+  /**
+   * Exports the game scores to a PDF document or to an SVG image (depending
+   * on the extension of the chosen file). A PDF document has a page for every
+   * game finished in this session (and for the current game if it's not
+   * finished yet); an SVG image shows the current game. The file is written
+   * on a background thread (the games snapshots are immutable); an error
+   * dialog is shown if the export fails.
+   */
+  public static void doExport() {
+    PrefCountRegistry registry = PrefCountRegistry.getInstance();
+    JFileChooser chooser = new JFileChooser();
+    FileNameExtensionFilter pdfFilter = new FileNameExtensionFilter("PDF (*.pdf)", "pdf");
+    chooser.addChoosableFileFilter(pdfFilter);
+    chooser.addChoosableFileFilter(new FileNameExtensionFilter("SVG (*.svg)", "svg"));
+    chooser.setFileFilter(pdfFilter);
+    if (chooser.showSaveDialog(registry.getMainWindow()) != JFileChooser.APPROVE_OPTION) {
+      return;
+    }
+    File file = chooser.getSelectedFile();
+    final String name = file.getName().toLowerCase();
+    final boolean svg = name.endsWith(".svg") ||
+                        (!name.endsWith(".pdf") && chooser.getFileFilter() != pdfFilter &&
+                         chooser.getFileFilter() instanceof FileNameExtensionFilter);
+    if (!name.endsWith(".pdf") && !name.endsWith(".svg")) {
+      file = new File(file.getParentFile(), file.getName() + (svg ? ".svg" : ".pdf"));
+    }
+    final ScoreSnapshot snapshot = ResultService.publishSnapshot(registry.getGameResultBean());
+    final List<ScoreSnapshot> games = new ArrayList<>(registry.getSessionGames());
+    if (!snapshot.isFinalScoresReady()) {
+      games.add(snapshot);
+    }
+    final PrintTheme theme = new PrintTheme();
+    final File exportFile = file;
+    new SwingWorker<Void, Void>() {
+      @Override
+      protected Void doInBackground() throws IOException {
+        if (svg) {
+          ScoreBoardRenderer.writeSvg(snapshot, theme, EXPORT_SVG_SIZE, EXPORT_SVG_SIZE,
+                                      new FileOutputStream(exportFile));
+        } else {
+          ScoreBoardRenderer.writePdf(games, theme, new FileOutputStream(exportFile));
+        }
+        return null;
+      }
+
+      @Override
+      protected void done() {
+        try {
+          get();
+          logger.info("Exported {} games to {}", svg ? 1 : games.size(), exportFile);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          logger.error("Error while exporting scores to {}", exportFile, e.getCause());
+          final String reason = e.getCause().getLocalizedMessage();
+          JOptionPane.showMessageDialog(registry.getMainWindow(),
+                                        LocaleExt.getString("pref.export.error.message", exportFile.getPath(),
+                                                            reason == null ? e.getCause().toString() : reason),
+                                        LocaleExt.getString("pref.export.error.title"),
+                                        JOptionPane.ERROR_MESSAGE);
+        }
+      }
+    }.execute();
+  }
+
+  /** Disposes all frames and quits the application. */
+  public static void quitApp() {
+    PrefCountRegistry registry = PrefCountRegistry.getInstance();
+    MainWindow window = registry.getMainWindow();
+
+    // Storing the main window and the player dialog size settings,
+    // then, disposing the components.
+    Settings settings = registry.getSettingsService().getSettings();
+    settings.setMainWindowHeight(window.getHeight());
+    settings.setMainWindowWidth(window.getWidth());
+
+    registry.getSettingsService().persistSettings();
+    if (!registry.getSettingsService().flush(SettingsService.FLUSH_TIMEOUT)) {
+      logger.warn("Unable to save the settings before quitting");
+    }
+    registry.getGameJournal().close();
+    if (registry.getGameArchive() != null) {
+      registry.getGameArchive().close();
+    }
+
+    window.setVisible(false);
+    window.dispose();
+
+    System.exit(0);
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+
+import net.curre.prefcount.PrefCountRegistry;
+import net.curre.prefcount.bean.Settings;
+import net.curre.prefcount.gui.theme.LafThemeId;
+import net.curre.prefcount.gui.type.PrefType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.validation.constraints.NotNull;
+
+import static net.curre.prefcount.bean.Settings.*;
+import static net.curre.prefcount.service.LafThemeService.DEFAULT_LAF_THEME_ID;
+
+/**
+ * Encodes and decodes the application settings in a flat, versioned
+ * <code>key=value</code> format (one setting per line, UTF-8):
+ * <pre>
+ *   # PrefCount settings
+ *   version=1
+ *   mainWindowWidth=520
+ *   lafThemeId=DEFAULT
+ *   ...
+ * </pre>
+ * The first setting is always the format version; unknown keys are
+ * ignored and missing or invalid values are set to the defaults, so
+ * adding a setting doesn't need a new version. A new version is only
+ * needed when a setting is renamed or its meaning changes, in which
+ * case its migration goes to <code>migrate</code>. Settings saved by
+ * the older versions with Java serialization (format version 0) are
+ * still read and migrated.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public final class SettingsCodec {
+
+  /** Current format version. */
+  public static final int CURRENT_VERSION = 1;
+
+  /** Version of the settings saved with Java serialization. */
+  static final int SERIALIZED_VERSION = 0;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(SettingsCodec.class.getName());
+
+  /** Header comment of the settings file. */
+  private static final String HEADER = "# PrefCount settings";
+
+  /** Key of the format version. */
+  private static final String KEY_VERSION = "version";
+
+  /** Key of the main window width. */
+  private static final String KEY_WINDOW_WIDTH = "mainWindowWidth";
+
+  /** Key of the main window height. */
+  private static final String KEY_WINDOW_HEIGHT = "mainWindowHeight";
+
+  /** Key of the LAF theme ID. */
+  private static final String KEY_LAF_THEME = "lafThemeId";
+
+  /** Key of the locale ID. */
+  private static final String KEY_LOCALE = "localeId";
+
+  /** Key of the Preferance type. */
+  private static final String KEY_PREF_TYPE = "prefType";
+
+  /** Key of the number of players. */
+  private static final String KEY_PLAYERS_NUMBER = "numberOfPlayers";
+
+  /** Key of the live resize option. */
+  private static final String KEY_LIVE_RESIZE = "liveResize";
+
+  /** First bytes of a Java serialization stream. */
+  private static final int SERIALIZATION_MAGIC = 0xACED;
+
+  /** Private constructor. */
+  private SettingsCodec() {
+  }
+
+  /**
+   * Encodes the settings in the current format.
+   *
+   * @param settings settings to encode.
+   * @return the encoded settings.
+   */
+  public static byte[] encode(@NotNull Settings settings) {
+    StringBuilder buffer = new StringBuilder(256);
+    buffer.append(HEADER).append('\n');
+    append(buffer, KEY_VERSION, String.valueOf(CURRENT_VERSION));
+    append(buffer, KEY_WINDOW_WIDTH, String.valueOf(settings.getMainWindowWidth()));
+    append(buffer, KEY_WINDOW_HEIGHT, String.valueOf(settings.getMainWindowHeight()));
+    append(buffer, KEY_LAF_THEME, settings.getLafThemeId().name());
+    append(buffer, KEY_LOCALE, settings.getLocaleId());
+    append(buffer, KEY_PREF_TYPE, settings.getPrefType().name());
+    append(buffer, KEY_PLAYERS_NUMBER, String.valueOf(settings.getNumberOfPlayers()));
+    append(buffer, KEY_LIVE_RESIZE, String.valueOf(settings.isLiveResize()));
+    return buffer.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Decodes settings of any supported format version.
+   *
+   * @param data encoded settings.
+   * @return the decoded settings (all values are valid).
+   * @throws ServiceException if the data are not settings.
+   */
+  public static Settings decode(@NotNull byte[] data) throws ServiceException {
+    if (data.length >= 2 && ((data[0] & 0xFF) << 8 | (data[1] & 0xFF)) == SERIALIZATION_MAGIC) {
+      return decodeSerialized(data);
+    }
+
+    final String text = new String(data, StandardCharsets.UTF_8);
+    final Settings settings = new Settings();
+    int version = -1;
+    int start = 0;
+    while (start < text.length()) {
+      int end = text.indexOf('\n', start);
+      if (end < 0) {
+        end = text.length();
+      }
+      final int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+      final int eq = text.indexOf('=', start);
+      if (lineEnd > start && text.charAt(start) != '#' && eq > start && eq < lineEnd) {
+        final String key = text.substring(start, eq).trim();
+        final String value = text.substring(eq + 1, lineEnd).trim();
+        if (version < 0) {
+          if (!KEY_VERSION.equals(key)) {
+            throw new ServiceException("Settings format version is missing");
+          }
+          version = parseInt(value, -1);
+          if (version < 1) {
+            throw new ServiceException("Invalid settings format version: " + value);
+          }
+          if (version > CURRENT_VERSION) {
+            logger.warn("Settings were saved by a newer version ({}), reading the known settings only", version);
+          }
+        } else {
+          setValue(settings, migrate(version, key), value);
+        }
+      }
+      start = end + 1;
+    }
+    if (version < 0) {
+      throw new ServiceException("Settings format version is missing");
+    }
+    return settings;
+  }
+
+  /**
+   * Migrates a setting key of an older format version to the current one.
+   * There is only one format version so far.
+   *
+   * @param version format version of the settings.
+   * @param key     setting key.
+   * @return the current setting key.
+   */
+  static String migrate(int version, String key) {
+    return key;
+  }
+
+  /**
+   * Sets a setting value (invalid values are ignored, so the default stays).
+   *
+   * @param settings settings to update.
+   * @param key      setting key (unknown keys are ignored).
+   * @param value    setting value.
+   */
+  private static void setValue(Settings settings, String key, String value) {
+    switch (key) {
+      case KEY_WINDOW_WIDTH:
+        settings.setMainWindowWidth(parseInt(value, DEFAULT_MAIN_FRAME_WIDTH));
+        break;
+      case KEY_WINDOW_HEIGHT:
+        settings.setMainWindowHeight(parseInt(value, DEFAULT_MAIN_FRAME_HEIGHT));
+        break;
+      case KEY_LAF_THEME:
+        for (LafThemeId id : LafThemeId.values()) {
+          if (id.name().equals(value)) {
+            settings.setLafThemeId(id);
+          }
+        }
+        break;
+      case KEY_LOCALE:
+        if (!value.isEmpty()) {
+          settings.setLocaleId(value);
+        }
+        break;
+      case KEY_PREF_TYPE:
+        for (PrefType type : PrefType.values()) {
+          if (type.name().equals(value)) {
+            settings.setPrefType(type);
+          }
+        }
+        break;
+      case KEY_PLAYERS_NUMBER:
+        final int number = parseInt(value, DEFAULT_PLAYERS_NUMBER);
+        settings.setNumberOfPlayers(number == 3 || number == 4 ? number : DEFAULT_PLAYERS_NUMBER);
+        break;
+      case KEY_LIVE_RESIZE:
+        if ("true".equals(value) || "false".equals(value)) {
+          settings.setLiveResize("true".equals(value));
+        }
+        break;
+      default:
+        logger.debug("Ignoring unknown setting {}", key);
+    }
+  }
+
+  /**
+   * Decodes settings saved with Java serialization by the older versions
+   * and sets the settings added since to the defaults.
+   *
+   * @param data serialized settings.
+   * @return the decoded settings.
+   * @throws ServiceException if the settings can't be deserialized.
+   */
+  private static Settings decodeSerialized(byte[] data) throws ServiceException {
+    try (ObjectInputStream oStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+      final Settings settings = (Settings) oStream.readObject();
+      if (settings.getLafThemeId() == null) {
+        settings.setLafThemeId(DEFAULT_LAF_THEME_ID);
+      }
+      if (settings.getLocaleId() == null) {
+        settings.setLocaleId(PrefCountRegistry.DEFAULT_LOCALE_ID);
+      }
+      if (settings.getPrefType() == null) {
+        settings.setPrefType(DEFAULT_PREF_TYPE);
+      }
+      if (settings.getNumberOfPlayers() != 3 && settings.getNumberOfPlayers() != 4) {
+        settings.setNumberOfPlayers(DEFAULT_PLAYERS_NUMBER);
+      }
+      logger.info("Migrating settings from format version {}", SERIALIZED_VERSION);
+      return settings;
+    } catch (Exception e) {
+      throw new ServiceException("Unable to deserialize settings", e);
+    }
+  }
+
+  /**
+   * Appends a setting line.
+   *
+   * @param buffer buffer to append to.
+   * @param key    setting key.
+   * @param value  setting value.
+   */
+  private static void append(StringBuilder buffer, String key, String value) {
+    buffer.append(key).append('=').append(value).append('\n');
+  }
+
+  /**
+   * Parses a non-negative decimal integer.
+   *
+   * @param value        string to parse.
+   * @param defaultValue value to return if the string is not a valid number.
+   * @return the parsed number or the default value.
+   */
+  private static int parseInt(String value, int defaultValue) {
+    if (value.isEmpty() || value.length() > 9) {
+      return defaultValue;
+    }
+    int result = 0;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return defaultValue;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+}
@@ -0,0 +1,346 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.curre.prefcount.bean.Settings;
+import net.curre.prefcount.util.Instrumentation;
+import net.curre.prefcount.util.LatencyHistogram;
+import net.curre.prefcount.util.PlatformType;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+
+/**
+ * A service to assists with loading and saving application settings.
+ * Settings are written by a background worker: the changes made within
+ * <code>WRITE_DELAY</code> are coalesced into one write, and every write
+ * goes to a temp file that atomically replaces the settings file, so the
+ * settings file is never left half written.
+ * <p/>
+ * Created date: Jun 22, 2007
+ *
+ * @author Yevgeny Nyden
+ */
+public class SettingsService {
+
+  /** Name of the temp settings file to store some info between the games. */
+  private static final String SETTINGS_FILENAME = "prefcount-settings.cfg";
+
+  /** Name of the settings file saved by the older versions (with Java serialization). */
+  private static final String LEGACY_SETTINGS_FILENAME = "prefcount-settings.ser";
+
+  /** Directory name where the settings are going to be saved. */
+  private static final String SETTINGS_DIR_NAME = "PrefCount";
+
+  /** Delay (in milliseconds) the settings changes are coalesced for before they are written. */
+  public static final long WRITE_DELAY = 500;
+
+  /** Max time (in milliseconds) to wait for the pending settings to be written on exit. */
+  public static final long FLUSH_TIMEOUT = 2000;
+
+  /** Max delay (in milliseconds) before a failed settings write is retried. */
+  public static final long MAX_RETRY_DELAY = 30000;
+
+  /** Time (in milliseconds) the idle writer thread is kept alive. */
+  private static final long WRITER_KEEP_ALIVE = 5000;
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(SettingsService.class.getName());
+
+  /** Reference to the settings object. */
+  private final Settings settings;
+
+  /** Absolute path to the settings file. */
+  private final String settingsFilePath;
+
+  /** Writer of the settings (its thread is started on demand). */
+  private final ScheduledThreadPoolExecutor writer = createWriter();
+
+  /** Encoded settings waiting to be written or null if there are none. */
+  private final AtomicReference<byte[]> pending = new AtomicReference<>();
+
+  /** Number of the persist requests. */
+  private final AtomicLong requestCount = new AtomicLong();
+
+  /** Number of the settings file writes. */
+  private final AtomicLong writeCount = new AtomicLong();
+
+  /** Number of the failed settings file writes. */
+  private final AtomicLong failureCount = new AtomicLong();
+
+  /** Number of the consecutive failed writes (used on the writer thread only). */
+  private int retryCount;
+
+  /**
+   * Ctor.
+   * <br>
+   * IMPORTANT: here, the settings will be loaded from disk and the settings
+   * instance will be set. When there is no settings file in the default location
+   * yet, the settings saved by the older versions are loaded and migrated.
+   * @param settingsFilePath path to the settings file (for test) or null if default should be used
+   */
+  public SettingsService(@Null String settingsFilePath) {
+    if (settingsFilePath == null) {
+      final String dirPath = getVerifiedSettingsDirectoryPath();
+      settingsFilePath = dirPath + File.separatorChar + SETTINGS_FILENAME;
+      final File legacyFile = new File(dirPath, LEGACY_SETTINGS_FILENAME);
+      if (!new File(settingsFilePath).exists() && legacyFile.exists()) {
+        this.settingsFilePath = settingsFilePath;
+        this.settings = loadSettings(legacyFile.getPath());
+        persistSettings();
+        return;
+      }
+    }
+    this.settingsFilePath = settingsFilePath;
+    this.settings = loadSettings(settingsFilePath);
+  }
+
+  /**
+   * Returns application settings (current settings).
+   * @return Reference to the application settings
+   */
+  public Settings getSettings() {
+    return this.settings;
+  }
+
+  /**
+   * Persists the current settings. The settings are encoded on the calling
+   * thread and written in the background after <code>WRITE_DELAY</code>
+   * (together with any changes made in the meantime).
+   */
+  public void persistSettings() {
+    final long start = Instrumentation.start();
+    try {
+      this.requestCount.incrementAndGet();
+      if (this.pending.getAndSet(SettingsCodec.encode(this.settings)) == null) {
+        this.writer.schedule(this::writePending, WRITE_DELAY, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      Instrumentation.stop(Instrumentation.PERSIST_SETTINGS, start);
+    }
+  }
+
+  /**
+   * Writes the pending settings right away and waits for the write to finish.
+   *
+   * @param timeout max time to wait (in milliseconds).
+   * @return true if there are no pending settings left; false if the write
+   *         failed or didn't finish in time.
+   */
+  public boolean flush(long timeout) {
+    if (this.pending.get() == null) {
+      return true;
+    }
+    Future<?> future = this.writer.submit(this::writePending);
+    try {
+      future.get(timeout, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      logger.warn("Settings were not written in {}ms", timeout);
+      return false;
+    }
+    return this.pending.get() == null;
+  }
+
+  /**
+   * Gets the number of the persist requests.
+   *
+   * @return number of requests.
+   */
+  public long getRequestCount() {
+    return this.requestCount.get();
+  }
+
+  /**
+   * Gets the number of the settings file writes (several requests may be coalesced into one write).
+   *
+   * @return number of writes.
+   */
+  public long getWriteCount() {
+    return this.writeCount.get();
+  }
+
+  /**
+   * Gets the number of the failed settings file writes.
+   *
+   * @return number of failures.
+   */
+  public long getFailureCount() {
+    return this.failureCount.get();
+  }
+
+  /**
+   * Gets the latency histogram of the settings file writes (also published via JMX).
+   *
+   * @return the write latency histogram.
+   */
+  public static LatencyHistogram getWriteLatency() {
+    return Instrumentation.getHistogram(Instrumentation.WRITE_SETTINGS);
+  }
+
+  /**
+   * Returns a platform specific absolute path to the game settings directory.
+   * All custom directories in the path that don't exist, will be created.
+   * @return absolute path to the game settings directory
+   */
+  public static @NotNull String getVerifiedSettingsDirectoryPath() {
+    StringBuilder path = new StringBuilder(System.getProperties().getProperty("user.home"));
+    switch (PlatformType.getPlatformType()) {
+      case MAC_OS:
+        path.append(File.separatorChar).append("Library").
+            append(File.separatorChar).append("Application Support");
+        break;
+      case WINDOWS:
+        path.append(File.separatorChar).append("AppData").
+            append(File.separatorChar).append("Local");
+        break;
+      default:
+        path.append(File.separatorChar).append("temp");
+    }
+    path.append(File.separatorChar).append(SETTINGS_DIR_NAME);
+    createDirIfDoesntExist(path);
+    return path.toString();
+  }
+
+  /**
+   * Method to load settings stored on disk (the whole file is read at once
+   * and decoded by <code>SettingsCodec</code>).
+   * @param settingsFilePath path to the settings file
+   * @return Settings, loaded from the settings file,
+   *         or a new <code>Settings</code> object if no settings file is found
+   */
+  private static Settings loadSettings(String settingsFilePath) {
+    // Try loading the settings file.
+    final long start = Instrumentation.start();
+    try {
+      Path path = Paths.get(settingsFilePath);
+      return SettingsCodec.decode(Files.readAllBytes(path));
+    } catch (NoSuchFileException e) {
+      logger.info("No settings file found, using the default settings");
+    } catch (Exception e) {
+      logger.log(Level.WARN, "Unable to load a settings file. Creating a default one.", e);
+    } finally {
+      Instrumentation.stop(Instrumentation.LOAD_SETTINGS, start);
+    }
+    return new Settings();
+  }
+
+  /**
+   * Writes the pending settings (if any); runs on the writer thread.
+   * If the write fails, the settings are kept pending and the write is
+   * retried with a growing delay (unless newer settings already scheduled one).
+   */
+  private void writePending() {
+    final byte[] data = this.pending.getAndSet(null);
+    if (data == null) {
+      return;
+    }
+    final long start = System.nanoTime();
+    try {
+      writeAtomically(Paths.get(this.settingsFilePath), data);
+      this.writeCount.incrementAndGet();
+      this.retryCount = 0;
+    } catch (Exception e) {
+      this.failureCount.incrementAndGet();
+      logger.log(Level.WARN, "Unable to save the settings!", e);
+      // if newer settings are pending, their write is already scheduled
+      if (this.pending.compareAndSet(null, data)) {
+        final long delay = Math.min(WRITE_DELAY << Math.min(this.retryCount, 6), MAX_RETRY_DELAY);
+        this.retryCount++;
+        this.writer.schedule(this::writePending, delay, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      getWriteLatency().record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Writes data to a temp file next to the target file, forces it to the disk
+   * and then replaces the target file with it.
+   *
+   * @param target file to write.
+   * @param data   data to write.
+   * @throws IOException on a write error.
+   */
+  private static void writeAtomically(Path target, byte[] data) throws IOException {
+    final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.wrap(data);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Creates the settings writer; its daemon thread exits when idle.
+   *
+   * @return the writer.
+   */
+  private static ScheduledThreadPoolExecutor createWriter() {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread thread = new Thread(r, "prefcount-settings-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setKeepAliveTime(WRITER_KEEP_ALIVE, TimeUnit.MILLISECONDS);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Creates a directory if it doesn't exist (only the last one in the provided path).
+   * @param path Path to the directory
+   */
+  private static void createDirIfDoesntExist(@NotNull StringBuilder path) {
+    File dir = new File(path.toString());
+    if (!dir.exists()) {
+      if (!dir.mkdir()) {
+        logger.warn("Unable to create a directory: {}", path);
+      }
+    }
+  }
+}
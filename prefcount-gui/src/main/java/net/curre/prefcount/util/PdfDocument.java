@@ -0,0 +1,305 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import javax.validation.constraints.Null;
+
+/**
+ * Lightweight streaming PDF (1.4) document. The content of every page is
+ * written as soon as it's drawn; only the object offsets and the page
+ * object ids are kept until the document is closed (to write the page
+ * tree and the cross-reference table), so a document with many pages
+ * is written in (almost) constant memory.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class PdfDocument extends VectorDocument {
+
+  /** Id of the catalog object. */
+  private static final int CATALOG_ID = 1;
+
+  /** Id of the page tree object. */
+  private static final int PAGES_ID = 2;
+
+  /** Object offsets (indexed by the object id). */
+  private long[] offsets;
+
+  /** Id of the next object. */
+  private int nextId;
+
+  /** Ids of the page objects. */
+  private int[] pageIds;
+
+  /** Width of the current page. */
+  private double pageWidth;
+
+  /** Height of the current page. */
+  private double pageHeight;
+
+  /** Id of the current page's content stream object. */
+  private int contentId;
+
+  /** Offset of the current page's content stream data. */
+  private long contentStart;
+
+  /** Alpha values used on the current page (index is the graphics state number). */
+  private float[] alphas;
+
+  /** Number of alpha values used on the current page. */
+  private int alphasCount;
+
+  /**
+   * Constructor.
+   *
+   * @param out output stream to write the document to.
+   */
+  public PdfDocument(OutputStream out) {
+    super(out);
+    this.offsets = new long[16];
+    this.nextId = PAGES_ID + 1;
+    this.pageIds = new int[16];
+    this.alphas = new float[4];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void startPage(double width, double height) throws IOException {
+    if (getPosition() == 0) {
+      this.buffer.append("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n");
+      flushBuffer();
+    }
+    this.pageWidth = width;
+    this.pageHeight = height;
+    this.alphasCount = 0;
+    this.contentId = this.nextId++;
+    startObject(this.contentId);
+    this.buffer.append("<< /Length ").append(this.contentId + 1).append(" 0 R >>\nstream\n");
+    flushBuffer();
+    this.contentStart = getPosition();
+
+    // flips the Y axis, so the page coordinates are the same as in Java 2D
+    this.buffer.append("1 0 0 -1 0 ");
+    appendNumber(height).append(" cm\n");
+    flushBuffer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void writePath(Shape path, boolean fill, Color color,
+                           @Null BasicStroke stroke, @Null Shape clip) throws IOException {
+    this.buffer.append("q\n");
+    if (clip != null) {
+      appendPath(clip, "m", "l", "c", "h", false);
+      this.buffer.append(isEvenOdd(clip) ? "W* n\n" : "W n\n");
+    }
+    if (color.getAlpha() < 255) {
+      this.buffer.append("/GS").append(getAlphaState(color.getAlpha() / 255f)).append(" gs\n");
+    }
+    appendColor(color);
+    if (fill) {
+      this.buffer.append(" rg\n");
+      appendPath(path, "m", "l", "c", "h", false);
+      this.buffer.append(isEvenOdd(path) ? "f*\n" : "f\n");
+    } else {
+      this.buffer.append(" RG\n");
+      appendNumber(stroke.getLineWidth()).append(" w ");
+      this.buffer.append(stroke.getEndCap() == BasicStroke.CAP_BUTT ? 0 :
+                         stroke.getEndCap() == BasicStroke.CAP_ROUND ? 1 : 2).append(" J ");
+      this.buffer.append(stroke.getLineJoin() == BasicStroke.JOIN_MITER ? 0 :
+                         stroke.getLineJoin() == BasicStroke.JOIN_ROUND ? 1 : 2).append(" j ");
+      final float[] dash = stroke.getDashArray();
+      if (dash != null) {
+        this.buffer.append('[');
+        for (int i = 0; i < dash.length; i++) {
+          if (i > 0) {
+            this.buffer.append(' ');
+          }
+          appendNumber(dash[i]);
+        }
+        this.buffer.append("] ");
+        appendNumber(stroke.getDashPhase()).append(" d ");
+      }
+      this.buffer.append('\n');
+      appendPath(path, "m", "l", "c", "h", false);
+      this.buffer.append("S\n");
+    }
+    this.buffer.append("Q\n");
+    flushBuffer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void finishPage() throws IOException {
+    final long length = getPosition() - this.contentStart;
+    this.buffer.append("endstream\nendobj\n");
+    flushBuffer();
+
+    final int lengthId = this.nextId++;
+    startObject(lengthId);
+    this.buffer.append(length).append("\nendobj\n");
+    flushBuffer();
+
+    final int pageId = this.nextId++;
+    startObject(pageId);
+    this.buffer.append("<< /Type /Page /Parent ").append(PAGES_ID).append(" 0 R /MediaBox [0 0 ");
+    appendNumber(this.pageWidth).append(' ');
+    appendNumber(this.pageHeight).append("] /Contents ").append(this.contentId).append(" 0 R /Resources << ");
+    if (this.alphasCount > 0) {
+      this.buffer.append("/ExtGState << ");
+      for (int i = 0; i < this.alphasCount; i++) {
+        this.buffer.append("/GS").append(i).append(" << /ca ");
+        appendNumber(this.alphas[i]).append(" /CA ");
+        appendNumber(this.alphas[i]).append(" >> ");
+      }
+      this.buffer.append(">> ");
+    }
+    this.buffer.append(">> >>\nendobj\n");
+    flushBuffer();
+
+    if (getPageCount() == this.pageIds.length) {
+      this.pageIds = Arrays.copyOf(this.pageIds, this.pageIds.length * 2);
+    }
+    this.pageIds[getPageCount()] = pageId;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void finishDocument() throws IOException {
+    if (getPageCount() == 0) {
+      // a document without pages isn't valid, writes an empty page
+      startPage(PageSize.A4_WIDTH, PageSize.A4_HEIGHT);
+      finishPage();
+      writeDocumentEnd(1);
+    } else {
+      writeDocumentEnd(getPageCount());
+    }
+  }
+
+  /**
+   * Writes the page tree, the catalog, the cross-reference table and the trailer.
+   *
+   * @param pageCount number of pages.
+   * @throws IOException on a write error.
+   */
+  private void writeDocumentEnd(int pageCount) throws IOException {
+    startObject(PAGES_ID);
+    this.buffer.append("<< /Type /Pages /Count ").append(pageCount).append(" /Kids [");
+    for (int i = 0; i < pageCount; i++) {
+      this.buffer.append(this.pageIds[i]).append(" 0 R ");
+      if (this.buffer.length() > 4096) {
+        flushBuffer();
+      }
+    }
+    this.buffer.append("] >>\nendobj\n");
+    flushBuffer();
+
+    startObject(CATALOG_ID);
+    this.buffer.append("<< /Type /Catalog /Pages ").append(PAGES_ID).append(" 0 R >>\nendobj\n");
+    flushBuffer();
+
+    final long xref = getPosition();
+    this.buffer.append("xref\n0 ").append(this.nextId).append("\n0000000000 65535 f \n");
+    for (int id = 1; id < this.nextId; id++) {
+      final String offset = String.valueOf(this.offsets[id]);
+      for (int i = offset.length(); i < 10; i++) {
+        this.buffer.append('0');
+      }
+      this.buffer.append(offset).append(" 00000 n \n");
+      if (this.buffer.length() > 4096) {
+        flushBuffer();
+      }
+    }
+    this.buffer.append("trailer\n<< /Size ").append(this.nextId).append(" /Root ")
+        .append(CATALOG_ID).append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+    flushBuffer();
+  }
+
+  /**
+   * Records the offset of an object and starts it.
+   *
+   * @param id object id.
+   */
+  private void startObject(int id) {
+    if (id >= this.offsets.length) {
+      this.offsets = Arrays.copyOf(this.offsets, Math.max(id + 1, this.offsets.length * 2));
+    }
+    this.offsets[id] = getPosition() + this.buffer.length();
+    this.buffer.append(id).append(" 0 obj\n");
+  }
+
+  /**
+   * Gets the number of the graphics state with the given alpha (adds a new one if needed).
+   *
+   * @param alpha alpha value.
+   * @return graphics state number on the current page.
+   */
+  private int getAlphaState(float alpha) {
+    for (int i = 0; i < this.alphasCount; i++) {
+      if (this.alphas[i] == alpha) {
+        return i;
+      }
+    }
+    if (this.alphasCount == this.alphas.length) {
+      this.alphas = Arrays.copyOf(this.alphas, this.alphas.length * 2);
+    }
+    this.alphas[this.alphasCount] = alpha;
+    return this.alphasCount++;
+  }
+
+  /**
+   * Appends the RGB components of a color.
+   *
+   * @param color color to append.
+   */
+  private void appendColor(Color color) {
+    appendNumber(color.getRed() / 255d).append(' ');
+    appendNumber(color.getGreen() / 255d).append(' ');
+    appendNumber(color.getBlue() / 255d);
+  }
+
+  /**
+   * Tells if a shape uses the even-odd winding rule.
+   *
+   * @param shape shape to check.
+   * @return true for the even-odd winding rule.
+   */
+  private static boolean isEvenOdd(Shape shape) {
+    return shape.getPathIterator(null).getWindingRule() == PathIterator.WIND_EVEN_ODD;
+  }
+
+  /** Standard page sizes (in points). */
+  public static final class PageSize {
+
+    /** A4 page width. */
+    public static final double A4_WIDTH = 595d;
+
+    /** A4 page height. */
+    public static final double A4_HEIGHT = 842d;
+
+    /** Private constructor. */
+    private PageSize() {
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Shape;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.validation.constraints.Null;
+
+/**
+ * Streaming SVG document. SVG has no pages, so the document
+ * contains a single page (the page size is the image size).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class SvgDocument extends VectorDocument {
+
+  /** Clip of the last written path. */
+  private Shape lastClip;
+
+  /** Id of the last defined clip path (0 if none). */
+  private int clipId;
+
+  /**
+   * Constructor.
+   *
+   * @param out output stream to write the document to.
+   */
+  public SvgDocument(OutputStream out) {
+    super(out);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void startPage(double width, double height) throws IOException {
+    if (getPageCount() > 0) {
+      throw new IllegalStateException("SVG document can only have one page!");
+    }
+    this.buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    this.buffer.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+    appendNumber(width).append("\" height=\"");
+    appendNumber(height).append("\" viewBox=\"0 0 ");
+    appendNumber(width).append(' ');
+    appendNumber(height).append("\">\n");
+    flushBuffer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void writePath(Shape path, boolean fill, Color color,
+                           @Null BasicStroke stroke, @Null Shape clip) throws IOException {
+    if (clip != null && clip != this.lastClip) {
+      this.clipId++;
+      this.buffer.append("<clipPath id=\"clip").append(this.clipId).append("\"><path d=\"");
+      appendPath(clip, "M", "L", "C", "Z", true);
+      this.buffer.append("\"/></clipPath>\n");
+    }
+    this.lastClip = clip;
+
+    this.buffer.append("<path d=\"");
+    appendPath(path, "M", "L", "C", "Z", true);
+    this.buffer.append('"');
+    if (fill) {
+      appendColor("fill", color);
+    } else {
+      this.buffer.append(" fill=\"none\"");
+      appendColor("stroke", color);
+      this.buffer.append(" stroke-width=\"");
+      appendNumber(stroke.getLineWidth()).append('"');
+      if (stroke.getEndCap() != BasicStroke.CAP_BUTT) {
+        this.buffer.append(" stroke-linecap=\"")
+            .append(stroke.getEndCap() == BasicStroke.CAP_ROUND ? "round" : "square").append('"');
+      }
+      if (stroke.getLineJoin() != BasicStroke.JOIN_MITER) {
+        this.buffer.append(" stroke-linejoin=\"")
+            .append(stroke.getLineJoin() == BasicStroke.JOIN_ROUND ? "round" : "bevel").append('"');
+      }
+      final float[] dash = stroke.getDashArray();
+      if (dash != null) {
+        this.buffer.append(" stroke-dasharray=\"");
+        for (int i = 0; i < dash.length; i++) {
+          if (i > 0) {
+            this.buffer.append(',');
+          }
+          appendNumber(dash[i]);
+        }
+        this.buffer.append("\" stroke-dashoffset=\"");
+        appendNumber(stroke.getDashPhase()).append('"');
+      }
+    }
+    if (clip != null) {
+      this.buffer.append(" clip-path=\"url(#clip").append(this.clipId).append(")\"");
+    }
+    this.buffer.append("/>\n");
+    flushBuffer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void finishPage() throws IOException {
+    this.buffer.append("</svg>\n");
+    flushBuffer();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected void finishDocument() {
+  }
+
+  /**
+   * Appends a color attribute (and the opacity attribute if the color is translucent).
+   *
+   * @param name  attribute name.
+   * @param color color to append.
+   */
+  private void appendColor(String name, Color color) {
+    this.buffer.append(' ').append(name).append("=\"#");
+    final int rgb = color.getRGB() & 0xFFFFFF;
+    for (int shift = 20; shift >= 0; shift -= 4) {
+      this.buffer.append(Character.forDigit((rgb >> shift) & 0xF, 16));
+    }
+    this.buffer.append('"');
+    if (color.getAlpha() < 255) {
+      this.buffer.append(' ').append(name).append("-opacity=\"");
+      appendNumber(color.getAlpha() / 255d).append('"');
+    }
+  }
+}
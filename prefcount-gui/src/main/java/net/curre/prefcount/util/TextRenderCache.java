@@ -0,0 +1,235 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded (LRU) cache of measured and laid out strings keyed by
+ * (font, font render context, string); holds string widths and heights
+ * and pre-built glyph vectors, so that the score board strings are
+ * measured and laid out only once. The cache is thread-safe.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class TextRenderCache {
+
+  /** Default max number of cached strings. */
+  public static final int DEFAULT_CAPACITY = 512;
+
+  /** Shared instance used by the score board renderers. */
+  private static final TextRenderCache instance = new TextRenderCache(DEFAULT_CAPACITY);
+
+  /** Cached entries in the access order. */
+  private final LinkedHashMap<Key, Entry> entries;
+
+  /** Reusable key for the cache lookups (guarded by this cache). */
+  private final Key lookupKey;
+
+  /** Number of lookups served from the cache. */
+  private long hits;
+
+  /** Number of lookups that required measuring the string. */
+  private long misses;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity max number of cached strings.
+   */
+  public TextRenderCache(final int capacity) {
+    this.entries = new LinkedHashMap<Key, Entry>(capacity * 4 / 3 + 1, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > capacity;
+      }
+    };
+    this.lookupKey = new Key();
+  }
+
+  /**
+   * Gets the shared cache instance.
+   *
+   * @return the shared text render cache.
+   */
+  public static TextRenderCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Gets the measured and laid out string for the current
+   * font and font render context of the given graphics.
+   *
+   * @param g2  graphics context.
+   * @param str string to look up.
+   * @return the cache entry for the string.
+   */
+  public synchronized Entry get(Graphics2D g2, String str) {
+    final Font font = g2.getFont();
+    final FontRenderContext frc = g2.getFontRenderContext();
+    this.lookupKey.set(font, frc, str);
+    Entry entry = this.entries.get(this.lookupKey);
+    if (entry == null) {
+      this.misses++;
+      final int width = g2.getFontMetrics(font).stringWidth(str);
+      final int height = g2.getFontMetrics(font).getHeight();
+      entry = new Entry(font.createGlyphVector(frc, str), width, height);
+      Key key = new Key();
+      key.set(font, frc, str);
+      this.entries.put(key, entry);
+    } else {
+      this.hits++;
+    }
+    this.lookupKey.set(null, null, null);
+    return entry;
+  }
+
+  /**
+   * Measures the width of a string with the current font of the given graphics.
+   *
+   * @param g2  graphics context.
+   * @param str string to measure.
+   * @return the string width.
+   */
+  public int stringWidth(Graphics2D g2, String str) {
+    return get(g2, str).width;
+  }
+
+  /**
+   * Draws a string with the current font of the given graphics
+   * using the cached glyph vector.
+   *
+   * @param g2  graphics context.
+   * @param str string to draw.
+   * @param x   X coordinate of the string's baseline start.
+   * @param y   Y coordinate of the string's baseline.
+   */
+  public void drawString(Graphics2D g2, String str, float x, float y) {
+    if (!str.isEmpty()) {
+      g2.drawGlyphVector(get(g2, str).glyphs, x, y);
+    }
+  }
+
+  /**
+   * Gets the number of lookups served from the cache.
+   *
+   * @return number of cache hits.
+   */
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  /**
+   * Gets the number of lookups that required measuring a string.
+   *
+   * @return number of cache misses.
+   */
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  /**
+   * Gets the number of cached strings.
+   *
+   * @return current cache size.
+   */
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  /** Removes all cached strings and resets the metrics. */
+  public synchronized void clear() {
+    this.entries.clear();
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /** Measured and laid out string. */
+  public static class Entry {
+
+    /** Glyph vector of the string. */
+    public final GlyphVector glyphs;
+
+    /** String width (as reported by the font metrics). */
+    public final int width;
+
+    /** String height (font's line height). */
+    public final int height;
+
+    /**
+     * Constructor.
+     *
+     * @param glyphs glyph vector of the string.
+     * @param width  string width.
+     * @param height string height.
+     */
+    Entry(GlyphVector glyphs, int width, int height) {
+      this.glyphs = glyphs;
+      this.width = width;
+      this.height = height;
+    }
+  }
+
+  /** Cache key - (font, font render context, string). */
+  private static class Key {
+
+    /** Font. */
+    private Font font;
+
+    /** Font render context. */
+    private FontRenderContext frc;
+
+    /** String. */
+    private String str;
+
+    /**
+     * Sets the key values.
+     *
+     * @param font font.
+     * @param frc  font render context.
+     * @param str  string.
+     */
+    void set(Font font, FontRenderContext frc, String str) {
+      this.font = font;
+      this.frc = frc;
+      this.str = str;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return Objects.equals(this.str, key.str) && Objects.equals(this.font, key.font) &&
+             Objects.equals(this.frc, key.frc);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+      return (this.str.hashCode() * 31 + this.font.hashCode()) * 31 + this.frc.hashCode();
+    }
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import javax.validation.constraints.Null;
+
+/**
+ * Base class of the streaming vector documents (SVG, PDF). Pages are drawn
+ * with a <code>Graphics2D</code> obtained from <code>beginPage</code>, which
+ * converts all drawing (including text) to paths; every path is written to
+ * the output stream as soon as it's drawn, so the memory use doesn't grow
+ * with the document size. Images are not exported.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public abstract class VectorDocument implements Closeable {
+
+  /** Output stream to write the document to. */
+  private final OutputStream out;
+
+  /** Reusable buffer for the document fragments. */
+  protected final StringBuilder buffer;
+
+  /** Number of bytes written so far. */
+  private long position;
+
+  /** Graphics of the current page or null if no page is open. */
+  private VectorGraphics2D page;
+
+  /** Number of pages written so far. */
+  private int pageCount;
+
+  /** Indicates that the document is closed. */
+  private boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param out output stream to write the document to (closed with the document).
+   */
+  protected VectorDocument(OutputStream out) {
+    this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out);
+    this.buffer = new StringBuilder(256);
+  }
+
+  /**
+   * Starts a new page.
+   *
+   * @param width  page width (in points/pixels).
+   * @param height page height (in points/pixels).
+   * @return graphics to draw the page with (valid until <code>endPage</code>).
+   * @throws IOException on a write error.
+   */
+  public Graphics2D beginPage(double width, double height) throws IOException {
+    if (this.closed || this.page != null) {
+      throw new IllegalStateException("Can't begin a page: the document is closed or a page is open!");
+    }
+    startPage(width, height);
+    this.page = new VectorGraphics2D(this);
+    return this.page;
+  }
+
+  /**
+   * Ends the current page.
+   *
+   * @throws IOException on a write error.
+   */
+  public void endPage() throws IOException {
+    if (this.page == null) {
+      throw new IllegalStateException("No page to end!");
+    }
+    this.page = null;
+    finishPage();
+    this.pageCount++;
+  }
+
+  /**
+   * Gets the number of pages written so far.
+   *
+   * @return number of pages.
+   */
+  public int getPageCount() {
+    return this.pageCount;
+  }
+
+  /**
+   * Ends the current page (if any), finishes the document and closes the output stream.
+   *
+   * @throws IOException on a write error.
+   */
+  @Override
+  public void close() throws IOException {
+    if (this.closed) {
+      return;
+    }
+    try {
+      if (this.page != null) {
+        endPage();
+      }
+      finishDocument();
+      this.out.flush();
+    } finally {
+      this.closed = true;
+      this.out.close();
+    }
+  }
+
+  /**
+   * Writes a path drawn on the current page; called by the page graphics.
+   *
+   * @param path   path in the page coordinates.
+   * @param fill   true to fill the path; false to stroke it.
+   * @param color  fill or stroke color (with alpha).
+   * @param stroke stroke in the page coordinates (when stroking).
+   * @param clip   clip in the page coordinates or null.
+   */
+  void drawPath(Shape path, boolean fill, Color color, @Null BasicStroke stroke, @Null Shape clip) {
+    try {
+      writePath(path, fill, color, stroke, clip);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Starts a page.
+   *
+   * @param width  page width.
+   * @param height page height.
+   * @throws IOException on a write error.
+   */
+  protected abstract void startPage(double width, double height) throws IOException;
+
+  /**
+   * Writes a path.
+   *
+   * @param path   path in the page coordinates.
+   * @param fill   true to fill the path; false to stroke it.
+   * @param color  fill or stroke color (with alpha).
+   * @param stroke stroke in the page coordinates (when stroking).
+   * @param clip   clip in the page coordinates or null.
+   * @throws IOException on a write error.
+   */
+  protected abstract void writePath(Shape path, boolean fill, Color color,
+                                    @Null BasicStroke stroke, @Null Shape clip) throws IOException;
+
+  /**
+   * Finishes a page.
+   *
+   * @throws IOException on a write error.
+   */
+  protected abstract void finishPage() throws IOException;
+
+  /**
+   * Finishes the document.
+   *
+   * @throws IOException on a write error.
+   */
+  protected abstract void finishDocument() throws IOException;
+
+  /**
+   * Gets the number of bytes written so far.
+   *
+   * @return current position in the output stream.
+   */
+  protected long getPosition() {
+    return this.position;
+  }
+
+  /**
+   * Writes the buffer contents (as ISO-8859-1 for PDF or plain ASCII
+   * for SVG - the documents contain ASCII only) and clears the buffer.
+   *
+   * @throws IOException on a write error.
+   */
+  protected void flushBuffer() throws IOException {
+    final int length = this.buffer.length();
+    for (int i = 0; i < length; i++) {
+      this.out.write(this.buffer.charAt(i));
+    }
+    this.position += length;
+    this.buffer.setLength(0);
+  }
+
+  /**
+   * Appends a number to the buffer (at most 3 decimal digits, no exponent).
+   *
+   * @param value number to append.
+   * @return the buffer.
+   */
+  protected StringBuilder appendNumber(double value) {
+    long scaled = Math.round(value * 1000d);
+    if (scaled < 0) {
+      this.buffer.append('-');
+      scaled = -scaled;
+    }
+    this.buffer.append(scaled / 1000);
+    int fraction = (int) (scaled % 1000);
+    if (fraction != 0) {
+      this.buffer.append('.');
+      int digits = 3;
+      while (fraction % 10 == 0) {
+        fraction /= 10;
+        digits--;
+      }
+      final String str = String.valueOf(fraction);
+      for (int i = str.length(); i < digits; i++) {
+        this.buffer.append('0');
+      }
+      this.buffer.append(str);
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Appends the segments of a path to the buffer; quadratic
+   * segments are converted to cubic ones.
+   *
+   * @param path    path to append.
+   * @param moveTo  move operator.
+   * @param lineTo  line operator.
+   * @param curveTo cubic curve operator.
+   * @param close   close path operator.
+   * @param prefix  true to write the operators before the coordinates (SVG),
+   *                false to write them after (PDF).
+   */
+  protected void appendPath(Shape path, String moveTo, String lineTo, String curveTo,
+                            String close, boolean prefix) {
+    final double[] c = new double[6];
+    double x = 0d;
+    double y = 0d;
+    for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+      switch (it.currentSegment(c)) {
+        case PathIterator.SEG_MOVETO:
+          appendSegment(moveTo, prefix, c[0], c[1]);
+          x = c[0];
+          y = c[1];
+          break;
+        case PathIterator.SEG_LINETO:
+          appendSegment(lineTo, prefix, c[0], c[1]);
+          x = c[0];
+          y = c[1];
+          break;
+        case PathIterator.SEG_QUADTO:
+          appendSegment(curveTo, prefix, x + 2d * (c[0] - x) / 3d, y + 2d * (c[1] - y) / 3d,
+                        c[2] + 2d * (c[0] - c[2]) / 3d, c[3] + 2d * (c[1] - c[3]) / 3d, c[2], c[3]);
+          x = c[2];
+          y = c[3];
+          break;
+        case PathIterator.SEG_CUBICTO:
+          appendSegment(curveTo, prefix, c[0], c[1], c[2], c[3], c[4], c[5]);
+          x = c[4];
+          y = c[5];
+          break;
+        default:
+          this.buffer.append(close).append(' ');
+      }
+    }
+  }
+
+  /**
+   * Appends a path segment to the buffer.
+   *
+   * @param operator segment operator.
+   * @param prefix   true to write the operator before the coordinates.
+   * @param coords   segment coordinates.
+   */
+  private void appendSegment(String operator, boolean prefix, double... coords) {
+    if (prefix) {
+      this.buffer.append(operator);
+    }
+    for (int i = 0; i < coords.length; i++) {
+      if (i > 0 || !prefix) {
+        this.buffer.append(' ');
+      }
+      appendNumber(coords[i]);
+    }
+    if (!prefix) {
+      this.buffer.append(' ').append(operator);
+    }
+    this.buffer.append(' ');
+  }
+}
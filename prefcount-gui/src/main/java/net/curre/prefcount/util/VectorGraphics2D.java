@@ -0,0 +1,742 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.MultipleGradientPaint;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.TexturePaint;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Graphics of a vector document page. All drawing operations are
+ * converted to paths in the page coordinates (text is drawn as glyph
+ * outlines) and passed to the document. Non-color paints are drawn with
+ * their average color; images are not exported (a warning is logged).
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+class VectorGraphics2D extends Graphics2D {
+
+  /** Default font. */
+  private static final Font DEFAULT_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+  /** Font render context (text is exported as outlines, so it doesn't depend on the transform). */
+  private static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(null, true, true);
+
+  /** Private class logger. */
+  private static final Logger logger = LogManager.getLogger(VectorGraphics2D.class.getName());
+
+  /** Document the page belongs to. */
+  private final VectorDocument document;
+
+  /** Graphics of a scratch image (used for the font metrics and the device configuration). */
+  private final Graphics2D scratch;
+
+  /** Rendering hints. */
+  private final RenderingHints hints;
+
+  /** Unsupported operations already reported for this page (shared by the created graphics). */
+  private final Set<String> reported;
+
+  /** Current transform. */
+  private AffineTransform transform;
+
+  /** Current paint. */
+  private Paint paint;
+
+  /** Solid color the current paint is drawn with. */
+  private Color paintColor;
+
+  /** Current color. */
+  private Color color;
+
+  /** Current background color. */
+  private Color background;
+
+  /** Current stroke. */
+  private Stroke stroke;
+
+  /** Current font. */
+  private Font font;
+
+  /** Current composite. */
+  private Composite composite;
+
+  /** Current clip in the page coordinates or null. */
+  private Shape clip;
+
+  /**
+   * Constructor.
+   *
+   * @param document document the page belongs to.
+   */
+  VectorGraphics2D(VectorDocument document) {
+    this.document = document;
+    this.scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    this.hints = new RenderingHints(null);
+    this.reported = new HashSet<>();
+    this.transform = new AffineTransform();
+    this.color = Color.BLACK;
+    this.paint = this.color;
+    this.paintColor = this.color;
+    this.background = Color.WHITE;
+    this.stroke = new BasicStroke();
+    this.font = DEFAULT_FONT;
+    this.composite = AlphaComposite.SrcOver;
+  }
+
+  /**
+   * Copy constructor (used by <code>create</code>).
+   *
+   * @param other graphics to copy the state of.
+   */
+  private VectorGraphics2D(VectorGraphics2D other) {
+    this.document = other.document;
+    this.scratch = other.scratch;
+    this.hints = (RenderingHints) other.hints.clone();
+    this.reported = other.reported;
+    this.transform = new AffineTransform(other.transform);
+    this.paint = other.paint;
+    this.paintColor = other.paintColor;
+    this.color = other.color;
+    this.background = other.background;
+    this.stroke = other.stroke;
+    this.font = other.font;
+    this.composite = other.composite;
+    this.clip = other.clip;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void draw(Shape s) {
+    if (this.stroke instanceof BasicStroke) {
+      this.document.drawPath(this.transform.createTransformedShape(s), false, getEffectiveColor(),
+                             transformStroke((BasicStroke) this.stroke), this.clip);
+    } else {
+      fill(this.stroke.createStrokedShape(s));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fill(Shape s) {
+    this.document.drawPath(this.transform.createTransformedShape(s), true, getEffectiveColor(), null, this.clip);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawGlyphVector(GlyphVector g, float x, float y) {
+    fill(g.getOutline(x, y));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawString(String str, int x, int y) {
+    drawString(str, (float) x, (float) y);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawString(String str, float x, float y) {
+    if (!str.isEmpty()) {
+      drawGlyphVector(this.font.createGlyphVector(getFontRenderContext(), str), x, y);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+    drawString(iterator, (float) x, (float) y);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+    TextLayout layout = new TextLayout(iterator, getFontRenderContext());
+    fill(layout.getOutline(AffineTransform.getTranslateInstance(x, y)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawLine(int x1, int y1, int x2, int y2) {
+    draw(new Line2D.Float(x1, y1, x2, y2));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fillRect(int x, int y, int width, int height) {
+    fill(new Rectangle(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clearRect(int x, int y, int width, int height) {
+    final Paint saved = this.paint;
+    final Color savedColor = this.color;
+    final Color savedPaintColor = this.paintColor;
+    setColor(this.background);
+    fillRect(x, y, width, height);
+    this.paint = saved;
+    this.color = savedColor;
+    this.paintColor = savedPaintColor;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+    draw(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+    fill(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawOval(int x, int y, int width, int height) {
+    draw(new Ellipse2D.Float(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fillOval(int x, int y, int width, int height) {
+    fill(new Ellipse2D.Float(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+    draw(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+    fill(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+    if (nPoints > 0) {
+      Path2D.Float path = new Path2D.Float();
+      path.moveTo(xPoints[0], yPoints[0]);
+      for (int i = 1; i < nPoints; i++) {
+        path.lineTo(xPoints[i], yPoints[i]);
+      }
+      draw(path);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+    draw(new Polygon(xPoints, yPoints, nPoints));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+    fill(new Polygon(xPoints, yPoints, nPoints));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+    reportUnsupported("drawImage");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+    reportUnsupported("drawRenderedImage");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+    reportUnsupported("drawRenderableImage");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor,
+                           ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1,
+                           int sx2, int sy2, ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1,
+                           int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+    reportUnsupported("drawImage");
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+    Shape shape = onStroke ? this.stroke.createStrokedShape(s) : s;
+    return this.transform.createTransformedShape(shape).intersects(rect);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public GraphicsConfiguration getDeviceConfiguration() {
+    return this.scratch.getDeviceConfiguration();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public FontRenderContext getFontRenderContext() {
+    return FONT_RENDER_CONTEXT;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public FontMetrics getFontMetrics(Font f) {
+    return this.scratch.getFontMetrics(f);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Graphics create() {
+    return new VectorGraphics2D(this);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void dispose() {
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Color getColor() {
+    return this.color;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setColor(Color c) {
+    if (c != null) {
+      this.color = c;
+      this.paint = c;
+      this.paintColor = c;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Paint getPaint() {
+    return this.paint;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setPaint(Paint paint) {
+    if (paint instanceof Color) {
+      setColor((Color) paint);
+    } else if (paint != null) {
+      this.paint = paint;
+      this.paintColor = getAverageColor(paint);
+      if (this.paintColor == null) {
+        reportUnsupported(paint.getClass().getName());
+        this.paintColor = this.color;
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setPaintMode() {
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setXORMode(Color c) {
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Color getBackground() {
+    return this.background;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setBackground(Color color) {
+    this.background = color;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stroke getStroke() {
+    return this.stroke;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setStroke(Stroke s) {
+    this.stroke = s;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Font getFont() {
+    return this.font;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setFont(Font font) {
+    if (font != null) {
+      this.font = font;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Composite getComposite() {
+    return this.composite;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setComposite(Composite comp) {
+    this.composite = comp;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+    this.hints.put(hintKey, hintValue);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object getRenderingHint(RenderingHints.Key hintKey) {
+    return this.hints.get(hintKey);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setRenderingHints(Map<?, ?> hints) {
+    this.hints.clear();
+    this.hints.putAll(hints);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void addRenderingHints(Map<?, ?> hints) {
+    this.hints.putAll(hints);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RenderingHints getRenderingHints() {
+    return (RenderingHints) this.hints.clone();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void translate(int x, int y) {
+    this.transform.translate(x, y);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void translate(double tx, double ty) {
+    this.transform.translate(tx, ty);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void rotate(double theta) {
+    this.transform.rotate(theta);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void rotate(double theta, double x, double y) {
+    this.transform.rotate(theta, x, y);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void scale(double sx, double sy) {
+    this.transform.scale(sx, sy);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void shear(double shx, double shy) {
+    this.transform.shear(shx, shy);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void transform(AffineTransform tx) {
+    this.transform.concatenate(tx);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setTransform(AffineTransform tx) {
+    this.transform = new AffineTransform(tx);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public AffineTransform getTransform() {
+    return new AffineTransform(this.transform);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Shape getClip() {
+    if (this.clip == null) {
+      return null;
+    }
+    try {
+      return this.transform.createInverse().createTransformedShape(this.clip);
+    } catch (NoninvertibleTransformException e) {
+      return null;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Rectangle getClipBounds() {
+    final Shape userClip = getClip();
+    return userClip == null ? null : userClip.getBounds();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clipRect(int x, int y, int width, int height) {
+    clip(new Rectangle(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setClip(int x, int y, int width, int height) {
+    setClip(new Rectangle(x, y, width, height));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setClip(Shape clip) {
+    this.clip = clip == null ? null : this.transform.createTransformedShape(clip);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clip(Shape s) {
+    final Shape deviceShape = this.transform.createTransformedShape(s);
+    if (this.clip == null) {
+      this.clip = deviceShape;
+    } else {
+      Area area = new Area(this.clip);
+      area.intersect(new Area(deviceShape));
+      this.clip = area;
+    }
+  }
+
+  /**
+   * Gets the average color of a non-color paint (gradients and textures).
+   *
+   * @param paint paint to convert.
+   * @return the average color or null if the paint is not supported.
+   */
+  private static Color getAverageColor(Paint paint) {
+    if (paint instanceof GradientPaint) {
+      return getAverageColor(new Color[]{((GradientPaint) paint).getColor1(), ((GradientPaint) paint).getColor2()});
+    } else if (paint instanceof MultipleGradientPaint) {
+      return getAverageColor(((MultipleGradientPaint) paint).getColors());
+    } else if (paint instanceof TexturePaint) {
+      final BufferedImage image = ((TexturePaint) paint).getImage();
+      final Color[] colors = new Color[image.getWidth() * image.getHeight()];
+      for (int y = 0; y < image.getHeight(); y++) {
+        for (int x = 0; x < image.getWidth(); x++) {
+          colors[y * image.getWidth() + x] = new Color(image.getRGB(x, y), true);
+        }
+      }
+      return getAverageColor(colors);
+    }
+    return null;
+  }
+
+  /**
+   * Computes the average of colors.
+   *
+   * @param colors colors to average.
+   * @return the average color or null if there are no colors.
+   */
+  private static Color getAverageColor(Color[] colors) {
+    if (colors.length == 0) {
+      return null;
+    }
+    int red = 0;
+    int green = 0;
+    int blue = 0;
+    int alpha = 0;
+    for (Color c : colors) {
+      red += c.getRed();
+      green += c.getGreen();
+      blue += c.getBlue();
+      alpha += c.getAlpha();
+    }
+    final int n = colors.length;
+    return new Color(red / n, green / n, blue / n, alpha / n);
+  }
+
+  /**
+   * Logs a warning about an operation that is not exported
+   * (once per page for every kind of operation).
+   *
+   * @param operation name of the operation.
+   */
+  private void reportUnsupported(String operation) {
+    if (this.reported.add(operation)) {
+      logger.warn("Unsupported operation is not exported: {}", operation);
+    }
+  }
+
+  /**
+   * Gets the color to draw with (non-color paints are drawn with their
+   * average color or with the current color if they are not supported;
+   * the alpha of the alpha composite is applied).
+   *
+   * @return the color to draw with.
+   */
+  private Color getEffectiveColor() {
+    final Color c = this.paintColor;
+    if (this.composite instanceof AlphaComposite) {
+      final float alpha = ((AlphaComposite) this.composite).getAlpha();
+      if (alpha < 1f) {
+        return new Color(c.getRed(), c.getGreen(), c.getBlue(), Math.round(c.getAlpha() * alpha));
+      }
+    }
+    return c;
+  }
+
+  /**
+   * Transforms a stroke to the page coordinates (the line width and dashes
+   * are scaled by the average scale of the current transform).
+   *
+   * @param s stroke to transform.
+   * @return the transformed stroke.
+   */
+  private BasicStroke transformStroke(BasicStroke s) {
+    final double scale = Math.sqrt(Math.abs(this.transform.getDeterminant()));
+    if (scale == 1d) {
+      return s;
+    }
+    float[] dash = s.getDashArray();
+    if (dash != null) {
+      dash = dash.clone();
+      for (int i = 0; i < dash.length; i++) {
+        dash[i] *= (float) scale;
+      }
+    }
+    return new BasicStroke((float) (s.getLineWidth() * scale), s.getEndCap(), s.getLineJoin(),
+                           s.getMiterLimit(), dash, (float) (s.getDashPhase() * scale));
+  }
+}
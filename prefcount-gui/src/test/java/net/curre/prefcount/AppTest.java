@@ -17,6 +17,14 @@ package net.curre.prefcount;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import net.curre.prefcount.bean.TooltipLocationsMapTest;
+import net.curre.prefcount.gui.ScoreBoardChangeTrackerTest;
+import net.curre.prefcount.gui.ScoreBoardDashboardTest;
+import net.curre.prefcount.gui.ScoreBoardLayerCacheTest;
+import net.curre.prefcount.gui.ScoreBoardLocationsMapTest;
+import net.curre.prefcount.gui.ScoreBoardRendererTest;
+import net.curre.prefcount.gui.ScoreBoardResizeModeTest;
+import net.curre.prefcount.gui.ScoreSheetPrinterTest;
 import net.curre.prefcount.gui.theme.LafThemeTest;
 import net.curre.prefcount.service.LafThemeServiceTest;
 import net.curre.prefcount.service.ResultServiceTest;
@@ -25,6 +33,8 @@ import net.curre.prefcount.service.UiServiceTest;
 import net.curre.prefcount.util.DebugUtilitiesTest;
 import net.curre.prefcount.util.LocaleExtTest;
 import net.curre.prefcount.util.PlatformTypeTest;
+import net.curre.prefcount.util.TextRenderCacheTest;
+import net.curre.prefcount.util.VectorDocumentTest;
 
 /**
  * Unit test suite for prefCount application.
@@ -52,7 +62,17 @@ public class AppTest extends TestCase {
     suite.addTestSuite(DebugUtilitiesTest.class);
     suite.addTestSuite(LocaleExtTest.class);
     suite.addTestSuite(PlatformTypeTest.class);
+    suite.addTestSuite(TextRenderCacheTest.class);
+    suite.addTestSuite(VectorDocumentTest.class);
     suite.addTestSuite(PrefCountRegistryTest.class);
+    suite.addTestSuite(ScoreBoardChangeTrackerTest.class);
+    suite.addTestSuite(ScoreBoardDashboardTest.class);
+    suite.addTestSuite(ScoreBoardLayerCacheTest.class);
+    suite.addTestSuite(ScoreBoardLocationsMapTest.class);
+    suite.addTestSuite(ScoreBoardRendererTest.class);
+    suite.addTestSuite(ScoreBoardResizeModeTest.class);
+    suite.addTestSuite(ScoreSheetPrinterTest.class);
+    suite.addTestSuite(TooltipLocationsMapTest.class);
 
     return suite;
   }
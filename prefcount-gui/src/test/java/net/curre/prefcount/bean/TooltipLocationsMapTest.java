@@ -0,0 +1,70 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.bean;
+
+import java.awt.Rectangle;
+import java.awt.geom.Ellipse2D;
+
+import net.curre.prefcount.test.BaseTestCase;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.ScoreItem.FINAL_SCORE;
+import static net.curre.prefcount.gui.type.ScoreItem.PLAYER_MOUNT;
+import static net.curre.prefcount.gui.type.ScoreItem.WHIST_WEST;
+
+/**
+ * This is a junit test for testing <code>TooltipLocationsMap</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class TooltipLocationsMapTest extends BaseTestCase {
+
+  /** Tests hit-testing of the tooltip locations through the spatial index. */
+  public void testTooltipIndex() {
+    TooltipLocationsMap locations = new TooltipLocationsMap();
+    assertNull("Empty map shouldn't find anything", locations.findLocation(10, 10));
+    locations.addShapeLocation(PLAYER_MOUNT, EAST, new Rectangle(10, 10, 20, 10));
+    locations.addShapeLocation(FINAL_SCORE, SOUTH, new Ellipse2D.Double(100, 200, 60, 20));
+    locations.addShapeLocation(WHIST_WEST, SOUTH, new Rectangle(300, 40, 100, 100));
+
+    TooltipLocationsMap.Location location = locations.findLocation(15, 15);
+    assertNotNull("Location not found", location);
+    assertEquals("Wrong item", PLAYER_MOUNT, location.item);
+    assertEquals("Wrong place", EAST, location.place);
+    assertEquals("Wrong item", FINAL_SCORE, locations.findLocation(130, 210).item);
+    assertNull("Point is outside of the ellipse", locations.findLocation(101, 201));
+    assertEquals("Wrong item", WHIST_WEST, locations.findLocation(390, 130).item);
+    assertNull("Point is outside of all shapes", locations.findLocation(50, 50));
+    assertNull("Point is outside of the grid", locations.findLocation(-5, 500));
+    final long builds = locations.getIndexBuilds();
+
+    // re-adding the same shapes (on every paint) doesn't rebuild the index
+    locations.addShapeLocation(PLAYER_MOUNT, EAST, new Rectangle(10, 10, 20, 10));
+    locations.findLocation(15, 15);
+    assertEquals("Index shouldn't be rebuilt", builds, locations.getIndexBuilds());
+
+    // a replaced shape with the same bounds is hit-tested without rebuilding the index
+    locations.addShapeLocation(PLAYER_MOUNT, EAST, new Ellipse2D.Double(10, 10, 20, 10));
+    assertNull("Replaced shape is hit-tested", locations.findLocation(11, 11));
+    assertEquals("Wrong item", PLAYER_MOUNT, locations.findLocation(20, 15).item);
+    assertEquals("Index shouldn't be rebuilt", builds, locations.getIndexBuilds());
+
+    locations.removeLocation(EAST, PLAYER_MOUNT);
+    assertNull("Removed location was found", locations.findLocation(15, 15));
+    assertEquals("Index should be rebuilt", builds + 1, locations.getIndexBuilds());
+  }
+}
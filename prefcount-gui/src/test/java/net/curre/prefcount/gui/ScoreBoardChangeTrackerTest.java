@@ -0,0 +1,78 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Rectangle;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.bean.TooltipLocationsMap;
+import net.curre.prefcount.gui.type.ScoreItem;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.test.BaseTestCase;
+import net.curre.prefcount.test.GameFixtures;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.Place.WEST;
+import static net.curre.prefcount.gui.type.ScoreItem.*;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardChangeTracker</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardChangeTrackerTest extends BaseTestCase {
+
+  /** Tests the dirty region computed for the game data changes. */
+  public void testChangeTracker() {
+    GameResultBean rBean = GameFixtures.createFinishedSampleGame();
+    final ScoreSnapshot painted = ResultService.publishSnapshot(rBean);
+
+    // locations recorded by the last paint
+    TooltipLocationsMap locations = new TooltipLocationsMap();
+    locations.addShapeLocation(WHIST_SOUTH, EAST, new Rectangle(100, 100, 20, 10));
+    locations.addShapeLocation(WHIST_EAST_SALDO, SOUTH, new Rectangle(300, 300, 30, 20));
+    for (ScoreItem item : new ScoreItem[] {WHIST_SOUTH_SALDO, WHIST_SALDO_TOTAL, FINAL_SCORE}) {
+      locations.addShapeLocation(item, EAST, new Rectangle(120, 110, 30, 20));
+    }
+    for (ScoreItem item : new ScoreItem[] {WHIST_SALDO_TOTAL, FINAL_SCORE}) {
+      locations.addShapeLocation(item, SOUTH, new Rectangle(280, 290, 30, 20));
+    }
+
+    assertTrue("Nothing should be dirty",
+               ScoreBoardChangeTracker.computeDirtyRegion(locations, painted, painted).isEmpty());
+    assertNull("No painted snapshot should cause a full repaint",
+               ScoreBoardChangeTracker.computeDirtyRegion(locations, null, painted));
+
+    // a single whist change repaints only the whist and the affected saldos and scores
+    ResultService.updateWhist(rBean, EAST, SOUTH, 30);
+    Rectangle region = ScoreBoardChangeTracker.computeDirtyRegion(
+        locations, painted, ResultService.publishSnapshot(rBean));
+    assertNotNull("Whist change shouldn't cause a full repaint", region);
+    assertTrue("Whist location should be dirty", region.contains(new Rectangle(100, 100, 20, 10)));
+    assertTrue("Saldo location should be dirty", region.contains(new Rectangle(300, 300, 30, 20)));
+    assertFalse("Region shouldn't cover the whole board", region.contains(new Rectangle(0, 0, 500, 500)));
+
+    // a value without a known location and a layout change cause a full repaint
+    rBean.getPlayerStats().get(WEST).setPool(20);
+    assertNull("Unknown location should cause a full repaint", ScoreBoardChangeTracker.computeDirtyRegion(
+        locations, painted, ResultService.publishSnapshot(rBean)));
+    rBean.setFinalScoresReady(false);
+    assertNull("Layout change should cause a full repaint", ScoreBoardChangeTracker.computeDirtyRegion(
+        locations, painted, ResultService.publishSnapshot(rBean)));
+  }
+}
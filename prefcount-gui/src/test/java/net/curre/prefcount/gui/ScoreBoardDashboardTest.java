@@ -0,0 +1,91 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.gui.type.PrefType;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.test.BaseTestCase;
+import net.curre.prefcount.test.GameFixtures;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardDashboard</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardDashboardTest extends BaseTestCase {
+
+  /** Tests that the dashboard boards share the caches and only the changed boards are repainted. */
+  public void testDashboard() {
+    final List<Rectangle> repaints = new ArrayList<>();
+    ScoreBoardDashboard dashboard = new ScoreBoardDashboard() {
+      @Override
+      public void repaint(long tm, int x, int y, int width, int height) {
+        repaints.add(new Rectangle(x, y, width, height));
+      }
+    };
+    final List<GameResultBean> games = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      GameResultBean rBean = GameFixtures.createSampleGame(PrefType.LENINGRAD, i % 5 == 0 ? 4 : 3);
+      ResultService.generateFinalResults(rBean);
+      games.add(rBean);
+      dashboard.addBoard("Table " + i, () -> ResultService.publishSnapshot(rBean));
+    }
+    assertEquals("Wrong board count", 20, dashboard.getBoardCount());
+    dashboard.setSize(1000, 1000);
+    Rectangle first = dashboard.getBoardBounds(0);
+    Rectangle last = dashboard.getBoardBounds(19);
+    assertEquals("Boards should have the same size", first.getSize(), last.getSize());
+    assertFalse("Boards shouldn't overlap", first.intersects(dashboard.getBoardBounds(1)));
+
+    BufferedImage canvas = new BufferedImage(1000, 1000, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2 = canvas.createGraphics();
+    try {
+      dashboard.paintComponent(g2);
+    } finally {
+      g2.dispose();
+    }
+    assertEquals("3 players layer should be shared", 1, dashboard.getLayerCache(3).getRenderCount());
+    assertEquals("4 players layer should be shared", 1, dashboard.getLayerCache(4).getRenderCount());
+    assertEquals("Wrong number of layer hits", 18, dashboard.getLayerCache(3).getHitCount() +
+                                                   dashboard.getLayerCache(4).getHitCount());
+
+    // nothing changed - nothing is repainted
+    repaints.clear();
+    dashboard.repaintChanges();
+    assertTrue("Unchanged boards shouldn't be repainted", repaints.isEmpty());
+
+    // a whist change repaints a part of one board only
+    ResultService.updateWhist(games.get(7), EAST, SOUTH, 30);
+    dashboard.repaintChanges();
+    assertEquals("Only the changed board should be repainted", 1, repaints.size());
+    Rectangle board = dashboard.getBoardBounds(7);
+    assertTrue("Repaint should be inside the board", board.contains(repaints.get(0)));
+    assertFalse("Repaint shouldn't cover the whole board", repaints.get(0).contains(board));
+    repaints.clear();
+    dashboard.repaintChanges();
+    assertTrue("Change should be repainted once", repaints.isEmpty());
+  }
+}
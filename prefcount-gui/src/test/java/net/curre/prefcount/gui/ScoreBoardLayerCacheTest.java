@@ -0,0 +1,112 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import net.curre.prefcount.gui.theme.LafThemeId;
+import net.curre.prefcount.test.BaseTestCase;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardLayerCache</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardLayerCacheTest extends BaseTestCase {
+
+  /** Tests that the static board layer is rendered only when its key changes. */
+  public void testLayerCache() {
+    ScoreBoardLayerCache cache = new ScoreBoardLayerCache();
+    BufferedImage canvas = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2 = canvas.createGraphics();
+    try {
+      final int[] paints = new int[1];
+      for (int i = 0; i < 3; i++) {
+        cache.draw(g2, 200, 200, 3, LafThemeId.DEFAULT, layerG2 -> {
+          paints[0]++;
+          layerG2.setColor(Color.RED);
+          layerG2.fillRect(10, 10, 20, 20);
+        });
+      }
+      assertEquals("Layer should be painted once", 1, paints[0]);
+      assertEquals("Wrong render count", 1, cache.getRenderCount());
+      assertEquals("Wrong hit count", 2, cache.getHitCount());
+      assertEquals("Cached layer wasn't drawn", Color.RED.getRGB(), canvas.getRGB(15, 15));
+
+      cache.draw(g2, 200, 200, 4, LafThemeId.DEFAULT, layerG2 -> paints[0]++);
+      cache.draw(g2, 200, 200, 4, LafThemeId.FLAT_DARK, layerG2 -> paints[0]++);
+      cache.draw(g2, 180, 200, 4, LafThemeId.FLAT_DARK, layerG2 -> paints[0]++);
+      assertEquals("Layer should be painted for every key change", 4, paints[0]);
+
+      cache.invalidate();
+      cache.draw(g2, 180, 200, 4, LafThemeId.FLAT_DARK, layerG2 -> paints[0]++);
+      assertEquals("Layer should be painted after invalidation", 5, paints[0]);
+    } finally {
+      g2.dispose();
+    }
+  }
+
+  /** Tests that the board layer is cached per device scale and drawn at the device resolution. */
+  public void testLayerCacheScales() {
+    ScoreBoardLayerCache cache = new ScoreBoardLayerCache();
+    BufferedImage canvas = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+    final int[] paints = new int[1];
+    final Consumer<Graphics2D> painter = layerG2 -> {
+      paints[0]++;
+      layerG2.setColor(Color.RED);
+      layerG2.fillRect(10, 10, 1, 1);
+    };
+    final double[] scales = {1d, 1.5d, 2d, 1d, 1.5d, 2d};
+    for (double scale : scales) {
+      Graphics2D g2 = canvas.createGraphics();
+      try {
+        g2.scale(scale, scale);
+        cache.draw(g2, 100, 100, 3, LafThemeId.DEFAULT, painter);
+      } finally {
+        g2.dispose();
+      }
+    }
+    assertEquals("Layer should be rendered once per scale", 3, paints[0]);
+    assertEquals("Wrong number of cached scales", 3, cache.size());
+    assertEquals("Wrong hit count", 3, cache.getHitCount());
+
+    // a layer rendered at 1.5 is drawn pixel for pixel (15..16 device pixels)
+    assertEquals("Layer wasn't drawn at the device resolution", Color.RED.getRGB(), canvas.getRGB(15, 15));
+
+    // the least recently used scale is evicted
+    Graphics2D g2 = canvas.createGraphics();
+    try {
+      g2.scale(1.25d, 1.25d);
+      cache.draw(g2, 100, 100, 3, LafThemeId.DEFAULT, painter);
+      g2.setTransform(AffineTransform.getScaleInstance(2d, 2d));
+      cache.draw(g2, 100, 100, 3, LafThemeId.DEFAULT, painter);
+      assertEquals("Recently used scale shouldn't be evicted", 4, paints[0]);
+      g2.setTransform(new AffineTransform());
+      cache.draw(g2, 100, 100, 3, LafThemeId.DEFAULT, painter);
+      assertEquals("Evicted scale should be rendered again", 5, paints[0]);
+    } finally {
+      g2.dispose();
+    }
+    assertEquals("Cache should be bounded", ScoreBoardLayerCache.MAX_SCALES, cache.size());
+    cache.invalidate();
+    assertEquals("Cache should be empty", 0, cache.size());
+  }
+}
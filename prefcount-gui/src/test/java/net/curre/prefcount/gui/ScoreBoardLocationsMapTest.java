@@ -0,0 +1,55 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import net.curre.prefcount.test.BaseTestCase;
+import static net.curre.prefcount.gui.type.Place.EAST;
+import static net.curre.prefcount.gui.type.Place.NORTH;
+import static net.curre.prefcount.gui.type.Place.SOUTH;
+import static net.curre.prefcount.gui.type.ScoreItem.*;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardLocationsMap</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardLocationsMapTest extends BaseTestCase {
+
+  /** Tests the item locations computed from the layout tables. */
+  public void testLocationsTables() {
+    ScoreBoardLocationsMap locations = new ScoreBoardLocationsMap();
+    locations.initialize(3);
+    locations.computeLocations(600, 400, 0, 0, true);
+    assertEquals("Wrong EAST name X", 311d, locations.getX(PLAYER_NAME, EAST));
+    assertEquals("Wrong EAST name Y", 200d, locations.getY(PLAYER_NAME, EAST));
+    assertEquals("Wrong SOUTH whist X", 57d, locations.getX(WHIST_WEST, SOUTH));
+    assertEquals("Wrong SOUTH whist Y", 388d, locations.getY(WHIST_WEST, SOUTH));
+    assertTrue("EAST can't have whists against itself", Double.isNaN(locations.getX(WHIST_EAST, EAST)));
+    assertTrue("NORTH isn't in the game", Double.isNaN(locations.getY(PLAYER_NAME, NORTH)));
+
+    // the same layout shifted by the canvas offsets
+    locations.computeLocations(600, 400, 30, 20, true);
+    assertEquals("Wrong shifted EAST name X", 341d, locations.getX(PLAYER_NAME, EAST));
+    assertEquals("Wrong shifted SOUTH whist Y", 408d, locations.getY(WHIST_WEST, SOUTH));
+
+    locations.initialize(4);
+    locations.computeLocations(600, 400, 0, 0, true);
+    assertEquals("Wrong NORTH total saldo X", 300d, locations.getX(WHIST_SALDO_TOTAL, NORTH));
+    assertEquals("Wrong NORTH total saldo Y", 68d, locations.getY(WHIST_SALDO_TOTAL, NORTH));
+    assertEquals("Wrong number of NORTH opponents", 3, locations.getOtherWhistItems(NORTH).length);
+  }
+}
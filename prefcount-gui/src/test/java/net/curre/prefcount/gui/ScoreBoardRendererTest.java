@@ -0,0 +1,96 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.theme.PrintTheme;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.test.BaseTestCase;
+import net.curre.prefcount.test.GameFixtures;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardRenderer</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardRendererTest extends BaseTestCase {
+
+  /** Tests rendering of the score board images by several threads. */
+  public void testRenderImage() throws Exception {
+    GameResultBean rBean = GameFixtures.createFinishedSampleGame();
+    final BufferedImage expected = ScoreBoardRenderer.renderImage(rBean, new PrintTheme(), 400, 300);
+    assertEquals("Wrong image width", 400, expected.getWidth());
+    assertEquals("Background wasn't painted", Color.WHITE.getRGB(), expected.getRGB(1, 1));
+    int drawn = 0;
+    for (int y = 0; y < 300; y++) {
+      for (int x = 0; x < 400; x++) {
+        drawn += expected.getRGB(x, y) == Color.WHITE.getRGB() ? 0 : 1;
+      }
+    }
+    assertTrue("Board wasn't drawn", drawn > 1000);
+
+    final ScoreSnapshot snapshot = ResultService.publishSnapshot(rBean);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<BufferedImage>> images = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        images.add(executor.submit(() -> ScoreBoardRenderer.renderImage(snapshot, new PrintTheme(), 400, 300)));
+      }
+      for (Future<BufferedImage> image : images) {
+        BufferedImage actual = image.get();
+        for (int y = 0; y < 300; y += 3) {
+          for (int x = 0; x < 400; x += 3) {
+            assertEquals("Images differ at " + x + "," + y, expected.getRGB(x, y), actual.getRGB(x, y));
+          }
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Tests the vector (PDF and SVG) export of the score board. */
+  public void testVectorExport() throws Exception {
+    GameResultBean rBean = GameFixtures.createFinishedSampleGame();
+    final ScoreSnapshot snapshot = ResultService.publishSnapshot(rBean);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ScoreBoardRenderer.writePdf(Arrays.asList(snapshot, snapshot, snapshot), new PrintTheme(), out);
+    final String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+    assertTrue("Wrong header", pdf.startsWith("%PDF-"));
+    assertTrue("Wrong page count", pdf.contains("/Type /Pages /Count 3 "));
+    assertTrue("Board wasn't drawn", pdf.split("\nQ\n", -1).length > 3 * 30);
+
+    out = new ByteArrayOutputStream();
+    ScoreBoardRenderer.writeSvg(snapshot, new PrintTheme(), 400, 300, out);
+    final String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue("Wrong root element", svg.contains("width=\"400\" height=\"300\""));
+    assertTrue("Board wasn't drawn", svg.split("<path ", -1).length > 30);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+import javax.swing.JPanel;
+
+import net.curre.prefcount.test.BaseTestCase;
+
+/**
+ * This is a junit test for testing <code>ScoreBoardResizeMode</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreBoardResizeModeTest extends BaseTestCase {
+
+  /** Tests that the last frame is drawn scaled while resizing. */
+  public void testResizeMode() {
+    final boolean[] enabled = {false};
+    ScoreBoardResizeMode mode = new ScoreBoardResizeMode(new JPanel(), () -> enabled[0]);
+    BufferedImage canvas = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2 = canvas.createGraphics();
+    try {
+      final int[] paints = new int[1];
+      final Consumer<Graphics2D> painter = frameG2 -> {
+        paints[0]++;
+        frameG2.setColor(Color.RED);
+        frameG2.fillRect(0, 0, 50, 50);
+      };
+      mode.componentResized(null);
+      assertFalse("Live resize is disabled", mode.isResizing());
+
+      enabled[0] = true;
+      mode.componentResized(null);
+      assertTrue("Board should be resizing", mode.isResizing());
+      assertTrue("Scaled frame should be drawn", mode.drawScaledFrame(g2, 200, 200, 100, 100, painter));
+      assertTrue("Scaled frame should be drawn", mode.drawScaledFrame(g2, 180, 160, 100, 100, painter));
+      assertEquals("Frame should be rendered once", 1, paints[0]);
+      assertEquals("Wrong frame render count", 1, mode.getFrameRenderCount());
+      assertEquals("Frame wasn't scaled", Color.RED.getRGB(), canvas.getRGB(80, 70));
+
+      mode.invalidateFrame();
+      assertTrue("Scaled frame should be drawn", mode.drawScaledFrame(g2, 180, 160, 100, 100, painter));
+      assertEquals("Frame should be rendered after invalidation", 2, paints[0]);
+
+      mode.settle();
+      assertFalse("Board should not be resizing", mode.isResizing());
+      assertFalse("Board should be painted normally", mode.drawScaledFrame(g2, 180, 160, 100, 100, painter));
+    } finally {
+      g2.dispose();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.gui;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.print.PageFormat;
+import java.awt.print.Printable;
+import java.util.Arrays;
+
+import net.curre.prefcount.bean.GameResultBean;
+import net.curre.prefcount.bean.ScoreSnapshot;
+import net.curre.prefcount.gui.theme.PrintTheme;
+import net.curre.prefcount.gui.type.PrefType;
+import net.curre.prefcount.service.ResultService;
+import net.curre.prefcount.test.BaseTestCase;
+import net.curre.prefcount.test.GameFixtures;
+
+/**
+ * This is a junit test for testing <code>ScoreSheetPrinter</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class ScoreSheetPrinterTest extends BaseTestCase {
+
+  /** Tests the multi-page sheet printing of several games. */
+  public void testSheetPrinter() throws Exception {
+    GameResultBean rBean = GameFixtures.createFinishedSampleGame();
+    final ScoreSnapshot snapshot = ResultService.publishSnapshot(rBean);
+    final ScoreSnapshot template = new ScoreSnapshot(new GameResultBean(PrefType.SOCHI, 4));
+
+    final PageFormat format = new PageFormat();
+    ScoreSheetPrinter printer = new ScoreSheetPrinter(
+        Arrays.asList(snapshot, template, snapshot, snapshot, template), format, new PrintTheme(), 2, 2);
+    assertEquals("Wrong number of pages", 2, printer.getNumberOfPages());
+    assertSame("Wrong printable", printer, printer.getPrintable(1));
+    ScoreSheetPrinter.SheetLayout layout = printer.getLayout(format);
+    assertSame("Layout should be cached", layout, printer.getLayout(format));
+    assertEquals("Wrong number of boards on a sheet", 4, layout.boards.length);
+    for (Rectangle board : layout.boards) {
+      assertTrue("Board is out of the sheet", board.x >= 0 && board.x + board.width <= layout.width &&
+                 board.y + board.height + ScoreSheetPrinter.getScoreTableHeight(4) <= layout.height);
+      for (Rectangle other : layout.boards) {
+        assertTrue("Boards overlap", board == other || !board.intersects(other));
+      }
+    }
+
+    BufferedImage page = new BufferedImage((int) format.getWidth(), (int) format.getHeight(),
+                                           BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g2 = page.createGraphics();
+    try {
+      assertEquals("Page should exist", Printable.PAGE_EXISTS, printer.print(g2, format, 0));
+      assertEquals("Page should exist", Printable.PAGE_EXISTS, printer.print(g2, format, 1));
+      assertEquals("Page shouldn't exist", Printable.NO_SUCH_PAGE, printer.print(g2, format, 2));
+    } finally {
+      g2.dispose();
+    }
+    assertSame("Layout shouldn't be recomputed", layout, printer.getLayout(format));
+  }
+}
@@ -49,4 +49,24 @@ public class LafThemeTest extends BaseTestCase {
       assertNotNull(name + " skin's playerTotalsStroke is null", lafTheme.getPlayerTotalsStroke());
     }
   }
+
+  /** Tests the compiled render state of each theme. */
+  public void testRenderState() {
+    LafThemeService testLafService = new LafThemeService();
+    for (LafTheme lafTheme : testLafService.getSupportedThemes()) {
+      String name = lafTheme.getId().name();
+      RenderState state = lafTheme.getRenderState();
+      assertSame(name + " render state should be compiled once", state, lafTheme.getRenderState());
+      assertEquals(name + " wrong theme id", lafTheme.getId(), state.lafThemeId);
+      assertEquals(name + " wrong border color", lafTheme.getMainBackgroundColor().getRed() - 40,
+                   state.innerBorderColor.getRed());
+      assertSame(name + " wrong score font", lafTheme.getPlayerScoreFont(), state.playerScoreFont);
+      assertNotNull(name + " closed value stroke is null", state.closedValueStroke);
+      assertNotSame(name + " render state should be recompiled", state, lafTheme.compileRenderState());
+    }
+    assertSame("Current render state should be cached", testLafService.getCurrentRenderState(),
+               testLafService.getCurrentRenderState());
+    assertSame("Current theme should be cached", testLafService.getCurrentLafTheme(),
+               testLafService.getCurrentLafTheme());
+  }
 }
@@ -14,11 +14,17 @@
 
 package net.curre.prefcount.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import net.curre.prefcount.bean.GameResultBean;
 import net.curre.prefcount.bean.PlayerStatistics;
+import net.curre.prefcount.bean.ScoreMatrix;
 import net.curre.prefcount.gui.type.Place;
 import static net.curre.prefcount.gui.type.Place.EAST;
 import static net.curre.prefcount.gui.type.Place.NORTH;
@@ -60,18 +66,18 @@ public class ResultServiceTest extends BaseTestCase {
     // testing pool related functionality
     player.setPool(10);
     assertEquals("Wrong pool value", Integer.valueOf(10), player.getPool());
-    player.setPoolFromField(new JTextField("76"));
+    player.setPool(UiService.parseIntFromTextField(new JTextField("76")));
     assertEquals("Wrong pool value", Integer.valueOf(76), player.getPool());
 
     // testing mountain related functionality
     player.setMountain(74);
     assertEquals("Wrong mountain value", Integer.valueOf(74), player.getMountain());
-    player.setMountainFromField(null);
+    player.setMountain(UiService.parseIntFromTextField(null));
     assertEquals("Wrong mountain value", Integer.valueOf(0), player.getMountain());
     player.setMountain(74);
-    player.setMountainFromField(new JTextField(""));
+    player.setMountain(UiService.parseIntFromTextField(new JTextField("")));
     assertEquals("Wrong mountain value", Integer.valueOf(0), player.getMountain());
-    player.setMountainFromField(new JTextField("74"));
+    player.setMountain(UiService.parseIntFromTextField(new JTextField("74")));
     assertEquals("Wrong mountain value", Integer.valueOf(74), player.getMountain());
     assertEquals("Wrong max pool value", Integer.valueOf(0), rBean.getMaxPool());
     assertEquals("Wrong computed new mountain value for Leningradka", -78, player.getNewMountain());
@@ -79,10 +85,10 @@ public class ResultServiceTest extends BaseTestCase {
                  1370, player.getFinalMountainInWhists());
 
     // testing whists related functionality
-    player.setWhistsForPlayerFromField(SOUTH, new JTextField("72"));
+    player.setWhistsAgainstPlayer(SOUTH, UiService.parseIntFromTextField(new JTextField("72")));
     assertEquals("Wrong whists for player 1", Integer.valueOf(72), player.getWhistsAgainstPlayer(SOUTH));
     assertEquals("Wrong whists string for player 2", "", player.getWhistsStringForPlayer(WEST));
-    player.setWhistsForPlayerFromField(WEST, new JTextField("84"));
+    player.setWhistsAgainstPlayer(WEST, UiService.parseIntFromTextField(new JTextField("84")));
     assertEquals("Wrong whists string for player 2", "84.", player.getWhistsStringForPlayer(WEST));
 
     // remember that player's index is 0, so, his whists saldo is
@@ -395,6 +401,140 @@ public class ResultServiceTest extends BaseTestCase {
     checkFixValuesCleared(stats, 4);
   }
 
+  /**
+   * Tests that player statistics are views over the result bean score matrix.
+   */
+  public void testScoreMatrixViews() {
+    GameResultBean rBean = new GameResultBean();
+    rBean.setLeningradka(true);
+    rBean.setMountDivisibleByN(null);
+
+    // a player that is not added to the bean must not affect the bean
+    PlayerStatistics east = createPlayerStatHelper(rBean, 3, EAST, "dariya", 56, 22,
+                                                   Whist.n(SOUTH, "24"), Whist.n(WEST, "32"));
+    assertEquals("Wrong max pool value", Integer.valueOf(0), rBean.getMaxPool());
+
+    Map<Place, PlayerStatistics> stats = new HashMap<>();
+    stats.put(EAST, east);
+    stats.put(SOUTH, createPlayerStatHelper(rBean, 3, SOUTH, "kolya", 22, 22,
+                                            Whist.n(EAST, "100"), Whist.n(WEST, "32")));
+    stats.put(WEST, createPlayerStatHelper(rBean, 3, WEST, "fedya", 12, 34,
+                                           Whist.n(EAST, "72"), Whist.n(SOUTH, "56")));
+    rBean.setPlayerStats(stats);
+
+    // the entered data is now stored in the bean score matrix
+    ScoreMatrix matrix = rBean.getScoreMatrix();
+    assertEquals("Wrong number of players", 3, matrix.playersCount());
+    assertEquals("Wrong max pool value", Integer.valueOf(56), rBean.getMaxPool());
+    assertEquals("Wrong whists value", 24, matrix.getWhist(EAST.index, SOUTH.index));
+    east.setPool(58);
+    assertEquals("Wrong pool value", 58, matrix.getPool(EAST.index));
+    east.setPool(56);
+
+    ResultService.generateFinalResults(rBean);
+    assertEquals("Wrong whist saldo value", -76, matrix.getWhistSaldo(EAST.index, SOUTH.index));
+    assertEquals("Wrong whist saldo map size", 3, east.getWhistSaldoMap().size());
+    assertEquals("Wrong total whist saldo", Integer.valueOf(-116), east.getWhistSaldoMap().get(EAST));
+    assertFalse("Unexpected whist saldo against NORTH", east.getWhistSaldoMap().containsKey(NORTH));
+
+    ResultService.clearFinalResults(rBean);
+    assertTrue("Whist saldo map is not cleared", east.getWhistSaldoMap().isEmpty());
+  }
+
+  /**
+   * Tests caching and invalidation of the result bean derived values.
+   */
+  public void testDerivedValuesCache() {
+    GameResultBean rBean = new GameResultBean();
+    rBean.setLeningradka(true);
+    rBean.setMountDivisibleByN(null);
+    Map<Place, PlayerStatistics> stats = new HashMap<>();
+    stats.put(EAST, createPlayerStatHelper(rBean, 3, EAST, "dariya", 56, 22,
+                                           Whist.n(SOUTH, "24"), Whist.n(WEST, "32")));
+    stats.put(SOUTH, createPlayerStatHelper(rBean, 3, SOUTH, "kolya", 22, 22,
+                                            Whist.n(EAST, "100"), Whist.n(WEST, "32")));
+    stats.put(WEST, createPlayerStatHelper(rBean, 3, WEST, "fedya", 12, 34,
+                                           Whist.n(EAST, "72"), Whist.n(SOUTH, "56")));
+    rBean.setPlayerStats(stats);
+    ResultService.generateFinalResults(rBean);
+
+    // the first request recomputes the values, the next ones are served from the cache
+    PlayerStatistics east = stats.get(EAST);
+    assertEquals("Wrong computed final score value", 444, east.getFinalScoreInWhists());
+    rBean.resetCacheCounters();
+    assertEquals("Wrong computed final score value", 444, east.getFinalScoreInWhists());
+    assertEquals("Wrong computed new mountain value", 22, east.getNewMountain());
+    assertEquals("Wrong max pool value", Integer.valueOf(56), rBean.getMaxPool());
+    assertEquals("Unexpected cache misses", 0, rBean.getCacheMisses());
+    assertEquals("Wrong number of cache hits", 3, rBean.getCacheHits());
+    assertEquals("Wrong cache hit rate", 1.0, rBean.getCacheHitRate());
+
+    // changing an input invalidates the derived values
+    stats.get(SOUTH).setMountain(24);
+    assertEquals("Wrong computed new mountain value", 92, stats.get(SOUTH).getNewMountain());
+    assertEquals("Wrong number of cache misses", 1, rBean.getCacheMisses());
+    rBean.setLeningradka(false);
+    assertEquals("Wrong computed new mountain value", 58, stats.get(SOUTH).getNewMountain());
+    ResultService.generateFinalResults(rBean);
+    assertEquals("Wrong computed final score value", 190, east.getFinalScoreInWhists());
+  }
+
+  /**
+   * Tests the batch generateFinalResults() method.
+   *
+   * @throws Exception on error.
+   */
+  public void testGenerateFinalResultsBatch() throws Exception {
+    List<GameResultBean> games = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      GameResultBean rBean = new GameResultBean();
+      rBean.setLeningradka(i % 2 == 0);
+      rBean.setMountDivisibleByN(i % 3 == 0 ? EAST : null);
+      Map<Place, PlayerStatistics> stats = new HashMap<>();
+      stats.put(EAST, createPlayerStatHelper(rBean, 3, EAST, "Zhenya", 14, 38 + i % 5,
+                                             Whist.n(SOUTH, "148"), Whist.n(WEST, "10")));
+      stats.put(SOUTH, createPlayerStatHelper(rBean, 3, SOUTH, "Petya", 26, 41,
+                                              Whist.n(EAST, "28"), Whist.n(WEST, String.valueOf(i))));
+      stats.put(WEST, createPlayerStatHelper(rBean, 3, WEST, "Vitya", 10, 28,
+                                             Whist.n(SOUTH, "94"), Whist.n(EAST, "46")));
+      rBean.setPlayerStats(stats);
+      games.add(rBean);
+    }
+    // a game without players fails to score but doesn't fail the batch
+    GameResultBean emptyGame = new GameResultBean();
+    emptyGame.setPlayerStats(new HashMap<>());
+    emptyGame.setMountDivisibleByN(EAST);
+    games.add(emptyGame);
+
+    BatchScoringResult batch = ResultService.generateFinalResults(games, new ForkJoinPool(4));
+    assertEquals("Wrong number of games", 1001, batch.getGamesCount());
+    assertEquals("Wrong number of failures", 1, batch.getFailuresCount());
+    assertNotNull("Error is not recorded", batch.getResults().get(1000).getError());
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      BatchScoringResult other = ResultService.generateFinalResults(games.subList(0, 1000), executor);
+      assertEquals("Wrong number of failures", 0, other.getFailuresCount());
+      for (int i = 0; i < 1000; i++) {
+        GameResultBean rBean = games.get(i);
+        BatchScoringResult.GameResult result = other.getResults().get(i);
+        assertSame("Wrong game order", rBean, result.getBean());
+        assertEquals("Batch results differ", batch.getResults().get(i).getFinalScoreInWhists(SOUTH),
+                     result.getFinalScoreInWhists(SOUTH));
+        ResultService.generateFinalResults(rBean);
+        assertEquals("Wrong batch final score", rBean.getPlayerStats().get(WEST).getFinalScoreInWhists(),
+                     result.getFinalScoreInWhists(WEST));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // the chunks rejected by a shut down executor are scored on the calling thread
+    BatchScoringResult rejected = ResultService.generateFinalResults(games, executor);
+    assertEquals("Wrong number of games", 1001, rejected.getGamesCount());
+    assertEquals("Wrong number of failures", 1, rejected.getFailuresCount());
+  }
+
   /**
    * Checks the whist fixes for the given player.
    *
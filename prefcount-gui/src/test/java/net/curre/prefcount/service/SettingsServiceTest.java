@@ -17,6 +17,9 @@ package net.curre.prefcount.service;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.Settings;
@@ -54,6 +57,9 @@ public class SettingsServiceTest extends BaseTestCase {
   /** Value for the Divisible By. */
   private static final boolean SETTINGS_DIVISIBLE_BY = true;
 
+  /** Value for the Live Resize. */
+  private static final boolean SETTINGS_LIVE_RESIZE = false;
+
   /** Value for the Players Number. */
   private static final int SETTINGS_PLAYERS_NUMBER = 4;
 
@@ -101,7 +107,7 @@ public class SettingsServiceTest extends BaseTestCase {
     Settings settings = service.getSettings();
     checkSettings(settings, Settings.DEFAULT_MAIN_FRAME_WIDTH, Settings.DEFAULT_MAIN_FRAME_HEIGHT,
         DEFAULT_LAF_THEME_ID, PrefCountRegistry.DEFAULT_LOCALE_ID, Settings.DEFAULT_PREF_TYPE,
-        Settings.DEFAULT_PLAYERS_NUMBER, Settings.DEFAULT_DIVISIBLE_BY);
+        Settings.DEFAULT_PLAYERS_NUMBER, Settings.DEFAULT_DIVISIBLE_BY, Settings.DEFAULT_LIVE_RESIZE);
   }
 
   /**
@@ -114,7 +120,125 @@ public class SettingsServiceTest extends BaseTestCase {
     Settings settings = service.getSettings();
     checkSettings(settings, SETTINGS_MAIN_FRAME_WIDTH, SETTINGS_MAIN_FRAME_HEIGHT,
         DEFAULT_SETTINGS_LAF, SETTINGS_LOCALE_ID, SETTINGS_PREF_TYPE,
-        SETTINGS_PLAYERS_NUMBER, SETTINGS_DIVISIBLE_BY);
+        SETTINGS_PLAYERS_NUMBER, SETTINGS_DIVISIBLE_BY, SETTINGS_LIVE_RESIZE);
+  }
+
+  /**
+   * Tests that the settings are persisted in the current format and read back.
+   *
+   * @throws Exception on error.
+   */
+  public void testPersistCurrentFormat() throws Exception {
+    persistTestSettings(this.testSettingsFilePath);
+    SettingsService service = new SettingsService(this.testSettingsFilePath);
+    service.getSettings().setMainWindowWidth(700);
+    service.persistSettings();
+    assertTrue("Settings should be flushed", service.flush(SettingsService.FLUSH_TIMEOUT));
+
+    final String text = new String(Files.readAllBytes(Paths.get(this.testSettingsFilePath)), StandardCharsets.UTF_8);
+    assertTrue("Settings should be saved in the current format",
+               text.contains("\nversion=" + SettingsCodec.CURRENT_VERSION + "\n"));
+    Settings settings = new SettingsService(this.testSettingsFilePath).getSettings();
+    checkSettings(settings, 700, SETTINGS_MAIN_FRAME_HEIGHT,
+        DEFAULT_SETTINGS_LAF, SETTINGS_LOCALE_ID, SETTINGS_PREF_TYPE,
+        SETTINGS_PLAYERS_NUMBER, SETTINGS_DIVISIBLE_BY, SETTINGS_LIVE_RESIZE);
+  }
+
+  /** Tests that the settings changes are coalesced and written atomically in the background. */
+  public void testBackgroundPersistence() {
+    SettingsService service = new SettingsService(this.testSettingsFilePath);
+    final long writes = SettingsService.getWriteLatency().getCount();
+    assertTrue("Nothing to flush", service.flush(SettingsService.FLUSH_TIMEOUT));
+    for (int i = 0; i < 5; i++) {
+      service.getSettings().setMainWindowHeight(600 + i);
+      service.persistSettings();
+    }
+    assertEquals("Wrong number of requests", 5, service.getRequestCount());
+    assertTrue("Settings should be flushed", service.flush(SettingsService.FLUSH_TIMEOUT));
+    assertEquals("Changes should be coalesced into one write", 1, service.getWriteCount());
+    assertEquals("Wrong number of failures", 0, service.getFailureCount());
+    assertEquals("Write latency should be recorded", writes + 1, SettingsService.getWriteLatency().getCount());
+    assertFalse("Temp file should be gone", new File(this.testSettingsFilePath + ".tmp").exists());
+    assertEquals("Last change should be written", 604,
+                 new SettingsService(this.testSettingsFilePath).getSettings().getMainWindowHeight());
+  }
+
+  /**
+   * Tests that a failed settings write is retried without any new changes.
+   *
+   * @throws Exception on error.
+   */
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  public void testWriteRetry() throws Exception {
+    final File dir = new File(TEST_SETTINGS_PATH + "retry");
+    final File file = new File(dir, "testFile.ser");
+    file.delete();
+    dir.delete();
+    SettingsService service = new SettingsService(file.getAbsolutePath());
+    service.getSettings().setMainWindowHeight(610);
+    service.persistSettings();
+    final long deadline = System.currentTimeMillis() + SettingsService.FLUSH_TIMEOUT;
+    while (service.getFailureCount() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertTrue("Write should fail without the settings directory", service.getFailureCount() > 0);
+
+    assertTrue("Unable to create the settings directory", dir.mkdirs());
+    final long retryDeadline = System.currentTimeMillis() + 5000;
+    while (service.getWriteCount() == 0 && System.currentTimeMillis() < retryDeadline) {
+      Thread.sleep(50);
+    }
+    assertEquals("Failed write should be retried", 1, service.getWriteCount());
+    assertEquals("Retried settings should be written", 610,
+                 new SettingsService(file.getAbsolutePath()).getSettings().getMainWindowHeight());
+    file.delete();
+    dir.delete();
+  }
+
+  /**
+   * Tests decoding of the settings format (defaults, invalid values and versions).
+   *
+   * @throws Exception on error.
+   */
+  public void testSettingsCodec() throws Exception {
+    Settings settings = SettingsCodec.decode(toBytes(
+        "# comment\r\nversion=1\r\nmainWindowWidth=800\nlafThemeId=NIMBUS\nunknownKey=1\n" +
+        "mainWindowHeight=-5\nprefType=BOGUS\nnumberOfPlayers=7\nliveResize=false"));
+    checkSettings(settings, 800, Settings.DEFAULT_MAIN_FRAME_HEIGHT,
+        LafThemeId.NIMBUS, PrefCountRegistry.DEFAULT_LOCALE_ID, Settings.DEFAULT_PREF_TYPE,
+        Settings.DEFAULT_PLAYERS_NUMBER, Settings.DEFAULT_DIVISIBLE_BY, false);
+
+    // settings saved by a newer version are read as far as they are known
+    settings = SettingsCodec.decode(toBytes("version=99\nlocaleId=us\nnewSetting=x\n"));
+    assertEquals("Settings has a wrong Locale ID", "us", settings.getLocaleId());
+
+    for (String invalid : new String[] {"", "mainWindowWidth=800\nversion=1", "version=x", "version=0"}) {
+      try {
+        SettingsCodec.decode(toBytes(invalid));
+        fail("Invalid settings were decoded: " + invalid);
+      } catch (ServiceException e) {
+        // expected
+      }
+    }
+
+    // encoding round trip
+    Settings original = new Settings();
+    original.setPrefType(SETTINGS_PREF_TYPE);
+    original.setLiveResize(SETTINGS_LIVE_RESIZE);
+    settings = SettingsCodec.decode(SettingsCodec.encode(original));
+    checkSettings(settings, Settings.DEFAULT_MAIN_FRAME_WIDTH, Settings.DEFAULT_MAIN_FRAME_HEIGHT,
+        DEFAULT_LAF_THEME_ID, PrefCountRegistry.DEFAULT_LOCALE_ID, SETTINGS_PREF_TYPE,
+        Settings.DEFAULT_PLAYERS_NUMBER, Settings.DEFAULT_DIVISIBLE_BY, SETTINGS_LIVE_RESIZE);
+  }
+
+  /**
+   * Converts a string to UTF-8 bytes.
+   *
+   * @param text string to convert.
+   * @return the bytes.
+   */
+  private static byte[] toBytes(String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
   }
 
   /**
@@ -125,9 +249,11 @@ public class SettingsServiceTest extends BaseTestCase {
    * @param mainFrameHeight   Expected main frame height.
    * @param lafThemeId         Expected LAF skin ID.
    * @param localeId          Expected locale ID.
+   * @param liveResize        Expected live resize option.
    */
   private void checkSettings(Settings settings, int mainFrameWidth, int mainFrameHeight, LafThemeId lafThemeId,
-                             String localeId, PrefType prefType, int playersNumber, boolean divisibleBy) {
+                             String localeId, PrefType prefType, int playersNumber, boolean divisibleBy,
+                             boolean liveResize) {
     assertNotNull("Settings must not be null", settings);
     assertEquals("Settings has a wrong Main frame width", mainFrameWidth, settings.getMainWindowWidth());
     assertEquals("Settings has a wrong Main frame height", mainFrameHeight, settings.getMainWindowHeight());
@@ -136,6 +262,7 @@ public class SettingsServiceTest extends BaseTestCase {
     assertEquals("Settings has a wrong Pref Type", prefType, settings.getPrefType());
     assertEquals("Settings has a wrong Players Number", playersNumber, settings.getNumberOfPlayers());
 //    assertEquals("Settings has a wrong Divisible By", divisibleBy, settings.getDivisibleByN());
+    assertEquals("Settings has a wrong Live Resize", liveResize, settings.isLiveResize());
   }
 
   /**
@@ -151,6 +278,7 @@ public class SettingsServiceTest extends BaseTestCase {
     settings.setLafThemeId(DEFAULT_SETTINGS_LAF);
     settings.setMainWindowHeight(SETTINGS_MAIN_FRAME_HEIGHT);
     settings.setMainWindowWidth(SETTINGS_MAIN_FRAME_WIDTH);
+    settings.setLiveResize(SETTINGS_LIVE_RESIZE);
 
     try {
       File file = new File(settingsFilePath);
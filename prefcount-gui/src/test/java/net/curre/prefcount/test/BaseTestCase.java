@@ -19,6 +19,7 @@ import net.curre.prefcount.PrefCountRegistry;
 import net.curre.prefcount.bean.GameResultBean;
 import net.curre.prefcount.bean.PlayerStatistics;
 import net.curre.prefcount.gui.type.Place;
+import net.curre.prefcount.service.UiService;
 import net.curre.prefcount.util.LocaleExt;
 import org.apache.commons.lang3.StringUtils;
 
@@ -271,7 +272,7 @@ abstract public class BaseTestCase extends TestCase {
     player.setPool(pool);
     player.setMountain(mountain);
     for (Place other : Place.getOtherPlayersWhistPlaces(place, numberOfPlayers)) {
-      player.setWhistsForPlayerFromField(other, new JTextField(whists.get(other)));
+      player.setWhistsAgainstPlayer(other, UiService.parseIntFromTextField(new JTextField(whists.get(other))));
     }
 
     return player;
@@ -0,0 +1,65 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import net.curre.prefcount.test.BaseTestCase;
+
+/**
+ * This is a junit test for testing <code>TextRenderCache</code> class.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class TextRenderCacheTest extends BaseTestCase {
+
+  /** Tests the cached measurements, hit/miss metrics and the LRU eviction. */
+  public void testCache() {
+    TextRenderCache cache = new TextRenderCache(2);
+    Graphics2D g2 = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    try {
+      g2.setFont(new Font("SansSerif", Font.ITALIC, 16));
+      assertEquals("Wrong string width", g2.getFontMetrics().stringWidth("12."), cache.stringWidth(g2, "12."));
+      TextRenderCache.Entry entry = cache.get(g2, "12.");
+      assertEquals("Wrong string height", g2.getFontMetrics().getHeight(), entry.height);
+      assertEquals("Wrong number of glyphs", 3, entry.glyphs.getNumGlyphs());
+      assertSame("Entry should be cached", entry, cache.get(g2, "12."));
+      assertEquals("Wrong number of misses", 1, cache.getMisses());
+      assertEquals("Wrong number of hits", 2, cache.getHits());
+
+      // a different font is a different key
+      g2.setFont(new Font("SansSerif", Font.BOLD, 16));
+      assertNotSame("Font should be a part of the key", entry, cache.get(g2, "12."));
+      assertEquals("Wrong cache size", 2, cache.size());
+
+      // the least recently used string is evicted
+      cache.get(g2, "-34");
+      assertEquals("Cache should be bounded", 2, cache.size());
+      g2.setFont(new Font("SansSerif", Font.ITALIC, 16));
+      assertNotSame("Evicted entry was returned", entry, cache.get(g2, "12."));
+
+      cache.drawString(g2, "12.", 1f, 8f);
+      cache.clear();
+      assertEquals("Cache should be empty", 0, cache.size());
+      assertEquals("Metrics should be reset", 0, cache.getHits() + cache.getMisses());
+    } finally {
+      g2.dispose();
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.curre.prefcount.util;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.LinearGradientPaint;
+import java.awt.Rectangle;
+import java.awt.TexturePaint;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import net.curre.prefcount.test.BaseTestCase;
+
+/**
+ * This is a junit test for testing <code>PdfDocument</code>
+ * and <code>SvgDocument</code> classes.
+ * <p/>
+ * Created date: Oct 17, 2026
+ *
+ * @author Yevgeny Nyden
+ */
+public class VectorDocumentTest extends BaseTestCase {
+
+  /** Tests the PDF structure of a multi-page document. */
+  public void testPdf() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (PdfDocument document = new PdfDocument(out)) {
+      for (int i = 0; i < 3; i++) {
+        Graphics2D g2 = document.beginPage(200, 100);
+        drawSample(g2);
+        document.endPage();
+      }
+      assertEquals("Wrong number of pages", 3, document.getPageCount());
+    }
+    final String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+    assertTrue("Wrong header", pdf.startsWith("%PDF-1.4\n"));
+    assertTrue("Wrong trailer", pdf.endsWith("%%EOF\n"));
+    assertTrue("Wrong page count", pdf.contains("/Type /Pages /Count 3 "));
+    assertTrue("Alpha state is missing", pdf.contains("/ca 0.502"));
+    assertTrue("Stroke is missing", pdf.contains("2 w 1 J "));
+
+    // every object offset in the cross-reference table has to point to the object
+    final int xref = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+    assertTrue("Wrong xref offset", pdf.startsWith("xref\n0 ", xref));
+    final int objects = Integer.parseInt(pdf.substring(xref + 7, pdf.indexOf('\n', xref + 7)));
+    int entry = pdf.indexOf('\n', xref + 7) + 21;
+    for (int id = 1; id < objects; id++, entry += 20) {
+      final int offset = Integer.parseInt(pdf.substring(entry, entry + 10));
+      assertTrue("Wrong offset of object " + id, pdf.startsWith(id + " 0 obj\n", offset));
+    }
+  }
+
+  /** Tests the SVG output. */
+  public void testSvg() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (SvgDocument document = new SvgDocument(out)) {
+      drawSample(document.beginPage(200, 100));
+      document.endPage();
+      try {
+        document.beginPage(200, 100);
+        fail("SVG document can't have several pages");
+      } catch (IllegalStateException e) {
+        // expected
+      }
+    }
+    final String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue("Wrong root element", svg.contains("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200\""));
+    assertTrue("Rectangle is missing", svg.contains("<path d=\"M10 20 L60 20 L60 50 L10 50 L10 20 Z \" fill=\"#ff0000\""));
+    assertTrue("Alpha is missing", svg.contains("fill-opacity=\"0.502\""));
+    assertTrue("Stroke is missing", svg.contains("stroke=\"#0000ff\" stroke-width=\"2\" stroke-linecap=\"round\""));
+    assertTrue("Clip is missing", svg.contains("clip-path=\"url(#clip1)\""));
+    assertTrue("Wrong end", svg.endsWith("</svg>\n"));
+  }
+
+  /** Tests that the gradient and texture paints are drawn with their average color. */
+  public void testPaints() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (SvgDocument document = new SvgDocument(out)) {
+      Graphics2D g2 = document.beginPage(200, 100);
+      g2.setPaint(new LinearGradientPaint(0f, 0f, 100f, 0f, new float[]{0f, 1f},
+                                          new Color[]{Color.BLACK, new Color(0, 0, 254)}));
+      g2.fillRect(0, 0, 100, 100);
+      BufferedImage texture = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+      texture.setRGB(0, 0, Color.RED.getRGB());
+      texture.setRGB(1, 0, Color.WHITE.getRGB());
+      g2.setPaint(new TexturePaint(texture, new Rectangle(0, 0, 2, 1)));
+      g2.fillRect(100, 0, 100, 100);
+      assertTrue("Image is drawn", g2.drawImage(texture, 0, 0, null));
+      document.endPage();
+    }
+    final String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue("Gradient color is missing", svg.contains("fill=\"#00007f\""));
+    assertTrue("Texture color is missing", svg.contains("fill=\"#ff7f7f\""));
+  }
+
+  /** Tests the number formatting. */
+  public void testNumbers() throws Exception {
+    SvgDocument document = new SvgDocument(new ByteArrayOutputStream());
+    assertEquals("12", document.appendNumber(12d).toString());
+    document.buffer.setLength(0);
+    assertEquals("-0.05", document.appendNumber(-0.05d).toString());
+    document.buffer.setLength(0);
+    assertEquals("1.001", document.appendNumber(1.0006d).toString());
+    document.buffer.setLength(0);
+    assertEquals("0", document.appendNumber(1e-9d).toString());
+    document.buffer.setLength(0);
+    assertEquals("123456789.5", document.appendNumber(123456789.5d).toString());
+  }
+
+  /**
+   * Draws sample shapes and text.
+   *
+   * @param g2 graphics to draw on.
+   */
+  private static void drawSample(Graphics2D g2) {
+    g2.setColor(Color.RED);
+    g2.fillRect(10, 20, 50, 30);
+    g2.setColor(new Color(0, 255, 0, 128));
+    g2.fillOval(100, 10, 40, 40);
+    g2.setColor(Color.BLUE);
+    g2.setStroke(new BasicStroke(2f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+    g2.drawLine(0, 0, 200, 100);
+    g2.clipRect(0, 0, 100, 100);
+    g2.setFont(new Font("SansSerif", Font.PLAIN, 12));
+    g2.drawString("12.5", 20, 80);
+  }
+}